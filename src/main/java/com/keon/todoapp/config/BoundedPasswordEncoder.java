@@ -0,0 +1,195 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 해시/검증을 수행하는 패스워드 인코더
+ * 로그인이 몰려도 해시 작업은 풀 크기(보통 CPU 코어 수)만큼만 동시에 실행되고 나머지는 제한된 대기열에서 기다리므로,
+ * 요청 스레드가 모두 해시 계산에 묶여 일반 화면 요청이 밀리지 않습니다.
+ * 대기열이 가득 차거나 최대 대기 시간을 넘기면 기다리지 않고 {@link PasswordHashingBusyException}(503)으로 거절합니다.
+ * 저장된 해시의 cost가 현재 cost보다 낮으면 로그인 성공 시 새 cost로 다시 해시하도록 알립니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    /**
+     * BCrypt 해시 형식 ($2a$10$ + salt/해시 53자)에서 cost를 읽기 위한 패턴
+     */
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}\\z");
+
+    /**
+     * cost 보정에 사용하는 측정 횟수 (가장 빠른 값을 사용해 JIT 준비와 일시적 지연의 영향을 줄임)
+     */
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final Duration maxWait;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param strength BCrypt cost
+     * @param threads 동시에 해시를 계산할 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @param maxWait 호출한 요청 스레드가 결과를 기다리는 최대 시간
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration maxWait) {
+        this(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity, maxWait);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity, Duration maxWait) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.maxWait = maxWait;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 해시 한 번이 목표 시간 안에 끝나는 가장 큰 BCrypt cost를 구합니다.
+     * 최소 cost에서 측정한 시간을 기준으로 cost가 1 늘 때마다 시간이 두 배가 된다고 보고 계산합니다.
+     *
+     * @param targetLatency 해시 한 번의 목표 시간
+     * @param minCost 최소 cost (목표 시간을 넘더라도 이보다 낮추지 않음)
+     * @param maxCost 최대 cost
+     * @return 선택한 cost
+     */
+    public static int calibrateCost(Duration targetLatency, int minCost, int maxCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        int cost = minCost;
+        long estimated = fastest;
+        long target = targetLatency.toNanos();
+        while (cost < maxCost && estimated * 2 <= target) {
+            cost++;
+            estimated *= 2;
+        }
+        log.info("BCrypt cost 보정: cost={}, 예상 해시 시간={}ms (cost {} 측정값 {}ms, 목표 {}ms)",
+                cost, TimeUnit.NANOSECONDS.toMillis(estimated), minCost,
+                TimeUnit.NANOSECONDS.toMillis(fastest), targetLatency.toMillis());
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 cost보다 낮을 때만 다시 해시해야 합니다.
+     * 보정된 cost는 시작 시 부하에 따라 달라질 수 있으므로, 더 높은 cost의 해시를 낮추지는 않습니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword == null ? "" : encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    /**
+     * 현재 BCrypt cost를 반환합니다.
+     *
+     * @return cost
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 대기열에서 기다리는 해시 작업 수를 반환합니다.
+     *
+     * @return 대기 중인 작업 수
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 해시 스레드를 종료합니다.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시를 계산 중인 스레드 수")
+                .register(registry);
+        Gauge.builder("todo.password.hash.queued", this, BoundedPasswordEncoder::getQueueSize)
+                .description("해시 대기열에 있는 작업 수")
+                .register(registry);
+        FunctionCounter.builder("todo.password.hash.rejections", rejections, LongAdder::sum)
+                .description("대기열이 가득 차거나 대기 시간을 넘겨 거절한 해시 요청 수")
+                .register(registry);
+        Gauge.builder("todo.password.bcrypt.cost", this, BoundedPasswordEncoder::getStrength)
+                .description("현재 BCrypt cost")
+                .register(registry);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리에 실패했습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.keon.todoapp.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 파라미터에 현재 인증된 사용자({@link com.keon.todoapp.model.User})를 주입합니다.
+ * 인증 주체(principal)로 저장된 User를 그대로 사용하므로 요청마다 사용자 테이블을 조회하지 않습니다.
+ *
+ * @see CurrentUserArgumentResolver
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
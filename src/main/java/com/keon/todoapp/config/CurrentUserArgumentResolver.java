@@ -0,0 +1,64 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link CurrentUser} 파라미터에 현재 사용자를 주입하는 ArgumentResolver
+ * 로그인 시 UserService가 반환한 User 엔티티가 인증 주체로 저장되므로, 그 ID를 그대로 재사용합니다.
+ * 인증 주체가 User 엔티티가 아니거나 ID가 없는 경우(오래된 세션 등)에만 사용자명으로 다시 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".USER";
+
+    private final UserService userService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Object cached = webRequest.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            throw new AuthenticationCredentialsNotFoundException("인증된 사용자가 없습니다.");
+        }
+
+        User currentUser;
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User && ((User) principal).getId() != null) {
+            currentUser = (User) principal;
+        } else {
+            // 인증 주체가 User 엔티티가 아닌 경우에만 데이터베이스 조회
+            currentUser = userService.findByUsername(authentication.getName());
+        }
+
+        webRequest.setAttribute(CURRENT_USER_ATTRIBUTE, currentUser, RequestAttributes.SCOPE_REQUEST);
+        return currentUser;
+    }
+}
@@ -0,0 +1,161 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.exception.LoginThrottledException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (사용자명, 클라이언트 IP)별, 사용자명별, 클라이언트 IP별 로그인 시도 제한
+ * 시도마다 세 토큰 버킷에서 토큰을 하나씩 사용하며, 어느 쪽이든 비어 있으면 사용자 조회와 비밀번호 검증 전에 거절합니다.
+ * 엄격한 제한은 (사용자명, IP) 버킷이 맡으므로, 다른 IP에서 같은 사용자명을 공격해도 피해자의 IP에서는 계속 로그인할 수 있습니다.
+ * 사용자명 버킷은 여러 IP에 나누어 시도하는 공격만 막도록 훨씬 느슨하게 두며, 한 IP의 시도는 (사용자명, IP) 버킷이 먼저 막으므로 이 버킷을 비우지 못합니다.
+ * 로그인에 성공하면 (사용자명, IP) 버킷을 되돌리고, 사용자명과 IP 버킷에는 이번 시도의 토큰만 돌려줍니다.
+ * 어느 버킷에서 거절된 시도는 앞서 사용한 토큰도 돌려주므로, 거절된 시도는 어떤 제한에도 포함되지 않습니다.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private final TokenBucketLimiter usernameAddresses;
+    private final TokenBucketLimiter usernames;
+    private final TokenBucketLimiter addresses;
+
+    private final LongAdder usernameAddressRejections = new LongAdder();
+    private final LongAdder usernameRejections = new LongAdder();
+    private final LongAdder addressRejections = new LongAdder();
+
+    @Autowired
+    public LoginThrottle(@Value("${todo.login-throttle.username-ip.capacity:10}") int usernameAddressCapacity,
+                         @Value("${todo.login-throttle.username-ip.refill-period:PT30S}") Duration usernameAddressRefillPeriod,
+                         @Value("${todo.login-throttle.username.capacity:100}") int usernameCapacity,
+                         @Value("${todo.login-throttle.username.refill-period:PT10S}") Duration usernameRefillPeriod,
+                         @Value("${todo.login-throttle.ip.capacity:30}") int addressCapacity,
+                         @Value("${todo.login-throttle.ip.refill-period:PT2S}") Duration addressRefillPeriod,
+                         @Value("${todo.login-throttle.max-entries:100000}") int maxEntries,
+                         @Value("${todo.login-throttle.stripes:16}") int stripes) {
+        this(new TokenBucketLimiter(usernameAddressCapacity, usernameAddressRefillPeriod, maxEntries, stripes),
+                new TokenBucketLimiter(usernameCapacity, usernameRefillPeriod, maxEntries, stripes),
+                new TokenBucketLimiter(addressCapacity, addressRefillPeriod, maxEntries, stripes));
+    }
+
+    LoginThrottle(TokenBucketLimiter usernameAddresses, TokenBucketLimiter usernames, TokenBucketLimiter addresses) {
+        this.usernameAddresses = usernameAddresses;
+        this.usernames = usernames;
+        this.addresses = addresses;
+    }
+
+    /**
+     * 로그인 시도 하나를 허용할지 확인합니다.
+     *
+     * @param authentication 인증 요청 (사용자명과 요청 정보)
+     * @throws LoginThrottledException IP, (사용자명, IP) 또는 사용자명의 시도가 제한을 넘은 경우
+     */
+    public void acquire(Authentication authentication) {
+        String address = remoteAddress(authentication);
+        String username = usernameKey(authentication);
+        String usernameAddress = usernameAddressKey(username, address);
+
+        if (address != null) {
+            long waitNanos = addresses.tryAcquire(address);
+            if (waitNanos > 0) {
+                addressRejections.increment();
+                throw new LoginThrottledException(toRetrySeconds(waitNanos));
+            }
+        }
+
+        long waitNanos = usernameAddresses.tryAcquire(usernameAddress);
+        if (waitNanos > 0) {
+            releaseAddress(address);
+            usernameAddressRejections.increment();
+            throw new LoginThrottledException(toRetrySeconds(waitNanos));
+        }
+
+        waitNanos = usernames.tryAcquire(username);
+        if (waitNanos > 0) {
+            usernameAddresses.release(usernameAddress);
+            releaseAddress(address);
+            usernameRejections.increment();
+            throw new LoginThrottledException(toRetrySeconds(waitNanos));
+        }
+    }
+
+    /**
+     * 로그인에 성공한 (사용자명, IP)의 시도 기록을 지우고, 이번 시도에 사용한 사용자명과 IP 토큰을 되돌립니다.
+     * 사용자명 버킷은 다른 IP의 공격 기록도 담고 있으므로 지우지 않습니다.
+     *
+     * @param authentication 인증 요청
+     */
+    public void reset(Authentication authentication) {
+        String address = remoteAddress(authentication);
+        String username = usernameKey(authentication);
+        usernameAddresses.reset(usernameAddressKey(username, address));
+        usernames.release(username);
+        releaseAddress(address);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.login.throttled", usernameAddressRejections, LongAdder::sum)
+                .tag("key", "username-ip")
+                .description("(사용자명, IP)별 제한으로 거절한 로그인 시도 수")
+                .register(registry);
+        FunctionCounter.builder("todo.login.throttled", usernameRejections, LongAdder::sum)
+                .tag("key", "username")
+                .description("사용자명별 제한으로 거절한 로그인 시도 수")
+                .register(registry);
+        FunctionCounter.builder("todo.login.throttled", addressRejections, LongAdder::sum)
+                .tag("key", "ip")
+                .description("IP별 제한으로 거절한 로그인 시도 수")
+                .register(registry);
+        Gauge.builder("todo.login.throttle.entries", usernameAddresses, TokenBucketLimiter::size)
+                .tag("key", "username-ip")
+                .description("시도 기록이 있는 (사용자명, IP) 수")
+                .register(registry);
+        Gauge.builder("todo.login.throttle.entries", usernames, TokenBucketLimiter::size)
+                .tag("key", "username")
+                .description("시도 기록이 있는 사용자명 수")
+                .register(registry);
+        Gauge.builder("todo.login.throttle.entries", addresses, TokenBucketLimiter::size)
+                .tag("key", "ip")
+                .description("시도 기록이 있는 IP 수")
+                .register(registry);
+    }
+
+    /**
+     * 대소문자만 바꾼 사용자명으로 제한을 피하지 못하도록 소문자로 통일합니다.
+     */
+    private static String usernameKey(Authentication authentication) {
+        String username = authentication.getName();
+        return username == null ? "" : username.toLowerCase(Locale.ROOT);
+    }
+
+    private static String usernameAddressKey(String username, String address) {
+        return address == null ? username : username + "|" + address;
+    }
+
+    private void releaseAddress(String address) {
+        if (address != null) {
+            addresses.release(address);
+        }
+    }
+
+    private static String remoteAddress(Authentication authentication) {
+        Object details = authentication.getDetails();
+        return details instanceof WebAuthenticationDetails ? ((WebAuthenticationDetails) details).getRemoteAddress() : null;
+    }
+
+    private static long toRetrySeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
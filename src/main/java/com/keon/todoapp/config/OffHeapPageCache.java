@@ -0,0 +1,308 @@
+package com.keon.todoapp.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * gzip으로 압축한 렌더링 결과 페이지를 힙 밖(direct buffer)에 보관하는 캐시
+ * 본문은 direct buffer에 두고 키와 헤더 같은 작은 정보만 힙에 두므로, 많은 사용자의 페이지를 보관해도 GC 부담이 늘지 않습니다.
+ * 힙 밖 메모리는 생성 시 예산만큼 고정 크기 블록으로 한 번에 확보하고, 페이지는 빈 블록들에 나누어 복사합니다.
+ * 미스마다 direct buffer를 새로 할당하지 않으며, 제거된 페이지의 블록은 GC를 기다리지 않고 바로 다시 사용됩니다.
+ * 빈 블록이 모자라면 가장 오래 사용되지 않은 페이지부터 제거합니다(LRU).
+ * 항목은 (사용자, 화면)마다 하나이며, 데이터 버전이나 날짜가 바뀐 페이지는 조회 시 미스로 처리되고 다음 저장 때 교체됩니다.
+ */
+public class OffHeapPageCache implements MeterBinder {
+
+    /**
+     * 블록 크기 (압축된 목록 화면 한 장은 보통 수 KB ~ 수십 KB)
+     */
+    static final int BLOCK_SIZE = 4 * 1024;
+
+    /**
+     * 한 번에 할당하는 direct buffer(슬랩)당 블록 수
+     */
+    private static final int BLOCKS_PER_SLAB = 256;
+
+    private static final String CACHE_NAME = "pages";
+
+    private final ByteBuffer[] slabs;
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    private final Map<String, Page> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxBytes 압축된 본문 전체의 최대 바이트 수 (블록 크기 단위로 내림해 미리 확보)
+     */
+    public OffHeapPageCache(long maxBytes) {
+        int blockCount = (int) Math.min(maxBytes / BLOCK_SIZE, Integer.MAX_VALUE);
+        this.slabs = new ByteBuffer[(blockCount + BLOCKS_PER_SLAB - 1) / BLOCKS_PER_SLAB];
+        for (int i = 0; i < slabs.length; i++) {
+            int blocks = Math.min(BLOCKS_PER_SLAB, blockCount - i * BLOCKS_PER_SLAB);
+            slabs[i] = ByteBuffer.allocateDirect(blocks * BLOCK_SIZE);
+        }
+        this.freeBlocks = new int[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            freeBlocks[i] = blockCount - 1 - i;
+        }
+        this.freeCount = blockCount;
+    }
+
+    /**
+     * 같은 데이터 버전과 날짜로 저장된 페이지를 조회합니다.
+     * 반환된 페이지는 사용이 끝나면 반드시 {@link Page#release()}를 호출해야 하며, 그 전까지는 제거되어도 블록이 재사용되지 않습니다.
+     *
+     * @param key 페이지 키 (사용자, 요청 URI)
+     * @param dataVersion 현재 데이터 버전
+     * @param today 오늘 날짜
+     * @return 저장된 페이지, 없거나 오래되었으면 null
+     */
+    public Page get(String key, long dataVersion, LocalDate today) {
+        synchronized (pages) {
+            Page page = pages.get(key);
+            if (page == null || page.dataVersion != dataVersion || !page.renderedOn.equals(today)) {
+                misses.increment();
+                return null;
+            }
+            page.readers++;
+            hits.increment();
+            return page;
+        }
+    }
+
+    /**
+     * 압축된 페이지를 저장합니다. 같은 키의 이전 페이지는 교체됩니다.
+     * 본문 하나가 예산보다 크거나, 읽는 중인 페이지 때문에 빈 블록을 확보하지 못하면 저장하지 않습니다.
+     *
+     * @param key 페이지 키
+     * @param dataVersion 렌더링 시점의 데이터 버전
+     * @param today 렌더링한 날짜
+     * @param headers 함께 돌려줄 응답 헤더 (Content-Type, ETag, Cache-Control)
+     * @param gzipped gzip으로 압축된 본문
+     */
+    public void put(String key, long dataVersion, LocalDate today, Map<String, String> headers, byte[] gzipped) {
+        int needed = (gzipped.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (needed > freeBlocks.length) {
+            return;
+        }
+
+        synchronized (pages) {
+            remove(pages.remove(key));
+            Iterator<Page> eldest = pages.values().iterator();
+            while (freeCount < needed && eldest.hasNext()) {
+                Page page = eldest.next();
+                eldest.remove();
+                remove(page);
+                evictions.increment();
+            }
+            if (freeCount < needed) {
+                return;
+            }
+
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = freeBlocks[--freeCount];
+                int offset = i * BLOCK_SIZE;
+                block(blocks[i]).put(gzipped, offset, Math.min(BLOCK_SIZE, gzipped.length - offset));
+            }
+            pages.put(key, new Page(dataVersion, today, Map.copyOf(headers), blocks, gzipped.length));
+            usedBytes += gzipped.length;
+        }
+    }
+
+    /**
+     * 현재 저장된 페이지 수를 반환합니다.
+     *
+     * @return 페이지 수
+     */
+    public int size() {
+        synchronized (pages) {
+            return pages.size();
+        }
+    }
+
+    /**
+     * 미리 확보한 힙 밖 메모리 중 저장된 페이지(압축된 본문)가 차지하는 바이트 수를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public long usedBytes() {
+        synchronized (pages) {
+            return usedBytes;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("캐시된 페이지로 응답한 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("페이지를 새로 렌더링한 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .description("빈 블록이 모자라 제거된 페이지 수")
+                .register(registry);
+        Gauge.builder("cache.size", this, OffHeapPageCache::size)
+                .tag("cache", CACHE_NAME)
+                .description("캐시된 페이지 수")
+                .register(registry);
+        Gauge.builder("cache.off-heap.bytes", this, OffHeapPageCache::usedBytes)
+                .tag("cache", CACHE_NAME)
+                .description("캐시된 페이지가 사용하는 힙 밖 메모리")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * 캐시에서 빠진 페이지를 정리합니다. 읽는 중이면 마지막 읽기가 끝날 때 블록을 돌려받습니다.
+     */
+    private void remove(Page page) {
+        if (page == null) {
+            return;
+        }
+        page.removed = true;
+        usedBytes -= page.length;
+        if (page.readers == 0) {
+            freeBlocks(page);
+        }
+    }
+
+    private void freeBlocks(Page page) {
+        for (int block : page.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    /**
+     * 블록 하나를 가리키는 버퍼를 반환합니다 (위치는 블록 시작, 한도는 블록 끝).
+     */
+    private ByteBuffer block(int index) {
+        ByteBuffer block = slabs[index / BLOCKS_PER_SLAB].duplicate();
+        int offset = (index % BLOCKS_PER_SLAB) * BLOCK_SIZE;
+        block.limit(offset + BLOCK_SIZE).position(offset);
+        return block;
+    }
+
+    /**
+     * 캐시된 페이지 (압축된 본문은 미리 확보한 힙 밖 블록들에 나누어 저장)
+     */
+    public final class Page {
+
+        private final long dataVersion;
+        private final LocalDate renderedOn;
+        private final Map<String, String> headers;
+        private final int[] blocks;
+        private final int length;
+
+        // 아래 두 필드는 pages 잠금 안에서만 읽고 씀
+        private int readers;
+        private boolean removed;
+
+        private Page(long dataVersion, LocalDate renderedOn, Map<String, String> headers, int[] blocks, int length) {
+            this.dataVersion = dataVersion;
+            this.renderedOn = renderedOn;
+            this.headers = headers;
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * 압축된 본문 크기를 반환합니다.
+         *
+         * @return 바이트 수
+         */
+        public int size() {
+            return length;
+        }
+
+        /**
+         * 페이지 사용을 마칩니다. 그 사이 캐시에서 제거되었다면 블록을 재사용할 수 있게 돌려줍니다.
+         */
+        public void release() {
+            synchronized (pages) {
+                if (--readers == 0 && removed) {
+                    freeBlocks(this);
+                }
+            }
+        }
+
+        /**
+         * 압축된 본문을 그대로 출력합니다. 여러 요청이 동시에 읽을 수 있습니다.
+         *
+         * @param out 출력 스트림
+         * @throws IOException 출력에 실패한 경우
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            byte[] chunk = new byte[Math.min(length, BLOCK_SIZE)];
+            for (int i = 0; i < blocks.length; i++) {
+                int count = Math.min(BLOCK_SIZE, length - i * BLOCK_SIZE);
+                block(blocks[i]).get(chunk, 0, count);
+                out.write(chunk, 0, count);
+            }
+        }
+
+        /**
+         * 압축된 본문을 읽는 스트림을 반환합니다.
+         *
+         * @return 입력 스트림
+         */
+        public InputStream openStream() {
+            return new InputStream() {
+                private int position;
+
+                @Override
+                public int read() {
+                    if (position >= length) {
+                        return -1;
+                    }
+                    ByteBuffer block = block(blocks[position / BLOCK_SIZE]);
+                    int value = block.get(block.position() + position % BLOCK_SIZE) & 0xff;
+                    position++;
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int count) {
+                    if (count == 0) {
+                        return 0;
+                    }
+                    if (position >= length) {
+                        return -1;
+                    }
+                    int inBlock = position % BLOCK_SIZE;
+                    int read = Math.min(count, Math.min(BLOCK_SIZE - inBlock, length - position));
+                    ByteBuffer block = block(blocks[position / BLOCK_SIZE]);
+                    block.position(block.position() + inBlock);
+                    block.get(buffer, offset, read);
+                    position += read;
+                    return read;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.service.TodoCounterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * 인증 화면 전체 페이지 캐시 설정 클래스
+ * 압축된 페이지 저장소(바이트 예산만큼 미리 확보한 힙 밖 메모리)와 캐시 필터를 등록합니다.
+ * 필터는 인증 정보가 준비된 뒤에 실행되도록 Spring Security 필터 체인보다 뒤에 둡니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.page-cache.enabled", matchIfMissing = true)
+public class PageCacheConfig {
+
+    @Bean
+    public OffHeapPageCache offHeapPageCache(@Value("${todo.page-cache.max-bytes:64MB}") DataSize maxBytes) {
+        return new OffHeapPageCache(maxBytes.toBytes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<PageCacheFilter> pageCacheFilter(
+            OffHeapPageCache offHeapPageCache,
+            TodoCounterService todoCounterService,
+            @Value("${todo.page-cache.paths:/user/todos,/user/dashboard,/user/profile}") List<String> paths) {
+        FilterRegistrationBean<PageCacheFilter> registration =
+                new FilterRegistrationBean<>(new PageCacheFilter(offHeapPageCache, todoCounterService, paths));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
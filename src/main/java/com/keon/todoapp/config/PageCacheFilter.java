@@ -0,0 +1,192 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoCounterService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 인증 화면 전체 페이지 캐시 필터
+ * 지정한 화면의 GET 응답(HTML)을 gzip으로 압축해 {@link OffHeapPageCache}에 저장하고,
+ * 같은 사용자·URI 요청이 같은 데이터 버전과 날짜로 다시 오면 컨트롤러와 템플릿을 거치지 않고 저장된 바이트로 응답합니다.
+ * 클라이언트가 gzip을 받으면 압축된 바이트를 그대로 보내고, 그렇지 않으면 압축을 풀어 보냅니다.
+ * 두 본문은 바이트가 다르므로 gzip 본문에는 ETag 끝에 "-gzip"을 붙여 인코딩마다 다른 ETag를 보냅니다.
+ * CSRF 보호가 꺼져 있어 페이지에 세션별 값이 없으므로 키는 사용자 ID와 URI뿐이며, 플래시 메시지가 있는 요청(리다이렉트 직후)은 캐시하지 않습니다.
+ * Spring Security 필터 다음에 실행되어야 합니다.
+ */
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    /**
+     * 필터가 조회한 데이터 버전을 컨트롤러에서 다시 조회하지 않도록 전달하는 요청 속성
+     */
+    public static final String DATA_VERSION_ATTRIBUTE = PageCacheFilter.class.getName() + ".DATA_VERSION";
+
+    private static final String FLASH_MAPS_ATTRIBUTE = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+
+    private static final List<String> STORED_HEADERS =
+            List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL);
+
+    private final OffHeapPageCache cache;
+    private final TodoCounterService todoCounterService;
+    private final Set<String> paths;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    /**
+     * @param cache 페이지 저장소
+     * @param todoCounterService 사용자 데이터 버전 조회
+     * @param paths 캐시할 화면 경로 (컨텍스트 경로 제외, 정확히 일치)
+     */
+    public PageCacheFilter(OffHeapPageCache cache, TodoCounterService todoCounterService, Collection<String> paths) {
+        this.cache = cache;
+        this.todoCounterService = todoCounterService;
+        this.paths = Set.copyOf(paths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !paths.contains(urlPathHelper.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        User user = currentUser();
+        Long version = user == null || hasFlashMessages(request) ? null : todoCounterService.getDataVersion(user);
+        if (version == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(DATA_VERSION_ATTRIBUTE, version);
+
+        String key = key(request, user);
+        LocalDate today = LocalDate.now();
+        OffHeapPageCache.Page page = cache.get(key, version, today);
+        if (page != null) {
+            try {
+                writePage(page, request, response);
+            } finally {
+                page.release();
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (isCacheable(request, wrapper)) {
+                cache.put(key, version, today, storedHeaders(wrapper), gzip(wrapper.getContentAsByteArray()));
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writePage(OffHeapPageCache.Page page, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        page.getHeaders().forEach(response::setHeader);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptsGzip(request);
+        String etag = page.getHeaders().get(HttpHeaders.ETAG);
+        if (etag != null) {
+            etag = gzip ? gzipETag(etag) : etag;
+            response.setHeader(HttpHeaders.ETAG, etag);
+            if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+                return;
+            }
+        }
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(page.size());
+            page.writeTo(response.getOutputStream());
+            return;
+        }
+        try (InputStream in = new GZIPInputStream(page.openStream())) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    private boolean isCacheable(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        return !request.isAsyncStarted()
+                && response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.startsWith("text/html")
+                && response.getHeader(HttpHeaders.SET_COOKIE) == null
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+    }
+
+    private static Map<String, String> storedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            String value = name.equals(HttpHeaders.CONTENT_TYPE) ? response.getContentType() : response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private static String key(HttpServletRequest request, User user) {
+        String query = request.getQueryString();
+        return user.getId() + "|" + request.getRequestURI() + (query == null ? "" : "?" + query);
+    }
+
+    private static User currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = authentication == null ? null : authentication.getPrincipal();
+        return principal instanceof User ? (User) principal : null;
+    }
+
+    private static boolean hasFlashMessages(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object flashMaps = session == null ? null : session.getAttribute(FLASH_MAPS_ATTRIBUTE);
+        return flashMaps instanceof Collection && !((Collection<?>) flashMaps).isEmpty();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    /**
+     * gzip 본문용 ETag를 만듭니다. 따옴표 안 끝에 "-gzip"을 붙입니다 ("abc" → "abc-gzip", W/"abc" → W/"abc-gzip").
+     */
+    static String gzipETag(String etag) {
+        int end = etag.lastIndexOf('"');
+        return end > 0 ? etag.substring(0, end) + "-gzip\"" : etag + "-gzip";
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(content);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,34 @@
+package com.keon.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 패스워드 인코더 설정 클래스
+ * UserService와 SecurityConfig가 함께 사용하므로, 순환 참조가 생기지 않도록 SecurityConfig와 분리
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * BCrypt 패스워드 인코더 빈 등록
+     * 해시/검증은 CPU 코어 수만큼의 전용 스레드에서 실행하며,
+     * cost를 지정하지 않으면(0) 시작 시 현재 서버에서 목표 시간에 맞는 cost를 측정해 사용합니다.
+     *
+     * @return BoundedPasswordEncoder 인스턴스
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${todo.password.bcrypt.cost:0}") int cost,
+            @Value("${todo.password.bcrypt.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${todo.password.bcrypt.min-cost:10}") int minCost,
+            @Value("${todo.password.bcrypt.max-cost:14}") int maxCost,
+            @Value("${todo.password.queue-capacity:64}") int queueCapacity,
+            @Value("${todo.password.max-wait:PT5S}") Duration maxWait) {
+        int strength = cost > 0 ? cost : BoundedPasswordEncoder.calibrateCost(targetLatency, minCost, maxCost);
+        return new BoundedPasswordEncoder(strength, Runtime.getRuntime().availableProcessors(), queueCapacity, maxWait);
+    }
+}
@@ -0,0 +1,13 @@
+package com.keon.todoapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * Todo 카운터 보정과 같은 백그라운드 작업의 @Scheduled 실행을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,157 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시와 쿼리 캐시 설정 클래스
+ * 크기와 TTL이 제한된 로컬 JCache(Ehcache, 힙 저장)를 영역별로 직접 만들어 Hibernate에 넘기며,
+ * 정의하지 않은 영역은 무제한 캐시로 자동 생성되지 않도록 시작 시 실패시킵니다.
+ * 영역별 적중/미스/저장 횟수와 적중률은 Hibernate 통계에서 읽어 Micrometer 지표로 제공합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.hibernate-cache.enabled", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    /**
+     * 쿼리 결과가 최신인지 판단하는 테이블별 변경 시각 영역 - 만료되거나 밀려나면 오래된 쿼리 결과가 반환될 수 있으므로 만료 없음
+     */
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * 영역을 지정하지 않은 쿼리 캐시용 기본 영역 (사용하지 않지만 Hibernate가 항상 만듦)
+     */
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    /**
+     * 영역 이름마다 Hibernate 캐시를 따로 만들기 위한 CacheManager
+     * 같은 JVM에서 컨텍스트가 여러 번 뜨더라도(테스트) 캐시 이름이 충돌하지 않도록 매번 고유한 URI를 사용합니다.
+     * 쿼리 결과는 Todo ID만 저장하고 엔티티는 Todo 영역에서 읽으므로, Todo 영역은 쿼리 영역보다 크고 오래 유지해야 합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${todo.hibernate-cache.user.max-entries:10000}") long userMaxEntries,
+            @Value("${todo.hibernate-cache.user.ttl:PT10M}") Duration userTtl,
+            @Value("${todo.hibernate-cache.todo.max-entries:100000}") long todoMaxEntries,
+            @Value("${todo.hibernate-cache.todo.ttl:PT10M}") Duration todoTtl,
+            @Value("${todo.hibernate-cache.todo-queries.max-entries:10000}") long queryMaxEntries,
+            @Value("${todo.hibernate-cache.todo-queries.ttl:PT5M}") Duration queryTtl) {
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(User.CACHE_REGION, region(userMaxEntries, userTtl))
+                .withCache(Todo.CACHE_REGION, region(todoMaxEntries, todoTtl))
+                .withCache(TodoRepository.QUERY_CACHE_REGION, region(queryMaxEntries, queryTtl))
+                .withCache(DEFAULT_QUERY_REGION, region(100, queryTtl))
+                .withCache(TIMESTAMPS_REGION, CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class, Object.class, ResourcePoolsBuilder.heap(1000)).build())
+                .build();
+
+        return provider.getCacheManager(URI.create("urn:todoapp:hibernate-cache:" + UUID.randomUUID()), configuration);
+    }
+
+    /**
+     * Hibernate에 2차 캐시, 쿼리 캐시, 통계를 켜고 위의 CacheManager를 사용하게 합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /**
+     * 영역별 2차 캐시 지표
+     * cache.gets(result=hit|miss), cache.puts, cache.hit.ratio 를 cache=hibernate.{영역} 태그로 제공합니다.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            bind(registry, statistics, User.CACHE_REGION, false);
+            bind(registry, statistics, Todo.CACHE_REGION, false);
+            bind(registry, statistics, TodoRepository.QUERY_CACHE_REGION, true);
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> region(long maxEntries, Duration ttl) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl))
+                .build();
+    }
+
+    private static void bind(MeterRegistry registry, Statistics statistics, String region, boolean queryRegion) {
+        String cacheName = "hibernate." + region;
+        ToLongFunction<Statistics> hits =
+                stats -> regionStatistics(stats, region, queryRegion, CacheRegionStatistics::getHitCount);
+        ToLongFunction<Statistics> misses =
+                stats -> regionStatistics(stats, region, queryRegion, CacheRegionStatistics::getMissCount);
+        ToLongFunction<Statistics> puts =
+                stats -> regionStatistics(stats, region, queryRegion, CacheRegionStatistics::getPutCount);
+
+        FunctionCounter.builder("cache.gets", statistics, hits::applyAsLong)
+                .tag("cache", cacheName).tag("result", "hit")
+                .description("2차 캐시 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", statistics, misses::applyAsLong)
+                .tag("cache", cacheName).tag("result", "miss")
+                .description("2차 캐시 미스 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.puts", statistics, puts::applyAsLong)
+                .tag("cache", cacheName)
+                .description("2차 캐시 저장 횟수")
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", statistics, stats -> {
+                    long hitCount = hits.applyAsLong(stats);
+                    long total = hitCount + misses.applyAsLong(stats);
+                    return total == 0 ? 0.0 : (double) hitCount / total;
+                })
+                .tag("cache", cacheName)
+                .description("2차 캐시 적중률")
+                .register(registry);
+    }
+
+    private static long regionStatistics(Statistics statistics, String region, boolean queryRegion,
+                                         ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = queryRegion
+                ? statistics.getQueryRegionStatistics(region)
+                : statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+}
@@ -1,16 +1,39 @@
 package com.keon.todoapp.config;
 
+import com.keon.todoapp.exception.LoginThrottledException;
+import com.keon.todoapp.exception.PasswordHashingBusyException;
+import com.keon.todoapp.service.BoundedUserCache;
 import com.keon.todoapp.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.DelegatingAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.DelegatingAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
+import org.springframework.security.web.authentication.logout.SimpleUrlLogoutSuccessHandler;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
 
 /**
  * Spring Security 설정 클래스
@@ -18,24 +41,19 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  */
 @Configuration
 @EnableWebSecurity
+@Import(PasswordEncoderConfig.class)
 @RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final UserService userService;
-
-    /**
-     * BCrypt 패스워드 인코더 빈 등록
-     *
-     * @return BCryptPasswordEncoder 인스턴스
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    private final BoundedUserCache userCache;
+    private final PasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
 
     /**
      * DaoAuthenticationProvider 설정
-     * UserDetailsService와 PasswordEncoder를 연동
+     * UserDetailsService와 PasswordEncoder를 연동하고,
+     * 로그인 시 사용자 조회가 매번 데이터베이스에 닿지 않도록 UserCache를 연결
      *
      * @return DaoAuthenticationProvider 인스턴스
      */
@@ -43,10 +61,82 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserCache(userCache);
+        // 저장된 해시의 BCrypt cost가 현재 설정과 다르면 로그인 성공 시 새 cost로 다시 해시해 저장
+        authProvider.setUserDetailsPasswordService(userService);
         return authProvider;
     }
 
+    /**
+     * 인증되지 않은 요청의 처리 방식
+     * REST API 요청은 로그인 페이지로 리다이렉트하지 않고 401을 반환합니다.
+     *
+     * @return AuthenticationEntryPoint
+     */
+    private AuthenticationEntryPoint authenticationEntryPoint() {
+        LinkedHashMap<RequestMatcher, AuthenticationEntryPoint> entryPoints = new LinkedHashMap<>();
+        entryPoints.put(new AntPathRequestMatcher("/api/**"), new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
+
+        DelegatingAuthenticationEntryPoint entryPoint = new DelegatingAuthenticationEntryPoint(entryPoints);
+        entryPoint.setDefaultEntryPoint(new LoginUrlAuthenticationEntryPoint("/login"));
+        return entryPoint;
+    }
+
+    /**
+     * 로그아웃 성공 시 처리 방식
+     * HTTP Basic을 함께 사용하면 기본 처리기가 요청 종류에 따라 204를 반환하므로, 항상 홈으로 리다이렉트하도록 명시합니다.
+     *
+     * @return LogoutSuccessHandler
+     */
+    private LogoutSuccessHandler logoutSuccessHandler() {
+        SimpleUrlLogoutSuccessHandler handler = new SimpleUrlLogoutSuccessHandler();
+        handler.setDefaultTargetUrl("/");
+        return handler;
+    }
+
+    /**
+     * 로그인 실패 처리 방식
+     * 시도 제한을 넘은 경우 429, 비밀번호 해시 대기열이 가득 차 인증을 진행하지 못한 경우 503을 반환합니다.
+     *
+     * @return AuthenticationFailureHandler
+     */
+    private AuthenticationFailureHandler authenticationFailureHandler() {
+        AuthenticationFailureHandler rejection = (request, response, e) -> reject(response, e);
+        LinkedHashMap<Class<? extends AuthenticationException>, AuthenticationFailureHandler> handlers = new LinkedHashMap<>();
+        handlers.put(LoginThrottledException.class, rejection);
+        handlers.put(PasswordHashingBusyException.class, rejection);
+        return new DelegatingAuthenticationFailureHandler(handlers,
+                new SimpleUrlAuthenticationFailureHandler("/login?error=true"));
+    }
+
+    /**
+     * HTTP Basic 인증 실패 처리 방식 (시도 제한을 넘은 경우 429, 해시 대기열이 가득 찬 경우 503)
+     *
+     * @return AuthenticationEntryPoint
+     */
+    private AuthenticationEntryPoint basicAuthenticationEntryPoint() {
+        BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("Realm");
+        return (request, response, e) -> {
+            if (e instanceof LoginThrottledException || e instanceof PasswordHashingBusyException) {
+                reject(response, e);
+            } else {
+                basic.commence(request, response, e);
+            }
+        };
+    }
+
+    private static void reject(HttpServletResponse response, AuthenticationException e) throws IOException {
+        if (e instanceof LoginThrottledException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(((LoginThrottledException) e).getRetryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+        } else {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
     /**
      * AuthenticationManager 설정
      *
@@ -55,7 +145,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      */
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-        auth.authenticationProvider(authenticationProvider());
+        // 사용자명/IP별 시도 제한을 넘은 요청은 사용자 조회와 비밀번호 검증 전에 거절
+        auth.authenticationProvider(new ThrottledAuthenticationProvider(authenticationProvider(), loginThrottle));
+    }
+
+    /**
+     * 정적 리소스는 Security 필터 체인을 거치지 않도록 제외
+     * 인증 정보가 필요 없는 공개 파일이므로 세션/보안 컨텍스트 조회와 보안 헤더 처리를 생략합니다.
+     *
+     * @param web WebSecurity 객체
+     */
+    @Override
+    public void configure(WebSecurity web) {
+        web.ignoring().antMatchers("/css/**", "/js/**", "/images/**", "/webjars/**");
     }
 
     /**
@@ -72,10 +174,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .authorizeRequests()
                 // 공개 접근 허용 경로
                 .antMatchers("/", "/login", "/register", "/about").permitAll()
-                .antMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
                 .antMatchers("/h2-console/**").permitAll()
-                // 사용자 전용 경로는 인증 필요
-                .antMatchers("/user/**").authenticated()
+                // 사용자 전용 경로와 REST API는 인증 필요
+                .antMatchers("/user/**", "/api/**").authenticated()
                 // 나머지 모든 요청은 인증 필요
                 .anyRequest().authenticated()
             .and()
@@ -85,16 +186,26 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .loginPage("/login")
                 .loginProcessingUrl("/login")
                 .defaultSuccessUrl("/user/todos", true)
-                .failureUrl("/login?error=true")
+                .failureHandler(authenticationFailureHandler())
                 .usernameParameter("username")
                 .passwordParameter("password")
                 .permitAll()
             .and()
 
+            // REST API 클라이언트용 HTTP Basic 인증
+            .httpBasic()
+                .authenticationEntryPoint(basicAuthenticationEntryPoint())
+            .and()
+
+            // 인증 필요 시 REST API는 401, 그 외에는 로그인 페이지로 이동
+            .exceptionHandling()
+                .authenticationEntryPoint(authenticationEntryPoint())
+            .and()
+
             // 로그아웃 설정
             .logout()
                 .logoutUrl("/logout")
-                .logoutSuccessUrl("/")
+                .logoutSuccessHandler(logoutSuccessHandler())
                 .invalidateHttpSession(true)
                 .deleteCookies("JSESSIONID")
                 .permitAll()
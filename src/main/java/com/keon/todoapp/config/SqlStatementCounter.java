@@ -0,0 +1,45 @@
+package com.keon.todoapp.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hibernate가 준비하는 SQL 문 개수를 스레드별로 세는 StatementInspector
+ * 카운트는 계속 누적되므로, 구간의 시작과 끝에서 {@link #current()} 값을 읽어 차이로 개수를 구합니다.
+ * 카운트는 스레드에 묶여 있으므로 빈을 주입받지 않고 정적 메서드로 읽습니다.
+ * 요청 단위 집계는 {@link StatementBudgetInterceptor}가 담당합니다.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 다른 StatementInspector가 설정되어 있지 않으면 이 카운터를 등록합니다.
+     *
+     * @param hibernateProperties Hibernate 설정
+     */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 SQL 문 개수를 반환합니다.
+     *
+     * @return 누적 SQL 문 개수
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,25 @@
+package com.keon.todoapp.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 핸들러가 한 요청에서 실행할 수 있는 SQL 문 개수의 예산을 지정합니다.
+ * 클래스에 지정하면 해당 컨트롤러의 모든 핸들러에 적용되며, 메서드에 지정한 값이 우선합니다.
+ * 지정하지 않은 핸들러에는 todo.sql.statement-budget.default 값이 적용됩니다.
+ *
+ * @see StatementBudgetInterceptor
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StatementBudget {
+
+    /**
+     * 허용하는 최대 SQL 문 개수
+     */
+    int value();
+}
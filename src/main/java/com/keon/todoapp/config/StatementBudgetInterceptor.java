@@ -0,0 +1,71 @@
+package com.keon.todoapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 실행된 SQL 문 개수를 세고, 핸들러별 예산({@link StatementBudget})을 넘으면 경고 로그를 남깁니다.
+ * 뷰 렌더링 중의 지연 로딩까지 포함하도록 afterCompletion에서 집계합니다.
+ * 집계한 개수는 요청 속성({@link #STATEMENT_COUNT_ATTRIBUTE})으로도 남깁니다.
+ *
+ * @see WebConfig#addInterceptors
+ */
+@Slf4j
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".COUNT";
+
+    private static final String START_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".START";
+
+    private final int defaultBudget;
+
+    /**
+     * @param defaultBudget {@link StatementBudget}이 없는 핸들러에 적용할 예산
+     */
+    public StatementBudgetInterceptor(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, SqlStatementCounter.current());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long)) {
+            return;
+        }
+
+        long count = SqlStatementCounter.current() - (Long) start;
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, count);
+
+        int budget = resolveBudget((HandlerMethod) handler);
+        if (count > budget) {
+            log.warn("SQL 문 예산 초과: {} {} ({}) - {}개 실행, 예산 {}개",
+                    request.getMethod(), request.getRequestURI(),
+                    ((HandlerMethod) handler).getShortLogMessage(), count, budget);
+        } else {
+            log.debug("SQL 문 실행 개수: {} {} - {}개 (예산 {}개)",
+                    request.getMethod(), request.getRequestURI(), count, budget);
+        }
+    }
+
+    private int resolveBudget(HandlerMethod handlerMethod) {
+        StatementBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), StatementBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), StatementBudget.class);
+        }
+        return budget != null ? budget.value() : defaultBudget;
+    }
+}
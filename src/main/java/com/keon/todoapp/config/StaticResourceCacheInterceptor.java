@@ -0,0 +1,46 @@
+package com.keon.todoapp.config;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스 응답의 Cache-Control을 URL에 콘텐츠 해시가 있는지에 따라 지정합니다.
+ * 해시 URL(예: /js/app-{해시}.js)은 내용이 바뀌면 URL도 바뀌므로 1년 동안 재검증 없이 사용하게 하고,
+ * 해시가 없는 URL(예: /js/app.js)은 같은 URL로 내용이 바뀌므로 매번 재검증(no-cache)하게 합니다.
+ * 리소스 핸들러에는 Cache-Control을 지정하지 않아야 이 값이 덮어써지지 않습니다.
+ *
+ * @see WebConfig#addResourceHandlers
+ */
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+
+    /**
+     * 내용이 바뀌면 URL이 바뀌므로 1년 동안 재검증 없이 사용하도록 지정
+     * (Spring 5.3의 CacheControl에는 immutable 지시어가 없어 헤더 값을 직접 지정)
+     */
+    static final String IMMUTABLE = "max-age=31536000, public, immutable";
+
+    private static final String NO_CACHE = CacheControl.noCache().getHeaderValue();
+
+    /**
+     * ContentVersionStrategy가 파일 이름에 붙이는 MD5 해시 (예: style-{32자리 16진수}.css)
+     */
+    private static final Pattern CONTENT_HASH = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler) {
+            String path = urlPathHelper.getPathWithinApplication(request);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CONTENT_HASH.matcher(path).find() ? IMMUTABLE : NO_CACHE);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.keon.todoapp.config;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 로그인 시도 제한을 먼저 확인한 뒤 실제 인증을 위임하는 AuthenticationProvider
+ * 제한을 넘은 시도는 사용자 조회(데이터베이스)와 비밀번호 해시 검증에 도달하지 않습니다.
+ */
+public class ThrottledAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final LoginThrottle loginThrottle;
+
+    public ThrottledAuthenticationProvider(AuthenticationProvider delegate, LoginThrottle loginThrottle) {
+        this.delegate = delegate;
+        this.loginThrottle = loginThrottle;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        loginThrottle.acquire(authentication);
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null) {
+            loginThrottle.reset(authentication);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,173 @@
+package com.keon.todoapp.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 속도 제한기
+ * 버킷마다 "버킷이 다시 가득 차는 시각" 하나만 AtomicLong으로 저장하고(GCRA), 토큰 사용은 CAS 한 번으로 처리하므로 잠금이 없습니다.
+ * 키는 해시로 여러 맵(stripe)에 나누어 저장하며, 맵마다 최대 항목 수에 이르면 이미 가득 찬(만료된) 버킷을 제거해 메모리를 제한합니다.
+ * 가득 찬 버킷은 새 버킷과 같으므로 제거해도 제한 동작이 바뀌지 않습니다.
+ * 아직 채워지는 중인 버킷은 제거하지 않으며, 만료된 버킷이 없어 자리가 없으면 새 키를 거절합니다(fail closed).
+ * 새 키를 많이 만들어 기존 키의 제한을 지우는 방식으로는 제한을 피할 수 없습니다.
+ */
+public class TokenBucketLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxEntriesPerStripe;
+    private final List<ConcurrentHashMap<String, AtomicLong>> stripes;
+
+    /**
+     * 맵별로 마지막 정리 때 계산한 "가장 먼저 만료되는 버킷의 시각" (그 전에는 다시 훑어도 제거할 버킷이 없음)
+     */
+    private final AtomicLongArray nextExpiry;
+    private final LongSupplier clock;
+
+    /**
+     * @param capacity 버킷 크기 (연속으로 허용하는 최대 횟수)
+     * @param refillPeriod 토큰 하나가 다시 채워지는 시간
+     * @param maxEntries 저장할 최대 키 수
+     * @param stripeCount 키를 나누어 저장할 맵 수
+     */
+    public TokenBucketLimiter(int capacity, Duration refillPeriod, int maxEntries, int stripeCount) {
+        this(capacity, refillPeriod, maxEntries, stripeCount, System::nanoTime);
+    }
+
+    TokenBucketLimiter(int capacity, Duration refillPeriod, int maxEntries, int stripeCount, LongSupplier clock) {
+        if (capacity < 1 || refillPeriod.isZero() || refillPeriod.isNegative() || stripeCount < 1) {
+            throw new IllegalArgumentException("토큰 버킷 설정이 올바르지 않습니다.");
+        }
+        this.intervalNanos = refillPeriod.toNanos();
+        this.burstNanos = intervalNanos * capacity;
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripeCount);
+        List<ConcurrentHashMap<String, AtomicLong>> maps = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            maps.add(new ConcurrentHashMap<>());
+        }
+        this.stripes = List.copyOf(maps);
+        this.clock = clock;
+        this.nextExpiry = new AtomicLongArray(stripeCount);
+        long now = clock.getAsLong();
+        for (int i = 0; i < stripeCount; i++) {
+            nextExpiry.set(i, now);
+        }
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 사용합니다.
+     * 거절된 시도는 토큰을 사용하지 않으므로, 계속 시도해도 대기 시간이 늘어나지 않습니다.
+     * 처음 보는 키인데 저장할 자리가 없으면 만료된 버킷이 생길 때까지 거절합니다.
+     *
+     * @param key 제한 대상 키
+     * @return 허용되면 0, 거절되면 다음 토큰(또는 빈 자리)까지 남은 시간(나노초)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        int index = stripeIndex(key);
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes.get(index);
+        AtomicLong fullAt = stripe.get(key);
+        if (fullAt == null) {
+            if (stripe.size() >= maxEntriesPerStripe) {
+                long waitNanos = evictExpired(index, now);
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+            }
+            fullAt = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 키의 버킷에서 사용한 토큰 하나를 되돌립니다. 버킷이 이미 가득 차 있으면 아무것도 하지 않습니다.
+     *
+     * @param key 제한 대상 키
+     */
+    public void release(String key) {
+        AtomicLong fullAt = stripe(key).get(key);
+        if (fullAt == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            if (current - now <= 0 || fullAt.compareAndSet(current, current - intervalNanos)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 키의 버킷을 가득 찬 상태로 되돌립니다.
+     *
+     * @param key 제한 대상 키
+     */
+    public void reset(String key) {
+        stripe(key).remove(key);
+    }
+
+    /**
+     * 현재 저장된 키 수를 반환합니다.
+     *
+     * @return 키 수
+     */
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripe(String key) {
+        return stripes.get(stripeIndex(key));
+    }
+
+    private int stripeIndex(String key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.size());
+    }
+
+    /**
+     * 가득 찬(만료된) 버킷만 제거합니다. 채워지는 중인 버킷은 제한 상태를 잃지 않도록 남겨 둡니다.
+     * 그래도 자리가 없으면 가장 먼저 만료될 시각을 기록해 두고, 그때까지는 맵을 다시 훑지 않고 바로 거절합니다.
+     *
+     * @return 자리가 생겼으면 0, 없으면 가장 먼저 만료되는 버킷까지 남은 시간(나노초)
+     */
+    private long evictExpired(int index, long now) {
+        long earliest = nextExpiry.get(index);
+        if (earliest - now > 0) {
+            return earliest - now;
+        }
+
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes.get(index);
+        stripe.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+        if (stripe.size() < maxEntriesPerStripe) {
+            return 0;
+        }
+
+        long waitNanos = burstNanos;
+        for (AtomicLong fullAt : stripe.values()) {
+            waitNanos = Math.max(1, Math.min(waitNanos, fullAt.get() - now));
+        }
+        nextExpiry.set(index, now + waitNanos);
+        return waitNanos;
+    }
+}
@@ -0,0 +1,94 @@
+package com.keon.todoapp.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Spring MVC 설정 클래스
+ * 컨트롤러에서 사용하는 커스텀 ArgumentResolver와 인터셉터, 정적 리소스 핸들러 등을 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 콘텐츠 해시 URL로 제공하는 정적 리소스 디렉터리 (classpath:/static/ 아래)
+     */
+    private static final List<String> VERSIONED_RESOURCE_DIRECTORIES = List.of("css", "js");
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @Value("${todo.sql.statement-budget.enabled:false}")
+    private boolean statementBudgetEnabled;
+
+    @Value("${todo.sql.statement-budget.default:10}")
+    private int defaultStatementBudget;
+
+    /**
+     * {@link CurrentUser} 파라미터 처리를 위한 ArgumentResolver 등록
+     *
+     * @param resolvers ArgumentResolver 목록
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    /**
+     * 정적 리소스 Cache-Control 인터셉터와 요청별 SQL 문 예산 검사 인터셉터(todo.sql.statement-budget.enabled=true 인 경우) 등록
+     *
+     * @param registry 인터셉터 레지스트리
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StaticResourceCacheInterceptor())
+                .addPathPatterns(VERSIONED_RESOURCE_DIRECTORIES.stream()
+                        .map(directory -> "/" + directory + "/**")
+                        .collect(Collectors.toList()));
+        if (statementBudgetEnabled) {
+            registry.addInterceptor(new StatementBudgetInterceptor(defaultStatementBudget));
+        }
+    }
+
+    /**
+     * css/js 정적 리소스 핸들러 등록
+     * 파일 내용의 해시를 붙인 URL(예: /css/style-{해시}.css)로 제공하며, Cache-Control은 해시 유무에 따라
+     * {@link StaticResourceCacheInterceptor}가 지정합니다.
+     * 빌드 시 만든 사전 압축본(.br, .gz)이 있으면 Accept-Encoding에 맞춰 그대로 전송합니다.
+     * 해시 계산과 URL 변환 결과는 리소스 체인 캐시에 보관되어 요청마다 다시 계산하지 않습니다.
+     *
+     * @param registry 리소스 핸들러 레지스트리
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : VERSIONED_RESOURCE_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * 템플릿의 @{/css/...}, @{/js/...} 링크를 콘텐츠 해시 URL로 바꾸는 필터
+     *
+     * @return ResourceUrlEncodingFilter
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -1,5 +1,6 @@
 package com.keon.todoapp.controller;
 
+import com.keon.todoapp.exception.PasswordHashingBusyException;
 import com.keon.todoapp.model.User;
 import com.keon.todoapp.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -82,6 +83,9 @@ public class AppController {
 
             return "redirect:/login";
 
+        } catch (PasswordHashingBusyException e) {
+            // 해시 대기열이 가득 찬 경우 오류 메시지 대신 503으로 응답
+            throw e;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage",
                 "회원가입 중 오류가 발생했습니다: " + e.getMessage());
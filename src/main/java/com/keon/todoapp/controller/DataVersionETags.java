@@ -0,0 +1,77 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.PageCacheFilter;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 사용자 데이터 버전 기반 조건부 GET(ETag / If-None-Match) 처리
+ * 화면 이름, 요청 파라미터, 사용자 ID, 데이터 버전으로 강한 ETag를 만들고,
+ * 클라이언트의 ETag와 같으면 Todo 조회 없이 304로 응답하도록 합니다.
+ * 애플리케이션이 다시 시작되면 템플릿 변경에 대비해 모든 ETag가 바뀝니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionETags {
+
+    /**
+     * 응답을 저장하되 매번 서버에 재검증하도록 지정 (다른 사용자와 공유 캐시 금지)
+     */
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final String instanceStamp = Long.toString(System.currentTimeMillis(), 36);
+
+    private final TodoCounterService todoCounterService;
+
+    /**
+     * 요청의 If-None-Match와 현재 데이터 버전을 비교합니다.
+     * true를 반환하면 304 응답이 설정된 것이므로 핸들러는 바로 null을 반환해야 합니다.
+     * 플래시 메시지가 있는 요청(리다이렉트 직후)은 화면이 달라지므로 비교하지 않습니다.
+     *
+     * @param request 현재 요청
+     * @param user 현재 사용자
+     * @param view 화면 또는 API 이름
+     * @param params 응답 내용에 영향을 주는 요청 파라미터
+     * @return 변경되지 않았으면 true
+     */
+    public boolean checkNotModified(ServletWebRequest request, User user, String view, Object... params) {
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request.getRequest());
+        if (flash != null && !flash.isEmpty()) {
+            return false;
+        }
+
+        Long version = dataVersion(request, user);
+        if (version == null) {
+            return false;
+        }
+
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag(user, view, version, params));
+    }
+
+    /**
+     * 페이지 캐시 필터가 이미 조회한 데이터 버전이 있으면 다시 조회하지 않습니다.
+     */
+    private Long dataVersion(ServletWebRequest request, User user) {
+        Object version = request.getRequest().getAttribute(PageCacheFilter.DATA_VERSION_ATTRIBUTE);
+        return version instanceof Long ? (Long) version : todoCounterService.getDataVersion(user);
+    }
+
+    private String etag(User user, String view, long version, Object[] params) {
+        String key = view + '|' + Arrays.toString(params);
+        String viewHash = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+        return "\"" + user.getId() + "-" + version + "-" + viewHash + "-" + instanceStamp + "\"";
+    }
+}
@@ -0,0 +1,170 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.CurrentUser;
+import com.keon.todoapp.config.StatementBudget;
+import com.keon.todoapp.dto.TodoCursor;
+import com.keon.todoapp.dto.TodoPageResponse;
+import com.keon.todoapp.dto.TodoRequest;
+import com.keon.todoapp.dto.TodoResponse;
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoSearchService;
+import com.keon.todoapp.service.TodoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Todo REST API
+ * TodoService 기능을 JSON으로 제공하며, 엔티티 대신 DTO로 응답합니다.
+ * 인증은 세션 또는 HTTP Basic을 사용하고, 인증되지 않은 요청에는 로그인 페이지 대신 401을 반환합니다.
+ * 조회 API는 사용자 데이터 버전 기반 ETag를 발급하고, 변경이 없으면 304로 응답합니다.
+ */
+@RestController
+@RequestMapping("/api/todos")
+@RequiredArgsConstructor
+public class TodoApiController {
+
+    private final TodoService todoService;
+    private final TodoSearchService todoSearchService;
+    private final DataVersionETags dataVersionETags;
+
+    @Value("${todo.list.page-size:20}")
+    private int defaultPageSize;
+
+    /**
+     * Todo 목록 (keyset 페이지네이션)
+     */
+    @GetMapping
+    @StatementBudget(2)
+    public TodoPageResponse list(@RequestParam(value = "completed", required = false) Boolean completed,
+                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                 @RequestParam(value = "size", required = false) Integer size,
+                                 @CurrentUser User currentUser,
+                                 ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "api-list", completed, cursor, size)) {
+            return null;
+        }
+
+        int pageSize = size == null ? defaultPageSize : size;
+        return TodoPageResponse.from(
+                todoService.getTodoPage(currentUser, completed, TodoCursor.parse(cursor), pageSize));
+    }
+
+    /**
+     * 급한 순 미완료 Todo 목록 (우선순위 → 마감일 → 최신순)
+     */
+    @GetMapping("/urgent")
+    @StatementBudget(2)
+    public List<TodoResponse> urgent(@RequestParam(value = "size", required = false) Integer size,
+                                     @CurrentUser User currentUser,
+                                     ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "api-urgent", size)) {
+            return null;
+        }
+
+        int limit = size == null ? defaultPageSize : size;
+        return todoService.getUrgentTodos(currentUser, limit).stream()
+                .map(TodoResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Todo 검색 (제목/설명, 관련도 순)
+     */
+    @GetMapping("/search")
+    @StatementBudget(3)
+    public List<TodoResponse> search(@RequestParam("q") String query,
+                                     @RequestParam(value = "size", required = false) Integer size,
+                                     @CurrentUser User currentUser,
+                                     ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "api-search", query, size)) {
+            return null;
+        }
+
+        int limit = size == null ? defaultPageSize : size;
+        return todoSearchService.search(currentUser, query, limit).stream()
+                .map(TodoResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Todo 단건 조회
+     */
+    @GetMapping("/{id}")
+    @StatementBudget(3)
+    public TodoResponse get(@PathVariable Long id, @CurrentUser User currentUser, ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "api-get", id)) {
+            return null;
+        }
+
+        return TodoResponse.from(todoService.getTodoById(id, currentUser));
+    }
+
+    /**
+     * Todo 생성 (201 Created, Location 헤더 포함)
+     */
+    @PostMapping
+    @StatementBudget(4)
+    public ResponseEntity<TodoResponse> create(@RequestBody TodoRequest request, @CurrentUser User currentUser) {
+        Todo todo = todoService.createTodo(request.toTodo(), currentUser);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(todo.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(TodoResponse.from(todo));
+    }
+
+    /**
+     * Todo 수정
+     */
+    @PutMapping("/{id}")
+    @StatementBudget(3)
+    public TodoResponse update(@PathVariable Long id,
+                               @RequestBody TodoRequest request,
+                               @CurrentUser User currentUser) {
+        return TodoResponse.from(todoService.updateTodo(id, request.toTodo(), currentUser));
+    }
+
+    /**
+     * Todo 완료 상태 토글
+     */
+    @PostMapping("/{id}/toggle")
+    @StatementBudget(3)
+    public TodoResponse toggle(@PathVariable Long id, @CurrentUser User currentUser) {
+        return TodoResponse.from(todoService.toggleComplete(id, currentUser));
+    }
+
+    /**
+     * Todo 삭제 (204 No Content)
+     */
+    @DeleteMapping("/{id}")
+    @StatementBudget(3)
+    public ResponseEntity<Void> delete(@PathVariable Long id, @CurrentUser User currentUser) {
+        todoService.deleteTodo(id, currentUser);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Todo 통계 (detailed=true이면 카테고리별 개수 포함)
+     */
+    @GetMapping("/stats")
+    @StatementBudget(2)
+    public TodoStats stats(@RequestParam(value = "detailed", defaultValue = "false") boolean detailed,
+                           @CurrentUser User currentUser,
+                           ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "api-stats", detailed)) {
+            return null;
+        }
+
+        return detailed ? todoService.getDetailedStats(currentUser) : todoService.getStats(currentUser);
+    }
+}
@@ -0,0 +1,239 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.service.TodoLiveEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Todo 카드 HTML 렌더링 캐시
+ * 목록 템플릿은 카드마다 이 컴포넌트를 호출하며, (Todo ID, 수정 번호)가 같으면 이전에 렌더링한 HTML을 그대로 사용합니다.
+ * Todo가 바뀌면 수정 번호가 증가하므로 바뀐 카드만 다시 렌더링되고, 목록 렌더링 비용은 목록 크기가 아닌 변경 수에 비례합니다.
+ * 카드마다 HTML 길이가 다르므로 개수 대신 캐시된 HTML의 총 글자 수를 최근 사용 순서(LRU)로 제한하며,
+ * 적중/미스/제거 횟수를 Micrometer 지표로 제공합니다.
+ */
+@Component
+public class TodoCardRenderer implements MeterBinder {
+
+    /**
+     * 카드 한 장을 그리는 템플릿 조각
+     */
+    static final String CARD_VIEW = "user/todo-card :: card";
+
+    private static final String CACHE_NAME = "todo-cards";
+
+    private final ThymeleafViewResolver viewResolver;
+    private final long maxChars;
+    private final Map<Long, CachedCard> cards = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalChars;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TodoCardRenderer(ThymeleafViewResolver viewResolver,
+                            @Value("${todo.card-cache.max-chars:16000000}") long maxChars) {
+        this.viewResolver = viewResolver;
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Todo 카드 HTML을 반환합니다. 같은 수정 번호로 렌더링한 적이 있으면 캐시된 HTML을 사용합니다.
+     * 현재 요청을 처리하는 스레드(템플릿 렌더링 중)에서만 호출해야 합니다.
+     *
+     * @param todo Todo
+     * @return 카드 HTML
+     */
+    public String render(Todo todo) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+
+        CachedCard cached;
+        synchronized (cards) {
+            cached = cards.get(todo.getId());
+        }
+        if (cached != null && cached.revision == todo.getRevision()) {
+            hits.increment();
+            return cached.html;
+        }
+
+        misses.increment();
+        String html = renderCard(todo, request, attributes.getResponse());
+        synchronized (cards) {
+            put(todo.getId(), new CachedCard(todo.getRevision(), html));
+        }
+        return html;
+    }
+
+    /**
+     * 삭제된 Todo의 카드를 캐시에서 제거합니다.
+     * 수정된 Todo는 수정 번호가 달라 자연히 다시 렌더링되므로 따로 제거하지 않습니다.
+     *
+     * @param event Todo 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoLiveEvent event) {
+        if (event.getType() != TodoLiveEvent.Type.DELETED) {
+            return;
+        }
+        synchronized (cards) {
+            event.getIds().forEach(this::remove);
+        }
+    }
+
+    /**
+     * 현재 캐시된 카드 수를 반환합니다.
+     *
+     * @return 카드 수
+     */
+    public int size() {
+        synchronized (cards) {
+            return cards.size();
+        }
+    }
+
+    /**
+     * 현재 캐시된 카드 HTML의 총 글자 수를 반환합니다.
+     *
+     * @return 총 글자 수
+     */
+    public long chars() {
+        synchronized (cards) {
+            return totalChars;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("캐시된 Todo 카드 HTML을 사용한 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Todo 카드를 새로 렌더링한 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .description("글자 수 제한으로 제거된 카드 수")
+                .register(registry);
+        Gauge.builder("cache.size", this, TodoCardRenderer::size)
+                .tag("cache", CACHE_NAME)
+                .description("캐시된 카드 수")
+                .register(registry);
+        Gauge.builder("todo.card-cache.chars", this, TodoCardRenderer::chars)
+                .description("캐시된 카드 HTML의 총 글자 수")
+                .register(registry);
+    }
+
+    private void put(Long id, CachedCard card) {
+        remove(id);
+        if (card.html.length() > maxChars) {
+            return;
+        }
+        cards.put(id, card);
+        totalChars += card.html.length();
+
+        Iterator<CachedCard> eldest = cards.values().iterator();
+        while (totalChars > maxChars) {
+            totalChars -= eldest.next().html.length();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(Long id) {
+        CachedCard removed = cards.remove(id);
+        if (removed != null) {
+            totalChars -= removed.html.length();
+        }
+    }
+
+    private String renderCard(Todo todo, HttpServletRequest request, HttpServletResponse response) {
+        try {
+            View view = viewResolver.resolveViewName(CARD_VIEW, RequestContextUtils.getLocale(request));
+            if (view == null) {
+                throw new IllegalStateException("Todo 카드 템플릿을 찾을 수 없습니다: " + CARD_VIEW);
+            }
+            CapturingResponse capture = new CapturingResponse(response);
+            view.render(Map.of("todo", todo), request, capture);
+            return capture.getContent();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Todo 카드를 렌더링하지 못했습니다: " + todo.getId(), e);
+        }
+    }
+
+    /**
+     * 캐시된 카드 (수정 번호와 HTML)
+     */
+    private static final class CachedCard {
+
+        private final long revision;
+        private final String html;
+
+        private CachedCard(long revision, String html) {
+            this.revision = revision;
+            this.html = html;
+        }
+    }
+
+    /**
+     * 렌더링 결과를 실제 응답 대신 문자열로 받는 응답 래퍼
+     * 바깥 목록 페이지가 이미 쓰고 있는 응답의 헤더와 인코딩은 바꾸지 않습니다.
+     */
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final StringWriter content = new StringWriter();
+        private final PrintWriter writer = new PrintWriter(content);
+
+        private CapturingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+        }
+
+        private String getContent() {
+            writer.flush();
+            return content.toString();
+        }
+    }
+}
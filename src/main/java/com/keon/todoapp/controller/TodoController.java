@@ -1,14 +1,27 @@
 package com.keon.todoapp.controller;
 
+import com.keon.todoapp.config.CurrentUser;
+import com.keon.todoapp.config.StatementBudget;
+import com.keon.todoapp.dto.TodoCursor;
+import com.keon.todoapp.dto.TodoPage;
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.dto.TodoToggleResponse;
+import com.keon.todoapp.exception.TodoAccessDeniedException;
+import com.keon.todoapp.exception.TodoNotFoundException;
 import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
 import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoSearchService;
 import com.keon.todoapp.service.TodoService;
-import com.keon.todoapp.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -23,28 +36,81 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
-    private final UserService userService;
+    private final TodoSearchService todoSearchService;
+    private final DataVersionETags dataVersionETags;
+
+    @Value("${todo.list.page-size:20}")
+    private int pageSize;
 
     /**
      * Todo 목록 페이지
      */
     @GetMapping("/todos")
-    public String todoList(Authentication authentication, Model model) {
-        User currentUser = userService.findByUsername(authentication.getName());
-        List<Todo> todos = todoService.getTodosByUser(currentUser);
+    @StatementBudget(3)
+    public String todoList(@RequestParam(value = "cursor", required = false) String cursor,
+                           @CurrentUser User currentUser,
+                           Model model,
+                           ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "todos", cursor)) {
+            return null;
+        }
+
+        TodoPage page = todoService.getTodoPage(currentUser, null, parseCursor(cursor), pageSize);
 
         // 통계 정보
-        long completedCount = todoService.getCompletedCount(currentUser);
-        long pendingCount = todoService.getPendingCount(currentUser);
+        TodoStats stats = todoService.getStats(currentUser);
 
-        model.addAttribute("todos", todos);
-        model.addAttribute("completedCount", completedCount);
-        model.addAttribute("pendingCount", pendingCount);
-        model.addAttribute("totalCount", todos.size());
+        addPageAttributes(model, page, null);
+        model.addAttribute("completedCount", stats.getCompletedCount());
+        model.addAttribute("pendingCount", stats.getPendingCount());
+        model.addAttribute("totalCount", stats.getTotalCount());
 
         return "user/todos";
     }
 
+    /**
+     * Todo 목록의 다음 페이지 (무한 스크롤용 HTML 조각)
+     */
+    @GetMapping("/todos/items")
+    @StatementBudget(2)
+    public String todoItems(@RequestParam(value = "cursor", required = false) String cursor,
+                            @RequestParam(value = "filter", required = false) String filter,
+                            @CurrentUser User currentUser,
+                            Model model,
+                            ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "todo-items", cursor, filter)) {
+            return null;
+        }
+
+        Boolean completed = parseFilter(filter);
+        TodoPage page = todoService.getTodoPage(currentUser, completed, parseCursor(cursor), pageSize);
+
+        addPageAttributes(model, page, completed == null ? null : filter);
+
+        return "user/todo-items :: items";
+    }
+
+    /**
+     * 지정한 Todo 카드 (실시간 변경 이벤트를 받은 목록 화면이 바뀐 카드만 다시 그리기 위한 HTML 조각)
+     */
+    @GetMapping("/todos/cards")
+    @StatementBudget(1)
+    public String todoCards(@RequestParam(value = "ids", required = false) List<Long> ids,
+                            @CurrentUser User currentUser,
+                            Model model) {
+        List<Todo> todos;
+        try {
+            todos = todoService.getTodosByIds(ids, currentUser);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        model.addAttribute("todos", todos);
+        model.addAttribute("nextCursor", null);
+
+        return "user/todo-items :: items";
+    }
+
     /**
      * Todo 추가 폼 페이지
      */
@@ -58,11 +124,11 @@ public class TodoController {
      * Todo 추가 처리
      */
     @PostMapping("/todos")
+    @StatementBudget(4)
     public String createTodo(@ModelAttribute Todo todo,
-                            Authentication authentication,
+                            @CurrentUser User currentUser,
                             RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = userService.findByUsername(authentication.getName());
             todoService.createTodo(todo, currentUser);
             redirectAttributes.addFlashAttribute("successMessage", "Todo가 성공적으로 추가되었습니다.");
         } catch (Exception e) {
@@ -75,17 +141,17 @@ public class TodoController {
      * Todo 수정 폼 페이지
      */
     @GetMapping("/todos/{id}/edit")
+    @StatementBudget(2)
     public String editTodoForm(@PathVariable Long id,
-                              Authentication authentication,
+                              @CurrentUser User currentUser,
                               Model model,
                               RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = userService.findByUsername(authentication.getName());
             Todo todo = todoService.getTodoById(id, currentUser);
             model.addAttribute("todo", todo);
             return "user/edit-todo";
-        } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage", "Todo를 찾을 수 없습니다: " + e.getMessage());
+        } catch (TodoNotFoundException | TodoAccessDeniedException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
             return "redirect:/user/todos";
         }
     }
@@ -94,12 +160,12 @@ public class TodoController {
      * Todo 수정 처리
      */
     @PostMapping("/todos/{id}")
+    @StatementBudget(3)
     public String updateTodo(@PathVariable Long id,
                             @ModelAttribute Todo todo,
-                            Authentication authentication,
+                            @CurrentUser User currentUser,
                             RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = userService.findByUsername(authentication.getName());
             todoService.updateTodo(id, todo, currentUser);
             redirectAttributes.addFlashAttribute("successMessage", "Todo가 성공적으로 수정되었습니다.");
         } catch (Exception e) {
@@ -112,11 +178,11 @@ public class TodoController {
      * Todo 삭제 처리
      */
     @PostMapping("/todos/{id}/delete")
+    @StatementBudget(3)
     public String deleteTodo(@PathVariable Long id,
-                            Authentication authentication,
+                            @CurrentUser User currentUser,
                             RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = userService.findByUsername(authentication.getName());
             todoService.deleteTodo(id, currentUser);
             redirectAttributes.addFlashAttribute("successMessage", "Todo가 성공적으로 삭제되었습니다.");
         } catch (Exception e) {
@@ -129,11 +195,11 @@ public class TodoController {
      * Todo 완료 상태 토글
      */
     @PostMapping("/todos/{id}/toggle")
+    @StatementBudget(3)
     public String toggleComplete(@PathVariable Long id,
-                                Authentication authentication,
+                                @CurrentUser User currentUser,
                                 RedirectAttributes redirectAttributes) {
         try {
-            User currentUser = userService.findByUsername(authentication.getName());
             todoService.toggleComplete(id, currentUser);
             redirectAttributes.addFlashAttribute("successMessage", "Todo 상태가 변경되었습니다.");
         } catch (Exception e) {
@@ -142,16 +208,105 @@ public class TodoController {
         return "redirect:/user/todos";
     }
 
+    /**
+     * Todo 완료 상태 토글 (목록 화면의 비동기 요청용)
+     * 리다이렉트 후 목록 전체를 다시 그리는 대신 바뀐 상태와 개수만 JSON으로 반환합니다.
+     * X-Requested-With: XMLHttpRequest 요청에만 선택되며, 일반 폼 제출은 위의 리다이렉트 방식으로 처리됩니다.
+     */
+    @PostMapping(value = "/todos/{id}/toggle", headers = "X-Requested-With=XMLHttpRequest",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    @StatementBudget(4)
+    public TodoToggleResponse toggleCompleteAsync(@PathVariable Long id,
+                                                  @CurrentUser User currentUser) {
+        Todo todo = todoService.toggleComplete(id, currentUser);
+        return TodoToggleResponse.of(todo, todoService.getStats(currentUser));
+    }
+
+    /**
+     * 선택한 Todo 일괄 완료 처리
+     */
+    @PostMapping("/todos/bulk/complete")
+    @StatementBudget(3)
+    public String completeTodos(@RequestParam(value = "ids", required = false) List<Long> ids,
+                                @CurrentUser User currentUser,
+                                RedirectAttributes redirectAttributes) {
+        try {
+            int count = todoService.completeTodos(ids, currentUser);
+            redirectAttributes.addFlashAttribute("successMessage", count + "개의 Todo를 완료 처리했습니다.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "일괄 완료 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return "redirect:/user/todos";
+    }
+
+    /**
+     * 선택한 Todo 일괄 삭제
+     */
+    @PostMapping("/todos/bulk/delete")
+    @StatementBudget(3)
+    public String deleteTodos(@RequestParam(value = "ids", required = false) List<Long> ids,
+                              @CurrentUser User currentUser,
+                              RedirectAttributes redirectAttributes) {
+        try {
+            int count = todoService.deleteTodos(ids, currentUser);
+            redirectAttributes.addFlashAttribute("successMessage", count + "개의 Todo를 삭제했습니다.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "일괄 삭제 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return "redirect:/user/todos";
+    }
+
+    /**
+     * 선택한 Todo 일괄 우선순위 변경
+     */
+    @PostMapping("/todos/bulk/priority")
+    @StatementBudget(3)
+    public String updatePriority(@RequestParam(value = "ids", required = false) List<Long> ids,
+                                 @RequestParam("priority") String priority,
+                                 @CurrentUser User currentUser,
+                                 RedirectAttributes redirectAttributes) {
+        try {
+            int count = todoService.updatePriority(ids, TodoPriority.fromName(priority), currentUser);
+            redirectAttributes.addFlashAttribute("successMessage", count + "개 Todo의 우선순위를 변경했습니다.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "우선순위 변경 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return "redirect:/user/todos";
+    }
+
+    /**
+     * 완료된 Todo 모두 삭제
+     */
+    @PostMapping("/todos/clear-completed")
+    @StatementBudget(3)
+    public String clearCompleted(@CurrentUser User currentUser,
+                                 RedirectAttributes redirectAttributes) {
+        try {
+            int count = todoService.clearCompleted(currentUser);
+            redirectAttributes.addFlashAttribute("successMessage", "완료된 Todo " + count + "개를 삭제했습니다.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "완료된 Todo 삭제 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return "redirect:/user/todos";
+    }
+
     /**
      * 완료된 Todo만 보기
      */
     @GetMapping("/todos/completed")
-    public String completedTodos(Authentication authentication, Model model) {
-        User currentUser = userService.findByUsername(authentication.getName());
-        List<Todo> completedTodos = todoService.getTodosByUserAndCompleted(currentUser, true);
+    @StatementBudget(2)
+    public String completedTodos(@RequestParam(value = "cursor", required = false) String cursor,
+                                 @CurrentUser User currentUser,
+                                 Model model,
+                                 ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "todos-completed", cursor)) {
+            return null;
+        }
 
-        model.addAttribute("todos", completedTodos);
-        model.addAttribute("filterType", "completed");
+        TodoPage page = todoService.getTodoPage(currentUser, true, parseCursor(cursor), pageSize);
+
+        addPageAttributes(model, page, "completed");
         model.addAttribute("pageTitle", "완료된 Todo");
 
         return "user/todos";
@@ -161,14 +316,116 @@ public class TodoController {
      * 미완료 Todo만 보기
      */
     @GetMapping("/todos/pending")
-    public String pendingTodos(Authentication authentication, Model model) {
-        User currentUser = userService.findByUsername(authentication.getName());
-        List<Todo> pendingTodos = todoService.getTodosByUserAndCompleted(currentUser, false);
+    @StatementBudget(2)
+    public String pendingTodos(@RequestParam(value = "cursor", required = false) String cursor,
+                               @CurrentUser User currentUser,
+                               Model model,
+                               ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "todos-pending", cursor)) {
+            return null;
+        }
+
+        TodoPage page = todoService.getTodoPage(currentUser, false, parseCursor(cursor), pageSize);
 
-        model.addAttribute("todos", pendingTodos);
-        model.addAttribute("filterType", "pending");
+        addPageAttributes(model, page, "pending");
         model.addAttribute("pageTitle", "미완료 Todo");
 
         return "user/todos";
     }
+
+    /**
+     * 급한 순 Todo 보기 (미완료 Todo를 우선순위 → 마감일 → 최신순으로 정렬한 상위 목록)
+     */
+    @GetMapping("/todos/urgent")
+    @StatementBudget(2)
+    public String urgentTodos(@CurrentUser User currentUser,
+                              Model model,
+                              ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "todos-urgent")) {
+            return null;
+        }
+
+        model.addAttribute("todos", todoService.getUrgentTodos(currentUser, pageSize));
+        model.addAttribute("nextCursor", null);
+        model.addAttribute("filterType", "urgent");
+        model.addAttribute("listUrl", "/user/todos/urgent");
+        model.addAttribute("pageTitle", "급한 순 Todo");
+
+        return "user/todos";
+    }
+
+    /**
+     * Todo 검색 결과 (제목/설명, 관련도 순 상위 목록)
+     */
+    @GetMapping("/todos/search")
+    @StatementBudget(3)
+    public String searchTodos(@RequestParam(value = "q", required = false) String query,
+                              @CurrentUser User currentUser,
+                              Model model,
+                              ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "todos-search", query)) {
+            return null;
+        }
+
+        List<Todo> todos;
+        try {
+            todos = todoSearchService.search(currentUser, query, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        model.addAttribute("todos", todos);
+        model.addAttribute("nextCursor", null);
+        model.addAttribute("filterType", "search");
+        model.addAttribute("listUrl", "/user/todos/search");
+        model.addAttribute("query", query);
+        model.addAttribute("pageTitle", "검색 결과");
+
+        return "user/todos";
+    }
+
+    /**
+     * 목록 템플릿에서 사용하는 페이지 정보를 Model에 추가합니다.
+     *
+     * @param model Model 객체
+     * @param page 조회한 Todo 페이지
+     * @param filterType 필터 종류 (completed, pending 또는 null)
+     */
+    private void addPageAttributes(Model model, TodoPage page, String filterType) {
+        model.addAttribute("todos", page.getTodos());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("filterType", filterType);
+        model.addAttribute("listUrl", filterType == null ? "/user/todos" : "/user/todos/" + filterType);
+    }
+
+    /**
+     * 요청 파라미터의 커서를 해석합니다.
+     *
+     * @param cursor 커서 문자열
+     * @return 커서 (첫 페이지인 경우 null)
+     * @throws ResponseStatusException 커서 형식이 올바르지 않은 경우 (400)
+     */
+    private TodoCursor parseCursor(String cursor) {
+        try {
+            return TodoCursor.parse(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 무한 스크롤 요청의 필터 파라미터를 완료 상태로 변환합니다.
+     *
+     * @param filter 필터 종류 (completed, pending 또는 null)
+     * @return 완료 상태 (전체인 경우 null)
+     */
+    private Boolean parseFilter(String filter) {
+        if ("completed".equals(filter)) {
+            return true;
+        }
+        if ("pending".equals(filter)) {
+            return false;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,54 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.CurrentUser;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoExportService;
+import com.keon.todoapp.service.TodoFileFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Todo 내보내기 API
+ * 응답을 StreamingResponseBody로 작성하므로 전체 결과를 메모리에 만들지 않고 첫 행부터 바로 전송합니다.
+ */
+@RestController
+@RequestMapping("/user/todos")
+@RequiredArgsConstructor
+public class TodoExportController {
+
+    private final TodoExportService todoExportService;
+
+    /**
+     * 사용자의 모든 Todo 내보내기 (format: csv 또는 ndjson)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(value = "format", defaultValue = "csv") String format,
+                                                        @CurrentUser User currentUser) {
+        TodoFileFormat fileFormat = TodoFileFormat.fromName(format);
+        if (fileFormat == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다: " + format);
+        }
+
+        String filename = "todos-" + LocalDate.now() + "." + fileFormat.getExtension();
+        StreamingResponseBody body = out -> todoExportService.export(currentUser, fileFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(fileFormat.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,79 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.CurrentUser;
+import com.keon.todoapp.dto.TodoImportResult;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoFileFormat;
+import com.keon.todoapp.service.TodoImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Todo 대량 가져오기 API
+ * 요청 본문(text/csv, application/x-ndjson) 또는 업로드 파일(multipart)을 스트리밍으로 읽어 Todo를 생성합니다.
+ */
+@RestController
+@RequestMapping("/user/todos")
+@RequiredArgsConstructor
+public class TodoImportController {
+
+    private final TodoImportService todoImportService;
+
+    /**
+     * 요청 본문을 직접 스트리밍으로 가져오기
+     * 예: {@code curl -u user:pw -H 'Content-Type: text/csv' --data-binary @todos.csv /user/todos/import}
+     */
+    @PostMapping(value = "/import",
+            consumes = {"text/csv", "application/x-ndjson"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public TodoImportResult importBody(@CurrentUser User currentUser,
+                                       HttpServletRequest request) throws IOException {
+        TodoFileFormat format = TodoFileFormat.fromContentType(request.getContentType());
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+
+        try (Reader reader = new InputStreamReader(request.getInputStream(), charset)) {
+            return todoImportService.importTodos(reader, format, currentUser);
+        }
+    }
+
+    /**
+     * 업로드한 파일로 가져오기 (확장자 .csv, .ndjson, .jsonl)
+     */
+    @PostMapping(value = "/import",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public TodoImportResult importFile(@RequestParam("file") MultipartFile file,
+                                       @CurrentUser User currentUser) throws IOException {
+        TodoFileFormat format = TodoFileFormat.fromFilename(file.getOriginalFilename());
+        if (format == null) {
+            format = TodoFileFormat.fromContentType(file.getContentType());
+        }
+        if (format == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "지원하지 않는 파일 형식입니다: " + StringUtils.getFilenameExtension(file.getOriginalFilename()));
+        }
+
+        try (InputStream in = file.getInputStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return todoImportService.importTodos(reader, format, currentUser);
+        }
+    }
+}
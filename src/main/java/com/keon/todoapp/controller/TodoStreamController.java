@@ -0,0 +1,86 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.CurrentUser;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoEventBus;
+import com.keon.todoapp.service.TodoEventSink;
+import com.keon.todoapp.service.TodoLiveEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Todo 변경 실시간 스트림 (Server-Sent Events)
+ * 열려 있는 Todo 목록 화면이 전체 목록을 다시 불러오지 않고 변경된 카드만 반영할 수 있도록
+ * 사용자의 Todo 변경 이벤트(created, updated, toggled, deleted, cleared, resync)를 전송합니다.
+ * 인증 주체의 사용자 ID만 사용하고 데이터베이스를 조회하지 않으므로, 연결이 유지되는 동안 DB 커넥션을 점유하지 않습니다.
+ */
+@RestController
+@RequestMapping("/user/todos")
+@RequiredArgsConstructor
+public class TodoStreamController {
+
+    /**
+     * SSE 이벤트 이름
+     */
+    static final String EVENT_NAME = "todo";
+
+    private final TodoEventBus todoEventBus;
+
+    @Value("${todo.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${todo.stream.retry:PT5S}")
+    private Duration retry;
+
+    /**
+     * 현재 사용자의 Todo 변경 이벤트 구독
+     * 연결 시간이 제한되어 있으며, 끊어지면 브라우저(EventSource)가 retry 간격 후 자동으로 다시 연결합니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@CurrentUser User currentUser) throws IOException {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // 첫 메시지로 응답 헤더를 바로 보내고 재연결 간격을 알림
+        emitter.send(SseEmitter.event().reconnectTime(retry.toMillis()).comment("connected"));
+
+        TodoEventBus.Subscription subscription = todoEventBus.subscribe(currentUser.getId(), new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * SseEmitter로 이벤트를 전송하는 구독 대상
+     */
+    private static final class EmitterSink implements TodoEventSink {
+
+        private final SseEmitter emitter;
+
+        private EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(TodoLiveEvent event) throws IOException {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void sendHeartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("ping"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.keon.todoapp.controller;
 
+import com.keon.todoapp.config.CurrentUser;
+import com.keon.todoapp.config.StatementBudget;
+import com.keon.todoapp.dto.TodoStats;
 import com.keon.todoapp.model.User;
 import com.keon.todoapp.service.TodoService;
-import com.keon.todoapp.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * 사용자 관련 기능을 담당하는 컨트롤러
@@ -19,29 +21,28 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequiredArgsConstructor
 public class UserController {
 
-    private final UserService userService;
     private final TodoService todoService;
+    private final DataVersionETags dataVersionETags;
 
     /**
      * 사용자 프로필 페이지
      */
     @GetMapping("/profile")
-    public String profile(Authentication authentication, Model model) {
-        User currentUser = userService.findByUsername(authentication.getName());
+    @StatementBudget(2)
+    public String profile(@CurrentUser User currentUser, Model model, ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "profile")) {
+            return null;
+        }
 
-        // 사용자 통계 정보
-        long totalTodos = todoService.getTodosByUser(currentUser).size();
-        long completedCount = todoService.getCompletedCount(currentUser);
-        long pendingCount = todoService.getPendingCount(currentUser);
-
-        // 완료율 계산
-        double completionRate = totalTodos > 0 ? (double) completedCount / totalTodos * 100 : 0;
+        // 사용자 통계 정보 (사용자별 카운터 조회)
+        TodoStats stats = todoService.getStats(currentUser);
 
         model.addAttribute("user", currentUser);
-        model.addAttribute("totalTodos", totalTodos);
-        model.addAttribute("completedCount", completedCount);
-        model.addAttribute("pendingCount", pendingCount);
-        model.addAttribute("completionRate", Math.round(completionRate * 100.0) / 100.0);
+        model.addAttribute("stats", stats);
+        model.addAttribute("totalTodos", stats.getTotalCount());
+        model.addAttribute("completedCount", stats.getCompletedCount());
+        model.addAttribute("pendingCount", stats.getPendingCount());
+        model.addAttribute("completionRate", stats.getCompletionRate());
 
         return "user/profile";
     }
@@ -50,26 +51,23 @@ public class UserController {
      * 사용자 대시보드 (통계 정보)
      */
     @GetMapping("/dashboard")
-    public String dashboard(Authentication authentication, Model model) {
-        User currentUser = userService.findByUsername(authentication.getName());
-
-        // 상세 통계 정보
-        long totalTodos = todoService.getTodosByUser(currentUser).size();
-        long completedCount = todoService.getCompletedCount(currentUser);
-        long pendingCount = todoService.getPendingCount(currentUser);
+    @StatementBudget(2)
+    public String dashboard(@CurrentUser User currentUser, Model model, ServletWebRequest webRequest) {
+        if (dataVersionETags.checkNotModified(webRequest, currentUser, "dashboard")) {
+            return null;
+        }
 
-        // 우선순위별 통계
-        long highPriorityCount = todoService.getTodosByPriority(currentUser, "HIGH").size();
-        long mediumPriorityCount = todoService.getTodosByPriority(currentUser, "MEDIUM").size();
-        long lowPriorityCount = todoService.getTodosByPriority(currentUser, "LOW").size();
+        // 상세 통계 정보 (완료 상태 × 우선순위 × 카테고리 단일 집계 쿼리)
+        TodoStats stats = todoService.getDetailedStats(currentUser);
 
         model.addAttribute("user", currentUser);
-        model.addAttribute("totalTodos", totalTodos);
-        model.addAttribute("completedCount", completedCount);
-        model.addAttribute("pendingCount", pendingCount);
-        model.addAttribute("highPriorityCount", highPriorityCount);
-        model.addAttribute("mediumPriorityCount", mediumPriorityCount);
-        model.addAttribute("lowPriorityCount", lowPriorityCount);
+        model.addAttribute("stats", stats);
+        model.addAttribute("totalTodos", stats.getTotalCount());
+        model.addAttribute("completedCount", stats.getCompletedCount());
+        model.addAttribute("pendingCount", stats.getPendingCount());
+        model.addAttribute("highPriorityCount", stats.getHighPriorityCount());
+        model.addAttribute("mediumPriorityCount", stats.getMediumPriorityCount());
+        model.addAttribute("lowPriorityCount", stats.getLowPriorityCount());
 
         return "user/dashboard";
     }
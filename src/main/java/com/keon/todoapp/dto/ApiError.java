@@ -0,0 +1,14 @@
+package com.keon.todoapp.dto;
+
+import lombok.Value;
+
+/**
+ * REST API 오류 응답
+ */
+@Value
+public class ApiError {
+
+    int status;
+    String error;
+    String message;
+}
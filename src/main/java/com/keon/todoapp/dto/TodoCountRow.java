@@ -0,0 +1,24 @@
+package com.keon.todoapp.dto;
+
+import com.keon.todoapp.model.TodoPriority;
+import lombok.Value;
+
+/**
+ * (완료 상태, 우선순위, 카테고리) 조합별 Todo 개수 집계 결과 한 행
+ * TodoRepository의 그룹 집계 쿼리에서 생성자 표현식으로 직접 생성되며, 엔티티를 로딩하지 않습니다.
+ */
+@Value
+public class TodoCountRow {
+
+    boolean completed;
+    TodoPriority priority;
+    String category;
+    long count;
+
+    public TodoCountRow(Boolean completed, TodoPriority priority, String category, Long count) {
+        this.completed = Boolean.TRUE.equals(completed);
+        this.priority = priority;
+        this.category = category;
+        this.count = count == null ? 0L : count;
+    }
+}
@@ -0,0 +1,65 @@
+package com.keon.todoapp.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Todo 목록 keyset 페이지네이션 커서
+ * 마지막으로 조회한 Todo의 (생성일, ID) 위치를 표현하며, URL에는 "yyyy-MM-dd_id" 형태로 전달됩니다.
+ */
+@Value
+public class TodoCursor {
+
+    private static final char SEPARATOR = '_';
+
+    LocalDate createdDate;
+    Long id;
+
+    /**
+     * 주어진 Todo 위치를 가리키는 커서를 생성합니다.
+     *
+     * @param createdDate 마지막 Todo의 생성일
+     * @param id 마지막 Todo의 ID
+     * @return 커서
+     */
+    public static TodoCursor of(LocalDate createdDate, Long id) {
+        return new TodoCursor(createdDate, id);
+    }
+
+    /**
+     * URL로 전달된 커서 문자열을 해석합니다.
+     *
+     * @param value 커서 문자열 (비어 있으면 첫 페이지)
+     * @return 커서, 첫 페이지인 경우 null
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static TodoCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        int separatorIndex = value.lastIndexOf(SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == value.length() - 1) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+
+        try {
+            LocalDate createdDate = LocalDate.parse(value.substring(0, separatorIndex));
+            Long id = Long.valueOf(value.substring(separatorIndex + 1));
+            return new TodoCursor(createdDate, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value, e);
+        }
+    }
+
+    /**
+     * URL에 사용할 커서 문자열을 반환합니다.
+     *
+     * @return "yyyy-MM-dd_id" 형태의 문자열
+     */
+    public String encode() {
+        return createdDate.toString() + SEPARATOR + id;
+    }
+}
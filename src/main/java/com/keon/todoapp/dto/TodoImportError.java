@@ -0,0 +1,17 @@
+package com.keon.todoapp.dto;
+
+import lombok.Value;
+
+/**
+ * Todo 가져오기 중 발생한 행 단위 오류
+ */
+@Value
+public class TodoImportError {
+
+    /**
+     * 오류가 발생한 행 번호 (1부터 시작, CSV는 헤더 포함)
+     */
+    long line;
+
+    String message;
+}
@@ -0,0 +1,32 @@
+package com.keon.todoapp.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Todo 가져오기 결과
+ * 오류 목록은 최대 개수까지만 담고, 전체 실패 건수는 failedRows로 제공합니다.
+ */
+@Value
+public class TodoImportResult {
+
+    long totalRows;
+    long importedRows;
+    long failedRows;
+    List<TodoImportError> errors;
+    boolean errorsTruncated;
+    long elapsedMillis;
+
+    /**
+     * 초당 처리한 행 수를 반환합니다.
+     *
+     * @return 초당 처리 행 수 (소요 시간이 0이면 전체 행 수)
+     */
+    public double getRowsPerSecond() {
+        if (elapsedMillis <= 0) {
+            return totalRows;
+        }
+        return Math.round(totalRows * 1000.0 / elapsedMillis * 10) / 10.0;
+    }
+}
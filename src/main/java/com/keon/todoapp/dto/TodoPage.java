@@ -0,0 +1,44 @@
+package com.keon.todoapp.dto;
+
+import com.keon.todoapp.model.Todo;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * keyset 페이지네이션으로 조회한 Todo 목록의 한 페이지
+ * 다음 페이지가 있는 경우 다음 페이지를 조회할 커서를 함께 제공합니다.
+ */
+@Value
+public class TodoPage {
+
+    List<Todo> todos;
+    String nextCursor;
+
+    /**
+     * 요청한 크기보다 한 건 더 조회한 결과로 페이지를 구성합니다.
+     * 초과 조회된 한 건이 있으면 다음 페이지가 존재하는 것으로 판단합니다.
+     *
+     * @param rows 최대 size + 1건의 조회 결과 (정렬 순서 유지)
+     * @param size 페이지 크기
+     * @return Todo 페이지
+     */
+    public static TodoPage of(List<Todo> rows, int size) {
+        if (rows.size() <= size) {
+            return new TodoPage(rows, null);
+        }
+
+        List<Todo> todos = rows.subList(0, size);
+        Todo last = todos.get(size - 1);
+        return new TodoPage(todos, TodoCursor.of(last.getCreatedDate(), last.getId()).encode());
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 반환합니다.
+     *
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
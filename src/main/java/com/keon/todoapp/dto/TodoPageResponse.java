@@ -0,0 +1,30 @@
+package com.keon.todoapp.dto;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST API에서 반환하는 Todo 목록의 한 페이지
+ * nextCursor가 있으면 cursor 파라미터로 전달해 다음 페이지를 조회합니다.
+ */
+@Value
+public class TodoPageResponse {
+
+    List<TodoResponse> items;
+    String nextCursor;
+
+    /**
+     * Todo 페이지로부터 응답을 생성합니다.
+     *
+     * @param page Todo 페이지
+     * @return 목록 응답
+     */
+    public static TodoPageResponse from(TodoPage page) {
+        List<TodoResponse> items = page.getTodos().stream()
+                .map(TodoResponse::from)
+                .collect(Collectors.toList());
+        return new TodoPageResponse(items, page.getNextCursor());
+    }
+}
@@ -0,0 +1,44 @@
+package com.keon.todoapp.dto;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * REST API의 Todo 생성/수정 요청
+ */
+@Data
+public class TodoRequest {
+
+    private String title;
+    private String description;
+    private String category;
+    private String priority = "LOW";
+    private LocalDate dueDate;
+
+    /**
+     * 요청 값을 검증해 Todo 엔티티로 변환합니다.
+     *
+     * @return Todo 엔티티 (ID, 사용자, 생성일 미설정)
+     * @throws IllegalArgumentException 필수 값이 없거나 우선순위가 올바르지 않은 경우
+     */
+    public Todo toTodo() {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("제목은 필수입니다.");
+        }
+        if (category == null || category.isBlank()) {
+            throw new IllegalArgumentException("카테고리는 필수입니다.");
+        }
+        TodoPriority todoPriority = TodoPriority.fromName(priority);
+
+        Todo todo = new Todo();
+        todo.setTitle(title.trim());
+        todo.setDescription(description);
+        todo.setCategory(category.trim());
+        todo.setPriority(todoPriority);
+        todo.setDueDate(dueDate);
+        return todo;
+    }
+}
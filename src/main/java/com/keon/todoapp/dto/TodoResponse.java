@@ -0,0 +1,35 @@
+package com.keon.todoapp.dto;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * REST API에서 반환하는 Todo 정보
+ * 엔티티 대신 필요한 필드만 담아, 지연 로딩되는 사용자 연관관계가 직렬화되지 않도록 합니다.
+ */
+@Value
+public class TodoResponse {
+
+    Long id;
+    String title;
+    String description;
+    String category;
+    TodoPriority priority;
+    boolean completed;
+    LocalDate createdDate;
+    LocalDate dueDate;
+
+    /**
+     * 엔티티로부터 응답을 생성합니다.
+     *
+     * @param todo Todo 엔티티
+     * @return Todo 응답
+     */
+    public static TodoResponse from(Todo todo) {
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDescription(), todo.getCategory(),
+                todo.getPriority(), todo.isCompleted(), todo.getCreatedDate(), todo.getDueDate());
+    }
+}
@@ -0,0 +1,103 @@
+package com.keon.todoapp.dto;
+
+import com.keon.todoapp.model.TodoCounter;
+import com.keon.todoapp.model.TodoPriority;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 Todo 통계
+ * 전체/완료/미완료 개수와 우선순위별, 카테고리별 개수를 제공합니다.
+ */
+@Value
+public class TodoStats {
+
+    long totalCount;
+    long completedCount;
+    long pendingCount;
+    Map<TodoPriority, Long> priorityCounts;
+    Map<String, Long> categoryCounts;
+
+    /**
+     * 그룹 집계 결과로 통계를 구성합니다.
+     *
+     * @param rows (완료 상태, 우선순위, 카테고리)별 개수
+     * @return Todo 통계
+     */
+    public static TodoStats from(List<TodoCountRow> rows) {
+        long completedCount = 0;
+        long pendingCount = 0;
+        Map<TodoPriority, Long> priorityCounts = new EnumMap<>(TodoPriority.class);
+        Map<String, Long> categoryCounts = new LinkedHashMap<>();
+
+        for (TodoCountRow row : rows) {
+            if (row.isCompleted()) {
+                completedCount += row.getCount();
+            } else {
+                pendingCount += row.getCount();
+            }
+            priorityCounts.merge(row.getPriority(), row.getCount(), Long::sum);
+            categoryCounts.merge(row.getCategory(), row.getCount(), Long::sum);
+        }
+
+        return new TodoStats(completedCount + pendingCount, completedCount, pendingCount,
+                Collections.unmodifiableMap(priorityCounts), Collections.unmodifiableMap(categoryCounts));
+    }
+
+    /**
+     * 사용자별 카운터로 통계를 구성합니다.
+     * 카운터는 카테고리별 개수를 관리하지 않으므로 카테고리 통계는 비어 있습니다.
+     *
+     * @param counter 사용자별 Todo 카운터
+     * @return Todo 통계
+     */
+    public static TodoStats from(TodoCounter counter) {
+        Map<TodoPriority, Long> priorityCounts = new EnumMap<>(TodoPriority.class);
+        priorityCounts.put(TodoPriority.HIGH, counter.getHighPriorityCount());
+        priorityCounts.put(TodoPriority.MEDIUM, counter.getMediumPriorityCount());
+        priorityCounts.put(TodoPriority.LOW, counter.getLowPriorityCount());
+
+        return new TodoStats(counter.getTotalCount(), counter.getCompletedCount(), counter.getPendingCount(),
+                Collections.unmodifiableMap(priorityCounts), Collections.emptyMap());
+    }
+
+    /**
+     * 특정 우선순위의 Todo 개수를 반환합니다.
+     *
+     * @param priority 우선순위
+     * @return Todo 개수
+     */
+    public long getPriorityCount(TodoPriority priority) {
+        return priorityCounts.getOrDefault(priority, 0L);
+    }
+
+    public long getHighPriorityCount() {
+        return getPriorityCount(TodoPriority.HIGH);
+    }
+
+    public long getMediumPriorityCount() {
+        return getPriorityCount(TodoPriority.MEDIUM);
+    }
+
+    public long getLowPriorityCount() {
+        return getPriorityCount(TodoPriority.LOW);
+    }
+
+    /**
+     * 완료율을 소수점 둘째 자리까지 계산합니다.
+     *
+     * @return 완료율 (0 ~ 100)
+     */
+    public double getCompletionRate() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double completionRate = (double) completedCount / totalCount * 100;
+        return Math.round(completionRate * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.keon.todoapp.dto;
+
+import com.keon.todoapp.model.Todo;
+import lombok.Value;
+
+/**
+ * 목록 화면의 비동기 완료 토글 응답
+ * 바뀐 카드와 통계 카드만 갱신할 수 있도록 Todo의 완료 상태와 변경 후 개수만 담습니다.
+ */
+@Value
+public class TodoToggleResponse {
+
+    Long id;
+    boolean completed;
+    long totalCount;
+    long completedCount;
+    long pendingCount;
+
+    /**
+     * 토글된 Todo와 변경 후 통계로 응답을 생성합니다.
+     *
+     * @param todo 상태가 변경된 Todo
+     * @param stats 변경 후 통계
+     * @return 토글 응답
+     */
+    public static TodoToggleResponse of(Todo todo, TodoStats stats) {
+        return new TodoToggleResponse(todo.getId(), todo.isCompleted(),
+                stats.getTotalCount(), stats.getCompletedCount(), stats.getPendingCount());
+    }
+}
@@ -0,0 +1,20 @@
+package com.keon.todoapp.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 사용자명 또는 클라이언트 IP의 로그인 시도가 제한을 넘었을 때 발생하는 예외
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.keon.todoapp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해시 작업이 몰려 대기열이 가득 찼거나 대기 시간을 넘겼을 때 발생하는 예외
+ * 로그인 처리 중에도 발생하므로 인증 실패(비밀번호 불일치)와 구분되는 인증 서비스 예외로 정의합니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends InternalAuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,15 @@
+package com.keon.todoapp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 다른 사용자의 Todo에 접근하려 할 때 발생하는 예외
+ */
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class TodoAccessDeniedException extends RuntimeException {
+
+    public TodoAccessDeniedException(Long id) {
+        super("해당 Todo에 접근할 권한이 없습니다: " + id);
+    }
+}
@@ -0,0 +1,15 @@
+package com.keon.todoapp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청한 Todo가 존재하지 않을 때 발생하는 예외
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class TodoNotFoundException extends RuntimeException {
+
+    public TodoNotFoundException(Long id) {
+        super("Todo를 찾을 수 없습니다: " + id);
+    }
+}
@@ -1,6 +1,10 @@
 package com.keon.todoapp.model;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.persistence.*;
@@ -9,14 +13,27 @@ import java.time.LocalDate;
 /**
  * Todo 항목을 저장하는 엔티티
  * 사용자와 ManyToOne 관계를 가집니다.
+ * ID 조회 결과는 2차 캐시(READ_WRITE)에 저장되어, 같은 Todo를 다시 읽을 때 데이터베이스를 거치지 않습니다.
  */
 @Entity
 @Table(name = "todos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Todo.CACHE_REGION)
 @Data
 public class Todo {
 
+    /**
+     * 2차 캐시 영역 이름 (크기/TTL은 todo.hibernate-cache.todo.* 설정)
+     */
+    public static final String CACHE_REGION = "todo";
+
+    /**
+     * 시퀀스 + pooled 옵티마이저로 ID를 미리 할당 (50개 단위)
+     * IDENTITY와 달리 INSERT 전에 ID를 알 수 있어 JDBC 배치 INSERT가 가능합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,11 +42,15 @@ public class Todo {
     @Column(nullable = false)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
+    /**
+     * 길이 제한 없는 본문 - 마이그레이션 스키마(CLOB)와 타입이 일치해야 validate를 통과합니다.
+     */
+    @Lob
     private String description;
 
+    @Convert(converter = TodoPriorityConverter.class)
     @Column(nullable = false)
-    private String priority = "LOW"; // LOW, MEDIUM, HIGH
+    private TodoPriority priority = TodoPriority.LOW;
 
     @Column(nullable = false)
     private boolean completed = false;
@@ -41,7 +62,29 @@ public class Todo {
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate dueDate;
 
+    /**
+     * 내용이 바뀔 때마다 증가하는 수정 번호 (목록 카드 렌더링 캐시의 키)
+     * 낙관적 잠금(@Version)이 아니므로 동시 수정을 거부하지 않습니다.
+     * 벌크 UPDATE 문은 이 콜백을 거치지 않으므로 쿼리에서 직접 증가시켜야 합니다.
+     */
+    @Column(nullable = false)
+    private long revision;
+
+    /**
+     * 지연 로딩 프록시 - toString/equals/hashCode에서 제외해 로그 출력이나 컬렉션 저장만으로 users 조회가 일어나지 않게 합니다.
+     * 2차 캐시에서 읽어 세션 밖으로 나간 Todo도 프록시를 건드리지 않으므로 LazyInitializationException이 발생하지 않습니다.
+     */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
+
+    /**
+     * 변경된 필드가 있어 UPDATE 문이 실행되기 직전에 수정 번호를 증가시킵니다.
+     */
+    @PreUpdate
+    void nextRevision() {
+        revision++;
+    }
 }
@@ -0,0 +1,50 @@
+package com.keon.todoapp.model;
+
+import lombok.Data;
+
+import javax.persistence.*;
+
+/**
+ * 사용자별 Todo 개수를 미리 집계해 두는 카운터 엔티티
+ * Todo 변경과 같은 트랜잭션에서 증감되며, 통계 조회를 기본 키 조회 한 번으로 처리합니다.
+ */
+@Entity
+@Table(name = "todo_counters")
+@Data
+public class TodoCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    @Column(nullable = false)
+    private long highPriorityCount;
+
+    @Column(nullable = false)
+    private long mediumPriorityCount;
+
+    @Column(nullable = false)
+    private long lowPriorityCount;
+
+    /**
+     * 사용자 Todo 데이터 버전
+     * Todo가 변경될 때마다 1씩 증가하며, 페이지/API 응답의 ETag에 사용됩니다.
+     */
+    @Column(nullable = false)
+    private long dataVersion;
+
+    /**
+     * 미완료 Todo 개수를 반환합니다.
+     *
+     * @return 전체 개수 - 완료 개수
+     */
+    public long getPendingCount() {
+        return totalCount - completedCount;
+    }
+}
@@ -0,0 +1,62 @@
+package com.keon.todoapp.model;
+
+import java.util.Locale;
+
+/**
+ * Todo 우선순위
+ * 데이터베이스에는 긴급도 순서를 유지하는 작은 정수 코드로 저장되므로(높을수록 긴급),
+ * SQL에서 코드 내림차순으로 정렬하면 "급한 순"이 됩니다.
+ *
+ * @see TodoPriorityConverter
+ */
+public enum TodoPriority {
+
+    LOW((short) 1),
+    MEDIUM((short) 2),
+    HIGH((short) 3);
+
+    private final short code;
+
+    TodoPriority(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * 저장된 코드로 우선순위를 찾습니다.
+     *
+     * @param code 우선순위 코드
+     * @return 우선순위
+     * @throws IllegalArgumentException 알 수 없는 코드인 경우
+     */
+    public static TodoPriority fromCode(short code) {
+        for (TodoPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 우선순위 코드입니다: " + code);
+    }
+
+    /**
+     * 이름(대소문자 무시)으로 우선순위를 찾습니다.
+     *
+     * @param name 우선순위 이름 (HIGH, MEDIUM, LOW)
+     * @return 우선순위
+     * @throws IllegalArgumentException 알 수 없는 이름인 경우
+     */
+    public static TodoPriority fromName(String name) {
+        if (name != null) {
+            String normalized = name.trim().toUpperCase(Locale.ROOT);
+            for (TodoPriority priority : values()) {
+                if (priority.name().equals(normalized)) {
+                    return priority;
+                }
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 우선순위입니다: " + name);
+    }
+}
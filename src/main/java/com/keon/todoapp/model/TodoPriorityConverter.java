@@ -0,0 +1,22 @@
+package com.keon.todoapp.model;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * {@link TodoPriority}를 SMALLINT 코드로 저장하는 JPA 컨버터
+ * 열거형 순서(ordinal)가 아닌 명시적인 코드를 사용하므로 상수 순서를 바꿔도 저장값이 변하지 않습니다.
+ */
+@Converter
+public class TodoPriorityConverter implements AttributeConverter<TodoPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TodoPriority priority) {
+        return priority == null ? null : priority.getCode();
+    }
+
+    @Override
+    public TodoPriority convertToEntityAttribute(Short code) {
+        return code == null ? null : TodoPriority.fromCode(code);
+    }
+}
@@ -1,6 +1,8 @@
 package com.keon.todoapp.model;
 
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,14 +14,27 @@ import java.util.Collections;
 /**
  * 사용자 정보를 저장하는 엔티티
  * Spring Security의 UserDetails 인터페이스를 구현하여 인증 시스템과 연동
+ * ID 조회 결과(Todo의 user 연관 로딩 포함)는 2차 캐시(READ_WRITE)에 저장됩니다.
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @Data
 public class User implements UserDetails {
 
+    /**
+     * 2차 캐시 영역 이름 (크기/TTL은 todo.hibernate-cache.user.* 설정)
+     */
+    public static final String CACHE_REGION = "user";
+
+    /**
+     * 시퀀스 + pooled 옵티마이저로 ID를 미리 할당 (50개 단위)
+     * IDENTITY와 달리 INSERT 전에 ID를 알 수 있어 JDBC 배치 INSERT가 가능합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
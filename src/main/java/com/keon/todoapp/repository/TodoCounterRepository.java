@@ -0,0 +1,90 @@
+package com.keon.todoapp.repository;
+
+import com.keon.todoapp.model.TodoCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+/**
+ * 사용자별 Todo 카운터에 대한 데이터 접근을 담당하는 리포지토리
+ * 카운터 증감은 읽기 없이 단일 UPDATE 문으로 원자적으로 처리합니다.
+ */
+@Repository
+public interface TodoCounterRepository extends JpaRepository<TodoCounter, Long> {
+
+    /**
+     * 사용자의 카운터에 변화량을 더하고 데이터 버전을 1 증가시킵니다.
+     * 같은 영속성 컨텍스트에서 이미 읽은 카운터가 이전 값으로 남지 않도록 실행 후 컨텍스트를 비웁니다.
+     *
+     * @param userId 사용자 ID
+     * @param total 전체 개수 변화량
+     * @param completed 완료 개수 변화량
+     * @param high HIGH 우선순위 개수 변화량
+     * @param medium MEDIUM 우선순위 개수 변화량
+     * @param low LOW 우선순위 개수 변화량
+     * @return 변경된 행 수 (카운터가 없으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TodoCounter c SET c.totalCount = c.totalCount + :total,"
+            + " c.completedCount = c.completedCount + :completed,"
+            + " c.highPriorityCount = c.highPriorityCount + :high,"
+            + " c.mediumPriorityCount = c.mediumPriorityCount + :medium,"
+            + " c.lowPriorityCount = c.lowPriorityCount + :low,"
+            + " c.dataVersion = c.dataVersion + 1"
+            + " WHERE c.userId = :userId")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("total") long total,
+                   @Param("completed") long completed,
+                   @Param("high") long high,
+                   @Param("medium") long medium,
+                   @Param("low") long low);
+
+    /**
+     * 카운터 행을 INSERT 문으로 생성합니다.
+     * save()와 달리 이미 있는 카운터를 덮어쓰지 않고 기본 키 중복으로 실패합니다.
+     *
+     * @param userId 사용자 ID
+     * @param total 전체 개수
+     * @param completed 완료 개수
+     * @param high HIGH 우선순위 개수
+     * @param medium MEDIUM 우선순위 개수
+     * @param low LOW 우선순위 개수
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO todo_counters (user_id, total_count, completed_count, high_priority_count,"
+            + " medium_priority_count, low_priority_count, data_version)"
+            + " VALUES (:userId, :total, :completed, :high, :medium, :low, 0)", nativeQuery = true)
+    int insert(@Param("userId") Long userId,
+               @Param("total") long total,
+               @Param("completed") long completed,
+               @Param("high") long high,
+               @Param("medium") long medium,
+               @Param("low") long low);
+
+    /**
+     * 사용자의 데이터 버전만 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 데이터 버전 (카운터가 없으면 빈 값)
+     */
+    @Query("SELECT c.dataVersion FROM TodoCounter c WHERE c.userId = :userId")
+    Optional<Long> findDataVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * 보정 작업을 위해 카운터 행을 잠금과 함께 조회합니다.
+     * 잠금을 먼저 획득하므로 동시에 진행 중인 증감과 재계산이 서로 덮어쓰지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @return 카운터 (Optional로 감싸서 반환)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TodoCounter c WHERE c.userId = :userId")
+    Optional<TodoCounter> findByIdForUpdate(@Param("userId") Long userId);
+}
@@ -1,19 +1,40 @@
 package com.keon.todoapp.repository;
 
+import com.keon.todoapp.dto.TodoCountRow;
 import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
 import com.keon.todoapp.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Todo 항목에 대한 데이터 접근을 담당하는 리포지토리
  * 사용자별 Todo 관리와 다양한 필터링 기능을 제공
+ * 정렬된 목록 조회는 ORDER BY 앞에 등치 조건 컬럼(user_id, completed)을 붙여 인덱스 컬럼 순서와 맞춥니다.
+ * 결과 순서는 같지만, H2 옵티마이저가 정렬을 인덱스 순서로 대신하고(index sorted) 필요한 건수만 읽습니다.
  */
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
+    /**
+     * 목록/개수 조회 결과를 담는 쿼리 캐시 영역
+     * todos 테이블이 변경되면(단건 저장, 벌크 UPDATE/DELETE 모두) Hibernate가 영역 전체를 무효화합니다.
+     */
+    String QUERY_CACHE_REGION = "todo-queries";
+
     /**
      * 특정 사용자의 모든 Todo를 조회합니다.
      *
@@ -37,7 +58,85 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      * @param user 사용자 정보
      * @return 날짜순으로 정렬된 Todo 목록
      */
-    List<Todo> findByUserOrderByCreatedDateDesc(User user);
+    @Query("SELECT t FROM Todo t WHERE t.user = :user ORDER BY t.user.id, t.createdDate DESC")
+    List<Todo> findByUserOrderByCreatedDateDesc(@Param("user") User user);
+
+    /**
+     * 특정 사용자의 Todo 첫 페이지를 (생성일, ID) 내림차순으로 조회합니다.
+     *
+     * @param user 사용자 정보
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     * @return 첫 페이지 Todo 목록
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user = :user ORDER BY t.user.id, t.createdDate DESC, t.id DESC")
+    List<Todo> findByUserOrderByCreatedDateDescIdDesc(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 커서 이후의 Todo를 (생성일, ID) 내림차순으로 조회합니다.
+     * OFFSET 없이 마지막 위치부터 이어서 읽으므로 페이지 위치와 무관하게 비용이 일정합니다.
+     *
+     * @param user 사용자 정보
+     * @param createdDate 커서의 생성일
+     * @param id 커서의 Todo ID
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     * @return 커서 이후의 Todo 목록
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user = :user"
+            + " AND (t.createdDate < :createdDate OR (t.createdDate = :createdDate AND t.id < :id))"
+            + " ORDER BY t.user.id, t.createdDate DESC, t.id DESC")
+    List<Todo> findByUserAfterCursor(@Param("user") User user,
+                                     @Param("createdDate") LocalDate createdDate,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * 특정 사용자의 완료/미완료 Todo 첫 페이지를 (생성일, ID) 내림차순으로 조회합니다.
+     *
+     * @param user 사용자 정보
+     * @param completed 완료 상태
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     * @return 첫 페이지 Todo 목록
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user = :user AND t.completed = :completed"
+            + " ORDER BY t.user.id, t.completed, t.createdDate DESC, t.id DESC")
+    List<Todo> findByUserAndCompletedOrderByCreatedDateDescIdDesc(@Param("user") User user,
+                                                                 @Param("completed") boolean completed,
+                                                                 Pageable pageable);
+
+    /**
+     * 커서 이후의 완료/미완료 Todo를 (생성일, ID) 내림차순으로 조회합니다.
+     *
+     * @param user 사용자 정보
+     * @param completed 완료 상태
+     * @param createdDate 커서의 생성일
+     * @param id 커서의 Todo ID
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     * @return 커서 이후의 Todo 목록
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user = :user AND t.completed = :completed"
+            + " AND (t.createdDate < :createdDate OR (t.createdDate = :createdDate AND t.id < :id))"
+            + " ORDER BY t.user.id, t.completed, t.createdDate DESC, t.id DESC")
+    List<Todo> findByUserAndCompletedAfterCursor(@Param("user") User user,
+                                                 @Param("completed") boolean completed,
+                                                 @Param("createdDate") LocalDate createdDate,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 
     /**
      * 특정 사용자의 완료/미완료 Todo 개수를 조회합니다.
@@ -46,16 +145,172 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      * @param completed 완료 상태
      * @return Todo 개수
      */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     long countByUserAndCompleted(User user, boolean completed);
 
+    /**
+     * 특정 사용자의 모든 Todo를 (생성일, ID) 내림차순 스트림으로 조회합니다.
+     * 결과를 목록으로 만들지 않고 JDBC 커서에서 fetch size 단위로 가져오므로, 내보내기처럼 전체를 순회하는 용도에 사용합니다.
+     * 읽기 전용으로 로딩해 스냅샷을 만들지 않고, 전체 순회가 2차 캐시를 밀어내지 않도록 캐시를 거치지 않습니다.
+     * 트랜잭션 안에서 소비하고 닫아야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @return Todo 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId ORDER BY t.user.id, t.createdDate DESC, t.id DESC")
+    Stream<Todo> streamByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자가 소유한 Todo를 ID로 조회합니다.
+     * 소유자 확인을 WHERE 절에서 함께 처리하므로 한 번의 쿼리로 끝나며, 사용자 프록시를 초기화하지 않습니다.
+     *
+     * @param id Todo ID
+     * @param userId 사용자 ID
+     * @return 사용자가 소유한 Todo, 없거나 다른 사용자의 Todo이면 빈 값
+     */
+    @Query("SELECT t FROM Todo t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<Todo> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 Todo 개수를 (완료 상태, 우선순위, 카테고리) 조합별로 집계합니다.
+     * 한 번의 그룹 집계 쿼리로 통계에 필요한 모든 개수를 조회하며, 엔티티를 로딩하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @return 조합별 Todo 개수
+     */
+    @Query("SELECT new com.keon.todoapp.dto.TodoCountRow(t.completed, t.priority, t.category, COUNT(t))"
+            + " FROM Todo t WHERE t.user.id = :userId"
+            + " GROUP BY t.completed, t.priority, t.category")
+    List<TodoCountRow> countGroupedByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 지정된 Todo들을 (완료 상태, 우선순위, 카테고리) 조합별로 집계합니다.
+     * 일괄 변경 전에 카운터 변화량을 계산하는 데 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param ids Todo ID 목록
+     * @return 조합별 Todo 개수 (다른 사용자의 Todo는 제외)
+     */
+    @Query("SELECT new com.keon.todoapp.dto.TodoCountRow(t.completed, t.priority, t.category, COUNT(t))"
+            + " FROM Todo t WHERE t.user.id = :userId AND t.id IN :ids"
+            + " GROUP BY t.completed, t.priority, t.category")
+    List<TodoCountRow> countGroupedByUserIdAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 사용자의 지정된 Todo 중 완료 상태가 주어진 값과 다른 Todo의 ID를 조회합니다.
+     * 일괄 완료 처리에서 실제로 바뀌는 Todo만 알리는 데 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param ids Todo ID 목록
+     * @param completed 변경할 완료 상태
+     * @return 변경될 Todo ID 목록 (다른 사용자의 Todo와 이미 같은 상태인 Todo는 제외)
+     */
+    @Query("SELECT t.id FROM Todo t WHERE t.user.id = :userId AND t.id IN :ids AND t.completed <> :completed")
+    List<Long> findIdsByUserIdAndIdsAndCompletedNot(@Param("userId") Long userId,
+                                                    @Param("ids") Collection<Long> ids,
+                                                    @Param("completed") boolean completed);
+
+    /**
+     * 특정 사용자의 지정된 Todo 중 우선순위가 주어진 값과 다른 Todo의 ID를 조회합니다.
+     * 일괄 우선순위 변경에서 실제로 바뀌는 Todo만 알리는 데 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param ids Todo ID 목록
+     * @param priority 변경할 우선순위
+     * @return 변경될 Todo ID 목록 (다른 사용자의 Todo와 이미 같은 우선순위인 Todo는 제외)
+     */
+    @Query("SELECT t.id FROM Todo t WHERE t.user.id = :userId AND t.id IN :ids AND t.priority <> :priority")
+    List<Long> findIdsByUserIdAndIdsAndPriorityNot(@Param("userId") Long userId,
+                                                   @Param("ids") Collection<Long> ids,
+                                                   @Param("priority") TodoPriority priority);
+
+    /**
+     * 특정 사용자의 지정된 Todo들의 완료 상태를 한 번의 UPDATE 문으로 변경합니다.
+     * 엔티티 콜백을 거치지 않으므로 수정 번호(revision)도 함께 증가시킵니다.
+     *
+     * @param userId 사용자 ID
+     * @param ids Todo ID 목록
+     * @param completed 변경할 완료 상태
+     * @return 변경된 Todo 개수 (이미 같은 상태인 Todo는 제외)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.completed = :completed, t.revision = t.revision + 1"
+            + " WHERE t.user.id = :userId AND t.id IN :ids AND t.completed <> :completed")
+    int updateCompletedByUserIdAndIds(@Param("userId") Long userId,
+                                      @Param("ids") Collection<Long> ids,
+                                      @Param("completed") boolean completed);
+
+    /**
+     * 특정 사용자의 지정된 Todo들의 우선순위를 한 번의 UPDATE 문으로 변경합니다.
+     * 엔티티 콜백을 거치지 않으므로 수정 번호(revision)도 함께 증가시킵니다.
+     *
+     * @param userId 사용자 ID
+     * @param ids Todo ID 목록
+     * @param priority 변경할 우선순위
+     * @return 변경된 Todo 개수 (이미 같은 우선순위인 Todo는 제외)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.priority = :priority, t.revision = t.revision + 1"
+            + " WHERE t.user.id = :userId AND t.id IN :ids"
+            + " AND t.priority <> :priority")
+    int updatePriorityByUserIdAndIds(@Param("userId") Long userId,
+                                     @Param("ids") Collection<Long> ids,
+                                     @Param("priority") TodoPriority priority);
+
+    /**
+     * 특정 사용자의 지정된 Todo들을 한 번의 DELETE 문으로 삭제합니다.
+     *
+     * @param userId 사용자 ID
+     * @param ids Todo ID 목록
+     * @return 삭제된 Todo 개수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.user.id = :userId AND t.id IN :ids")
+    int deleteByUserIdAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 사용자의 완료된 Todo를 한 번의 DELETE 문으로 모두 삭제합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 삭제된 Todo 개수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.user.id = :userId AND t.completed = true")
+    int deleteCompletedByUserId(@Param("userId") Long userId);
+
     /**
      * 특정 사용자의 우선순위별 Todo를 조회합니다.
      *
      * @param user 사용자 정보
-     * @param priority 우선순위 (HIGH, MEDIUM, LOW)
+     * @param priority 우선순위
      * @return 우선순위별 Todo 목록
      */
-    List<Todo> findByUserAndPriority(User user, String priority);
+    List<Todo> findByUserAndPriority(User user, TodoPriority priority);
+
+    /**
+     * 특정 사용자의 미완료 Todo를 급한 순서로 조회합니다.
+     * 우선순위 내림차순, 마감일 오름차순(마감일 없는 Todo는 마지막), 생성일·ID 내림차순으로 정렬하며,
+     * 정렬 순서와 같은 인덱스(idx_todos_user_urgency)를 따라 읽으므로 별도 정렬 없이 상위 N건만 읽습니다.
+     *
+     * @param userId 사용자 ID
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     * @return 급한 순 Todo 목록
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId AND t.completed = false"
+            + " ORDER BY t.user.id, t.completed, t.priority DESC, t.dueDate ASC NULLS LAST, t.createdDate DESC, t.id DESC")
+    List<Todo> findUrgentByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
      * 특정 사용자의 카테고리별 Todo를 조회합니다.
@@ -1,9 +1,13 @@
 package com.keon.todoapp.repository;
 
 import com.keon.todoapp.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,4 +32,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부
      */
     boolean existsByUsername(String username);
+
+    /**
+     * 주어진 ID 이후의 사용자 ID를 오름차순으로 조회합니다.
+     * 배치 작업에서 전체 사용자를 일정 크기씩 순회할 때 사용합니다.
+     *
+     * @param afterId 이전 배치의 마지막 사용자 ID
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
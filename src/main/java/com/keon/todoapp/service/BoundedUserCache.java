@@ -0,0 +1,258 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기와 TTL이 제한된 사용자 캐시
+ * 최근 사용 순서(LRU)로 항목을 유지하며, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목을 제거합니다.
+ * 존재하지 않는 사용자명도 짧은 TTL로 기억해(negative caching) 반복되는 무작위 로그인 시도가 데이터베이스에 닿지 않게 합니다.
+ * 존재하지 않는 사용자명은 별도의 더 작은 맵에 두므로, 무작위 사용자명이 쏟아져도 실제 사용자 항목은 밀려나지 않습니다.
+ * DaoAuthenticationProvider의 {@link UserCache}로도 사용되며, 적중/미스/제거 횟수를 Micrometer 지표로 제공합니다.
+ */
+@Component
+public class BoundedUserCache implements UserCache, MeterBinder {
+
+    private static final String CACHE_NAME = "users";
+    private static final String MISSING_CACHE_NAME = "users-missing";
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final int maxMissingEntries;
+    private final long negativeTtlNanos;
+    private final Map<String, CacheEntry> entries;
+    private final Map<String, Long> missing;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder missingEvictions = new LongAdder();
+
+    public BoundedUserCache(@Value("${todo.user-cache.max-entries:10000}") int maxEntries,
+                            @Value("${todo.user-cache.ttl:PT10M}") Duration ttl,
+                            @Value("${todo.user-cache.negative-max-entries:1000}") int maxMissingEntries,
+                            @Value("${todo.user-cache.negative-ttl:PT1M}") Duration negativeTtl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.maxMissingEntries = maxMissingEntries;
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > BoundedUserCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.missing = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > BoundedUserCache.this.maxMissingEntries) {
+                    missingEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 사용자 정보를 조회합니다.
+     *
+     * @param username 사용자명
+     * @return 캐시된 사용자 정보, 없거나 만료되었으면 null
+     */
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        CacheEntry entry = getFresh(username);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.user;
+    }
+
+    /**
+     * 비밀번호 해시가 바뀐 사용자 정보로 캐시를 교체합니다.
+     * 커밋 전에 교체하면 롤백된 해시가 캐시에 남을 수 있으므로 트랜잭션 커밋 후에 반영합니다.
+     *
+     * @param event 비밀번호 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPasswordChanged(UserPasswordChangedEvent event) {
+        putUserInCache(event.getUser());
+    }
+
+    /**
+     * 사용자 정보를 캐시에 저장합니다.
+     *
+     * @param user 사용자 정보
+     */
+    @Override
+    public void putUserInCache(UserDetails user) {
+        synchronized (missing) {
+            missing.remove(user.getUsername());
+        }
+        synchronized (entries) {
+            entries.put(user.getUsername(), new CacheEntry(user, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * 사용자 정보를 캐시에서 제거합니다 (존재하지 않는 사용자 기록 포함).
+     *
+     * @param username 사용자명
+     */
+    @Override
+    public void removeUserFromCache(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+        synchronized (missing) {
+            missing.remove(username);
+        }
+    }
+
+    /**
+     * 캐시된 User 엔티티를 조회합니다.
+     *
+     * @param username 사용자명
+     * @return 캐시된 User, 없으면 null
+     */
+    public User getUser(String username) {
+        UserDetails user = getUserFromCache(username);
+        return user instanceof User ? (User) user : null;
+    }
+
+    /**
+     * 최근에 존재하지 않는 것으로 확인된 사용자명인지 확인합니다.
+     *
+     * @param username 사용자명
+     * @return 존재하지 않는 사용자로 기록되어 있으면 true
+     */
+    public boolean isKnownMissing(String username) {
+        synchronized (missing) {
+            Long expiresAt = missing.get(username);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt - System.nanoTime() <= 0) {
+                missing.remove(username);
+                return false;
+            }
+        }
+        negativeHits.increment();
+        return true;
+    }
+
+    /**
+     * 존재하지 않는 사용자명을 기록합니다.
+     *
+     * @param username 사용자명
+     */
+    public void putMissing(String username) {
+        synchronized (missing) {
+            missing.put(username, System.nanoTime() + negativeTtlNanos);
+        }
+    }
+
+    /**
+     * 현재 캐시된 사용자 수를 반환합니다.
+     *
+     * @return 사용자 수 (만료되었지만 아직 제거되지 않은 항목 포함, 존재하지 않는 사용자명 제외)
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 현재 기록된 존재하지 않는 사용자명 수를 반환합니다.
+     *
+     * @return 사용자명 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public int missingSize() {
+        synchronized (missing) {
+            return missing.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("사용자 캐시 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("사용자 캐시 미스 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", negativeHits, LongAdder::sum)
+                .tag("cache", CACHE_NAME).tag("result", "negative-hit")
+                .description("존재하지 않는 사용자명 캐시 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .description("크기 제한으로 제거된 항목 수")
+                .register(registry);
+        Gauge.builder("cache.size", this, BoundedUserCache::size)
+                .tag("cache", CACHE_NAME)
+                .description("캐시된 항목 수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", missingEvictions, LongAdder::sum)
+                .tag("cache", MISSING_CACHE_NAME)
+                .description("크기 제한으로 제거된 존재하지 않는 사용자명 수")
+                .register(registry);
+        Gauge.builder("cache.size", this, BoundedUserCache::missingSize)
+                .tag("cache", MISSING_CACHE_NAME)
+                .description("기록된 존재하지 않는 사용자명 수")
+                .register(registry);
+    }
+
+    private CacheEntry getFresh(String username) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(username);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt - System.nanoTime() <= 0) {
+                entries.remove(username);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static final class CacheEntry {
+
+        private final UserDetails user;
+        private final long expiresAt;
+
+        private CacheEntry(UserDetails user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.keon.todoapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 레코드를 한 건씩 읽는 리더
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 따옴표("")를 처리하며, 한 번에 한 레코드만 메모리에 유지합니다.
+ * 최대 필드 수를 넘는 레코드는 나머지 필드를 버리고 {@link #isTooWide()}가 true가 됩니다.
+ */
+class CsvRecordReader {
+
+    /**
+     * 한 필드의 최대 길이 (닫히지 않은 따옴표로 파일 전체를 읽어들이는 것을 방지)
+     */
+    static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    /**
+     * 한 레코드의 기본 최대 필드 수 (쉼표만 이어진 행으로 필드 목록이 끝없이 커지는 것을 방지)
+     */
+    static final int MAX_FIELDS = 256;
+
+    private final Reader reader;
+    private int maxFields = MAX_FIELDS;
+    private long line = 1;
+    private long recordLine;
+    private boolean tooWide;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * 최대 필드 수를 넘는 레코드는 앞쪽 필드만 담아 반환하고 {@link #isTooWide()}가 true가 됩니다.
+     *
+     * @return 필드 목록, 더 이상 레코드가 없으면 null
+     * @throws IOException 읽기 실패, 닫히지 않은 따옴표 또는 너무 긴 필드
+     */
+    List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        tooWide = false;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다");
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    append(field, '"');
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append(field, (char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                addField(fields, field);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                addField(fields, field);
+                return fields;
+            } else if (c != '\r') {
+                append(field, (char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 행 번호를 반환합니다.
+     *
+     * @return 행 번호 (1부터 시작)
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * 한 레코드의 최대 필드 수를 설정합니다.
+     *
+     * @param maxFields 최대 필드 수
+     */
+    void setMaxFields(int maxFields) {
+        this.maxFields = maxFields;
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 최대 필드 수를 넘었는지 반환합니다.
+     *
+     * @return 최대 필드 수를 넘었으면 true
+     */
+    boolean isTooWide() {
+        return tooWide;
+    }
+
+    private void addField(List<String> fields, StringBuilder field) {
+        if (fields.size() >= maxFields) {
+            tooWide = true;
+        } else {
+            fields.add(field.toString());
+        }
+        field.setLength(0);
+    }
+
+    private void append(StringBuilder field, char c) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IOException("필드가 너무 깁니다 (최대 " + MAX_FIELD_LENGTH + "자)");
+        }
+        field.append(c);
+    }
+}
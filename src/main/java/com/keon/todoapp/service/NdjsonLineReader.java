@@ -0,0 +1,62 @@
+package com.keon.todoapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * NDJSON 행을 한 줄씩 읽는 리더
+ * {@link java.io.BufferedReader#readLine()}과 달리 행 길이를 제한하며, 제한을 넘는 행은 나머지를 버리고 다음 행부터 계속 읽습니다.
+ */
+class NdjsonLineReader {
+
+    /**
+     * 한 행의 최대 길이 (줄바꿈 없는 입력으로 파일 전체를 읽어들이는 것을 방지)
+     */
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean tooLong;
+
+    NdjsonLineReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행을 읽습니다.
+     * 최대 길이를 넘는 행은 빈 문자열을 반환하고 {@link #isTooLong()}이 true가 됩니다.
+     *
+     * @return 행 (줄바꿈 제외), 더 이상 행이 없으면 null
+     * @throws IOException 읽기 실패
+     */
+    String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        buffer.setLength(0);
+        tooLong = false;
+
+        while (c != -1 && c != '\n') {
+            if (c != '\r' && !tooLong) {
+                if (buffer.length() >= MAX_LINE_LENGTH) {
+                    tooLong = true;
+                    buffer.setLength(0);
+                } else {
+                    buffer.append((char) c);
+                }
+            }
+            c = reader.read();
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * 마지막으로 읽은 행이 최대 길이를 넘었는지 반환합니다.
+     *
+     * @return 최대 길이를 넘었으면 true
+     */
+    boolean isTooLong() {
+        return tooLong;
+    }
+}
@@ -0,0 +1,56 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Todo의 검색 대상 내용(제목/설명)이 바뀌었음을 알리는 이벤트
+ * TodoService가 발행하고, 트랜잭션 커밋 후 {@link TodoSearchService}가 검색 색인에 반영합니다.
+ */
+@Value
+public class TodoChangedEvent {
+
+    Long userId;
+    List<Todo> saved;
+    Collection<Long> deletedIds;
+
+    /**
+     * 삭제된 Todo를 특정할 수 없어 사용자 색인을 다시 만들어야 하는지 여부
+     */
+    boolean reindexRequired;
+
+    /**
+     * Todo 생성/수정 이벤트
+     *
+     * @param userId 사용자 ID
+     * @param todos 저장된 Todo 목록
+     * @return 이벤트
+     */
+    public static TodoChangedEvent saved(Long userId, List<Todo> todos) {
+        return new TodoChangedEvent(userId, todos, List.of(), false);
+    }
+
+    /**
+     * Todo 삭제 이벤트
+     *
+     * @param userId 사용자 ID
+     * @param todoIds 삭제된 Todo ID 목록
+     * @return 이벤트
+     */
+    public static TodoChangedEvent deleted(Long userId, Collection<Long> todoIds) {
+        return new TodoChangedEvent(userId, List.of(), todoIds, false);
+    }
+
+    /**
+     * 조건 삭제처럼 대상 ID를 모르는 변경 이벤트
+     *
+     * @param userId 사용자 ID
+     * @return 이벤트
+     */
+    public static TodoChangedEvent reindex(Long userId) {
+        return new TodoChangedEvent(userId, List.of(), List.of(), true);
+    }
+}
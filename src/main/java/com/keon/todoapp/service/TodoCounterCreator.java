@@ -0,0 +1,36 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.repository.TodoCounterRepository;
+import com.keon.todoapp.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카운터가 없는 사용자의 카운터를 별도 트랜잭션에서 생성하는 컴포넌트
+ * 동시에 같은 사용자의 카운터를 만들려는 트랜잭션이 있으면 한쪽의 INSERT가 기본 키 중복으로 실패하는데,
+ * 실패가 호출한 트랜잭션(사용자의 Todo 변경)을 롤백 전용으로 만들지 않도록 생성만 따로 커밋합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoCounterCreator {
+
+    private final TodoCounterRepository todoCounterRepository;
+    private final TodoRepository todoRepository;
+
+    /**
+     * 커밋된 Todo를 집계해 카운터를 생성합니다.
+     * 호출한 트랜잭션의 아직 커밋되지 않은 변경은 포함하지 않으므로, 호출한 쪽이 생성 후 변화량을 다시 반영해야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @throws org.springframework.dao.DataIntegrityViolationException 다른 트랜잭션이 먼저 카운터를 만든 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void create(Long userId) {
+        TodoStats stats = TodoStats.from(todoRepository.countGroupedByUserId(userId));
+        todoCounterRepository.insert(userId, stats.getTotalCount(), stats.getCompletedCount(),
+                stats.getHighPriorityCount(), stats.getMediumPriorityCount(), stats.getLowPriorityCount());
+    }
+}
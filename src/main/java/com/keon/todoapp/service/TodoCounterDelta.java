@@ -0,0 +1,141 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.dto.TodoCountRow;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Todo 변경으로 발생하는 사용자 카운터의 변화량
+ */
+@Value
+public class TodoCounterDelta {
+
+    public static final TodoCounterDelta NONE = new TodoCounterDelta(0, 0, 0, 0, 0);
+
+    long total;
+    long completed;
+    long high;
+    long medium;
+    long low;
+
+    /**
+     * Todo 생성에 따른 변화량
+     *
+     * @param todo 생성된 Todo
+     * @return 변화량
+     */
+    public static TodoCounterDelta created(Todo todo) {
+        return NONE.plus(1, todo.isCompleted() ? 1 : 0, todo.getPriority(), 1);
+    }
+
+    /**
+     * Todo 삭제에 따른 변화량
+     *
+     * @param todo 삭제된 Todo
+     * @return 변화량
+     */
+    public static TodoCounterDelta deleted(Todo todo) {
+        return NONE.plus(-1, todo.isCompleted() ? -1 : 0, todo.getPriority(), -1);
+    }
+
+    /**
+     * 완료 상태 토글에 따른 변화량
+     *
+     * @param todo 토글 후의 Todo
+     * @return 변화량
+     */
+    public static TodoCounterDelta toggled(Todo todo) {
+        return new TodoCounterDelta(0, todo.isCompleted() ? 1 : -1, 0, 0, 0);
+    }
+
+    /**
+     * 우선순위 변경에 따른 변화량
+     *
+     * @param oldPriority 변경 전 우선순위
+     * @param newPriority 변경 후 우선순위
+     * @return 변화량 (우선순위가 같으면 {@link #NONE})
+     */
+    public static TodoCounterDelta priorityChanged(TodoPriority oldPriority, TodoPriority newPriority) {
+        if (oldPriority == newPriority) {
+            return NONE;
+        }
+        return NONE.plus(0, 0, oldPriority, -1).plus(0, 0, newPriority, 1);
+    }
+
+    /**
+     * 여러 Todo 일괄 삭제에 따른 변화량
+     *
+     * @param rows 삭제 대상의 (완료 상태, 우선순위, 카테고리)별 개수
+     * @return 변화량
+     */
+    public static TodoCounterDelta deletedAll(List<TodoCountRow> rows) {
+        TodoCounterDelta delta = NONE;
+        for (TodoCountRow row : rows) {
+            long count = row.getCount();
+            delta = delta.plus(-count, row.isCompleted() ? -count : 0, row.getPriority(), -count);
+        }
+        return delta;
+    }
+
+    /**
+     * 여러 Todo 일괄 완료 처리에 따른 변화량 (이미 완료된 Todo는 변화 없음)
+     *
+     * @param rows 대상의 (완료 상태, 우선순위, 카테고리)별 개수
+     * @return 변화량
+     */
+    public static TodoCounterDelta completedAll(List<TodoCountRow> rows) {
+        long pending = rows.stream()
+                .filter(row -> !row.isCompleted())
+                .mapToLong(TodoCountRow::getCount)
+                .sum();
+        return new TodoCounterDelta(0, pending, 0, 0, 0);
+    }
+
+    /**
+     * 여러 Todo 일괄 우선순위 변경에 따른 변화량
+     *
+     * @param rows 대상의 (완료 상태, 우선순위, 카테고리)별 개수
+     * @param newPriority 변경 후 우선순위
+     * @return 변화량
+     */
+    public static TodoCounterDelta reprioritizedAll(List<TodoCountRow> rows, TodoPriority newPriority) {
+        TodoCounterDelta delta = NONE;
+        for (TodoCountRow row : rows) {
+            if (row.getPriority() != newPriority) {
+                long count = row.getCount();
+                delta = delta.plus(0, 0, row.getPriority(), -count).plus(0, 0, newPriority, count);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * 두 변화량을 합칩니다.
+     *
+     * @param other 더할 변화량
+     * @return 합계 변화량
+     */
+    public TodoCounterDelta plus(TodoCounterDelta other) {
+        return new TodoCounterDelta(total + other.total, completed + other.completed,
+                high + other.high, medium + other.medium, low + other.low);
+    }
+
+    /**
+     * 변화가 없는지 확인합니다.
+     *
+     * @return 모든 변화량이 0이면 true
+     */
+    public boolean isEmpty() {
+        return total == 0 && completed == 0 && high == 0 && medium == 0 && low == 0;
+    }
+
+    private TodoCounterDelta plus(long totalDelta, long completedDelta, TodoPriority priority, long priorityDelta) {
+        long highDelta = priority == TodoPriority.HIGH ? priorityDelta : 0;
+        long mediumDelta = priority == TodoPriority.MEDIUM ? priorityDelta : 0;
+        long lowDelta = priority == TodoPriority.LOW ? priorityDelta : 0;
+        return plus(new TodoCounterDelta(totalDelta, completedDelta, highDelta, mediumDelta, lowDelta));
+    }
+}
@@ -0,0 +1,59 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 Todo 카운터 보정 작업
+ * 주기적으로 모든 사용자의 카운터를 실제 집계와 비교해, 누락되거나 어긋난 카운터를 재계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterReconciler {
+
+    private final UserRepository userRepository;
+    private final TodoCounterService todoCounterService;
+
+    @Value("${todo.counters.reconcile-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 사용자 ID 순서로 일정 크기씩 나누어 카운터를 보정합니다.
+     * 사용자마다 별도 트랜잭션으로 처리하므로 한 사용자의 잠금이 오래 유지되지 않습니다.
+     */
+    @Scheduled(initialDelayString = "${todo.counters.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${todo.counters.reconcile-interval-ms:600000}")
+    public void reconcileAll() {
+        long start = System.currentTimeMillis();
+        int checked = 0;
+        int fixed = 0;
+
+        Long lastUserId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, PageRequest.of(0, batchSize));
+            for (Long userId : userIds) {
+                try {
+                    if (todoCounterService.reconcile(userId)) {
+                        fixed++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Todo 카운터 보정 실패: userId={}", userId, e);
+                }
+                checked++;
+                lastUserId = userId;
+            }
+        } while (userIds.size() == batchSize);
+
+        log.debug("Todo 카운터 보정 완료: checked={}, fixed={}, elapsed={}ms",
+                checked, fixed, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,152 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.model.TodoCounter;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoCounterRepository;
+import com.keon.todoapp.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 Todo 카운터를 관리하는 서비스
+ * TodoService의 변경 트랜잭션에 참여해 카운터를 증감하고, 통계를 기본 키 조회로 제공합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoCounterService {
+
+    private final TodoCounterRepository todoCounterRepository;
+    private final TodoRepository todoRepository;
+    private final TodoCounterCreator todoCounterCreator;
+
+    /**
+     * 새 사용자의 빈 카운터를 생성합니다.
+     *
+     * @param user 사용자
+     */
+    @Transactional
+    public void initialize(User user) {
+        TodoCounter counter = new TodoCounter();
+        counter.setUserId(user.getId());
+        todoCounterRepository.save(counter);
+    }
+
+    /**
+     * 카운터에 변화량을 반영하고 데이터 버전을 증가시킵니다.
+     * 개수 변화가 없는 변경(제목 수정 등)도 데이터 버전은 증가시킵니다.
+     * 카운터가 아직 없는 사용자라면 커밋된 Todo를 집계해 카운터를 새로 만든 뒤 변화량을 다시 반영합니다.
+     *
+     * @param user 사용자
+     * @param delta 변화량
+     */
+    @Transactional
+    public void apply(User user, TodoCounterDelta delta) {
+        if (applyDelta(user.getId(), delta) == 0) {
+            createIfAbsent(user.getId());
+            applyDelta(user.getId(), delta);
+        }
+    }
+
+    /**
+     * 사용자의 Todo 통계를 카운터에서 조회합니다.
+     * 카운터가 아직 없으면 집계 쿼리로 계산합니다 (카운터 생성은 변경 시점 또는 보정 작업에서 처리).
+     *
+     * @param user 사용자
+     * @return Todo 통계 (카테고리별 개수 제외)
+     */
+    public TodoStats getStats(User user) {
+        return todoCounterRepository.findById(user.getId())
+                .map(TodoStats::from)
+                .orElseGet(() -> computeStats(user.getId()));
+    }
+
+    /**
+     * 사용자의 Todo 데이터 버전을 조회합니다.
+     * 기본 키로 숫자 하나만 읽으므로, 변경 여부 확인(ETag)에 사용합니다.
+     *
+     * @param user 사용자
+     * @return 데이터 버전 (카운터가 없으면 null)
+     */
+    public Long getDataVersion(User user) {
+        return todoCounterRepository.findDataVersionByUserId(user.getId()).orElse(null);
+    }
+
+    /**
+     * 카운터를 실제 Todo 집계 결과와 비교해 어긋난 경우 바로잡습니다.
+     * 카운터 행을 먼저 잠근 뒤 집계하므로 동시에 진행 중인 증감이 유실되지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @return 카운터를 새로 만들거나 수정했으면 true
+     */
+    @Transactional
+    public boolean reconcile(Long userId) {
+        TodoCounter counter = todoCounterRepository.findByIdForUpdate(userId).orElse(null);
+        boolean created = false;
+        if (counter == null) {
+            created = createIfAbsent(userId);
+            counter = todoCounterRepository.findByIdForUpdate(userId).orElseThrow();
+        }
+        TodoStats actual = computeStats(userId);
+
+        if (matches(counter, actual)) {
+            if (created) {
+                log.info("Todo 카운터 생성: userId={}, total={}", userId, actual.getTotalCount());
+            }
+            return created;
+        }
+
+        log.warn("Todo 카운터 보정: userId={}, counter={}, actual(total={}, completed={}, high={}, medium={}, low={})",
+                userId, counter, actual.getTotalCount(), actual.getCompletedCount(),
+                actual.getHighPriorityCount(), actual.getMediumPriorityCount(), actual.getLowPriorityCount());
+        copyStats(actual, counter);
+        counter.setDataVersion(counter.getDataVersion() + 1);
+        return true;
+    }
+
+    private int applyDelta(Long userId, TodoCounterDelta delta) {
+        return todoCounterRepository.applyDelta(userId, delta.getTotal(), delta.getCompleted(),
+                delta.getHigh(), delta.getMedium(), delta.getLow());
+    }
+
+    /**
+     * 카운터를 별도 트랜잭션에서 생성합니다.
+     * 다른 트랜잭션이 먼저 만들어 기본 키가 중복되면 이미 있는 카운터를 그대로 사용합니다.
+     *
+     * @return 이 호출에서 카운터를 만들었으면 true
+     */
+    private boolean createIfAbsent(Long userId) {
+        try {
+            todoCounterCreator.create(userId);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Todo 카운터가 동시에 생성됨: userId={}", userId);
+            return false;
+        }
+    }
+
+    private TodoStats computeStats(Long userId) {
+        return TodoStats.from(todoRepository.countGroupedByUserId(userId));
+    }
+
+    private boolean matches(TodoCounter counter, TodoStats actual) {
+        return counter.getTotalCount() == actual.getTotalCount()
+                && counter.getCompletedCount() == actual.getCompletedCount()
+                && counter.getHighPriorityCount() == actual.getHighPriorityCount()
+                && counter.getMediumPriorityCount() == actual.getMediumPriorityCount()
+                && counter.getLowPriorityCount() == actual.getLowPriorityCount();
+    }
+
+    private void copyStats(TodoStats stats, TodoCounter counter) {
+        counter.setTotalCount(stats.getTotalCount());
+        counter.setCompletedCount(stats.getCompletedCount());
+        counter.setHighPriorityCount(stats.getHighPriorityCount());
+        counter.setMediumPriorityCount(stats.getMediumPriorityCount());
+        counter.setLowPriorityCount(stats.getLowPriorityCount());
+    }
+}
@@ -0,0 +1,328 @@
+package com.keon.todoapp.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 Todo 변경 이벤트를 실시간 구독자(열려 있는 탭)에게 나눠 주는 프로세스 내 버스
+ * 구독자마다 크기가 제한된 버퍼를 두고, 이벤트를 발행하는 쪽은 버퍼에 넣기만 하며 전송은 별도 전송 스레드가 합니다.
+ * 따라서 느린 구독자가 Todo를 변경하는 요청을 막지 않으며, 버퍼가 넘친 구독자에게는 밀린 이벤트 대신
+ * 목록 재조회 이벤트 하나만 보냅니다. 전송/버림/구독자 수는 Micrometer 지표로 제공합니다.
+ * 한 번의 전송이 제한 시간을 넘기면 그 구독을 끊고 전송 스레드를 하나 보충하므로,
+ * 응답을 읽지 않는 클라이언트가 공유 전송 스레드를 붙잡아 다른 구독자의 전송을 막지 못합니다.
+ */
+@Slf4j
+@Component
+public class TodoEventBus implements MeterBinder {
+
+    /**
+     * 연결 유지 메시지 표시용 이벤트 (구독자에게는 빈 메시지로 전송)
+     */
+    private static final TodoLiveEvent HEARTBEAT = TodoLiveEvent.resync(null);
+
+    /**
+     * 전송 중이 아님 / 전송 제한 시간 초과로 끊긴 구독의 전송 시작 시각 표시값
+     */
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MAX_VALUE;
+
+    private final int bufferSize;
+    private final int maxSubscribersPerUser;
+    private final long writeTimeoutNanos;
+    private final ThreadPoolExecutor sender;
+    private final Map<Long, List<Subscription>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder writeTimeouts = new LongAdder();
+
+    public TodoEventBus(@Value("${todo.stream.buffer-size:64}") int bufferSize,
+                        @Value("${todo.stream.max-subscribers-per-user:8}") int maxSubscribersPerUser,
+                        @Value("${todo.stream.sender-threads:2}") int senderThreads,
+                        @Value("${todo.stream.write-timeout:PT10S}") Duration writeTimeout) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribersPerUser = maxSubscribersPerUser;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        // 구독자마다 대기 중인 전송 작업은 최대 하나이므로 작업 큐는 구독자 수로 제한됨
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "todo-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 사용자의 Todo 변경 이벤트를 구독합니다.
+     * 사용자별 최대 구독자 수를 넘으면 가장 오래된 구독을 종료합니다.
+     *
+     * @param userId 사용자 ID
+     * @param sink 이벤트를 전송할 대상
+     * @return 구독 (연결이 끝나면 {@link Subscription#cancel()} 호출)
+     */
+    public Subscription subscribe(Long userId, TodoEventSink sink) {
+        Subscription subscription = new Subscription(userId, sink);
+        List<Subscription> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, list) -> {
+            List<Subscription> current = list == null ? new CopyOnWriteArrayList<>() : list;
+            current.add(subscription);
+            while (current.size() > maxSubscribersPerUser) {
+                evicted.add(current.remove(0));
+            }
+            return current;
+        });
+        subscriberCount.incrementAndGet();
+        evicted.forEach(Subscription::cancel);
+        return subscription;
+    }
+
+    /**
+     * 커밋된 Todo 변경을 해당 사용자의 구독자 버퍼에 넣습니다.
+     * 버퍼에 넣기만 하고 바로 반환하므로 구독자 연결 상태와 무관하게 호출 스레드를 막지 않습니다.
+     *
+     * @param event Todo 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(TodoLiveEvent event) {
+        List<Subscription> targets = subscribers.get(event.getUserId());
+        if (targets == null) {
+            return;
+        }
+        for (Subscription subscription : targets) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * 모든 구독자에게 연결 유지 메시지를 보냅니다.
+     * 프록시가 유휴 연결을 끊지 않게 하고, 끊어진 연결을 찾아 구독을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.stream.heartbeat-interval-ms:25000}",
+            initialDelayString = "${todo.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (List<Subscription> targets : subscribers.values()) {
+            for (Subscription subscription : targets) {
+                subscription.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * 전송 제한 시간을 넘긴 구독을 끊습니다.
+     * 막힌 전송 스레드는 컨테이너의 소켓 쓰기 시간 제한으로 풀려날 때까지 돌아오지 않으므로,
+     * 그동안 다른 구독자의 전송이 밀리지 않도록 전송 스레드를 하나 보충합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.stream.write-check-interval-ms:1000}",
+            initialDelayString = "${todo.stream.write-check-interval-ms:1000}")
+    public void expireStalledWrites() {
+        long now = System.nanoTime();
+        for (List<Subscription> targets : subscribers.values()) {
+            for (Subscription subscription : targets) {
+                subscription.expireIfStalled(now);
+            }
+        }
+    }
+
+    /**
+     * 현재 구독자 수를 반환합니다.
+     *
+     * @return 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(Subscription::cancel));
+        sender.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("실시간 Todo 변경 구독자 수")
+                .register(registry);
+        FunctionCounter.builder("todo.stream.events", delivered, LongAdder::sum)
+                .description("구독자에게 전송한 Todo 변경 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("todo.stream.overflows", overflows, LongAdder::sum)
+                .description("버퍼가 넘쳐 이벤트를 버리고 재조회를 요청한 횟수")
+                .register(registry);
+        FunctionCounter.builder("todo.stream.write.timeouts", writeTimeouts, LongAdder::sum)
+                .description("전송 제한 시간을 넘겨 끊은 구독 수")
+                .register(registry);
+    }
+
+    private void addSenderThread() {
+        synchronized (sender) {
+            int size = sender.getMaximumPoolSize() + 1;
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        }
+    }
+
+    private void removeSenderThread() {
+        synchronized (sender) {
+            int size = sender.getCorePoolSize() - 1;
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * 한 구독자의 버퍼와 전송 상태
+     * 전송 작업은 한 번에 하나만 예약되므로 같은 구독자에게는 이벤트가 순서대로, 동시에 전송되지 않습니다.
+     */
+    public final class Subscription {
+
+        private final Long userId;
+        private final TodoEventSink sink;
+        private final BlockingQueue<TodoLiveEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicLong writeStartedNanos = new AtomicLong(IDLE);
+
+        private Subscription(Long userId, TodoEventSink sink) {
+            this.userId = userId;
+            this.sink = sink;
+        }
+
+        /**
+         * 구독을 종료하고 연결을 닫습니다. 여러 번 호출해도 한 번만 처리됩니다.
+         */
+        public void cancel() {
+            if (detach()) {
+                sink.close();
+            }
+        }
+
+        private boolean detach() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.computeIfPresent(userId, (id, list) -> {
+                list.remove(this);
+                return list.isEmpty() ? null : list;
+            });
+            subscriberCount.decrementAndGet();
+            buffer.clear();
+            return true;
+        }
+
+        private void expireIfStalled(long now) {
+            long started = writeStartedNanos.get();
+            if (started == IDLE || started == STALLED || now - started < writeTimeoutNanos) {
+                return;
+            }
+            if (!writeStartedNanos.compareAndSet(started, STALLED)) {
+                return;
+            }
+            log.debug("Todo 변경 전송 제한 시간 초과로 구독 종료: userId={}", userId);
+            writeTimeouts.increment();
+            // 연결은 막힌 전송이 끝난 뒤 전송 스레드가 닫음 (닫기도 같은 응답에 쓰므로 여기서 부르면 함께 막힘)
+            detach();
+            addSenderThread();
+        }
+
+        private void offer(TodoLiveEvent event) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                if (event == HEARTBEAT) {
+                    // 보낼 이벤트가 쌓여 있으면 연결 유지 메시지는 필요 없음
+                    return;
+                }
+                // 밀린 이벤트를 버리고 재조회 요청 하나로 대체
+                overflows.increment();
+                TodoLiveEvent resync = TodoLiveEvent.resync(userId);
+                do {
+                    buffer.clear();
+                } while (!buffer.offer(resync));
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                cancel();
+            }
+        }
+
+        private void drain() {
+            TodoLiveEvent event;
+            while (!cancelled.get() && (event = buffer.poll()) != null) {
+                long started = System.nanoTime();
+                writeStartedNanos.set(started);
+                Exception failure = null;
+                try {
+                    send(event);
+                } catch (IOException | RuntimeException e) {
+                    failure = e;
+                }
+                if (!writeStartedNanos.compareAndSet(started, IDLE)) {
+                    // 제한 시간을 넘겨 구독이 끊기고 전송 스레드가 보충됨 - 연결을 닫고 보충분을 되돌림
+                    sink.close();
+                    removeSenderThread();
+                    return;
+                }
+                if (failure != null) {
+                    log.debug("Todo 변경 구독 연결 종료: userId={}, reason={}", userId, failure.toString());
+                    scheduled.set(false);
+                    cancel();
+                    return;
+                }
+            }
+            scheduled.set(false);
+            // 전송을 마친 뒤 예약 해제 전에 들어온 이벤트가 남아 있으면 다시 예약
+            if (!buffer.isEmpty() && !cancelled.get()) {
+                schedule();
+            }
+        }
+
+        private void send(TodoLiveEvent event) throws IOException {
+            if (event == HEARTBEAT) {
+                sink.sendHeartbeat();
+            } else {
+                sink.send(event);
+                delivered.increment();
+            }
+        }
+    }
+}
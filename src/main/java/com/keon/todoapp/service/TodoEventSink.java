@@ -0,0 +1,30 @@
+package com.keon.todoapp.service;
+
+import java.io.IOException;
+
+/**
+ * {@link TodoEventBus} 구독자에게 이벤트를 실제로 전송하는 대상 (예: SSE 연결)
+ * 전송은 버스의 전송 스레드에서만 호출되며, 한 구독자에 대해 동시에 호출되지 않습니다.
+ */
+public interface TodoEventSink {
+
+    /**
+     * 변경 이벤트를 전송합니다.
+     *
+     * @param event 변경 이벤트
+     * @throws IOException 연결이 끊어진 경우
+     */
+    void send(TodoLiveEvent event) throws IOException;
+
+    /**
+     * 연결 유지용 빈 메시지를 전송합니다.
+     *
+     * @throws IOException 연결이 끊어진 경우
+     */
+    void sendHeartbeat() throws IOException;
+
+    /**
+     * 연결을 종료합니다.
+     */
+    void close();
+}
@@ -0,0 +1,133 @@
+package com.keon.todoapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 사용자의 Todo를 CSV/NDJSON으로 내보내는 서비스
+ * 스트림으로 한 건씩 읽어 바로 출력하고 출력한 엔티티는 분리(detach)하므로, Todo 개수와 무관하게 힙 사용량이 일정합니다.
+ * CSV 열 구성은 가져오기({@link TodoImportService})와 같아 내보낸 파일을 그대로 다시 가져올 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "title,description,category,priority,completed,dueDate,createdDate";
+
+    /**
+     * 이 개수만큼 쓸 때마다 출력 스트림을 비워 클라이언트로 바로 전송
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * 사용자의 모든 Todo를 지정한 형식으로 출력합니다.
+     *
+     * @param user 사용자
+     * @param format 출력 형식
+     * @param out 출력 스트림 (호출자가 닫음)
+     * @return 출력한 Todo 개수
+     * @throws IOException 출력 실패 (클라이언트 연결 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public long export(User user, TodoFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+
+        if (format == TodoFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            writer.flush();
+        }
+
+        try (Stream<Todo> todos = todoRepository.streamByUserId(user.getId())) {
+            Iterator<Todo> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                Todo todo = iterator.next();
+                if (format == TodoFileFormat.CSV) {
+                    writeCsv(writer, todo);
+                } else {
+                    writeNdjson(writer, todo);
+                }
+                entityManager.detach(todo);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.debug("Todo 내보내기 완료: userId={}, format={}, count={}", user.getId(), format, count);
+        return count;
+    }
+
+    private void writeCsv(Writer writer, Todo todo) throws IOException {
+        writer.write(csvField(todo.getTitle()));
+        writer.write(',');
+        writer.write(csvField(todo.getDescription()));
+        writer.write(',');
+        writer.write(csvField(todo.getCategory()));
+        writer.write(',');
+        writer.write(todo.getPriority().name());
+        writer.write(',');
+        writer.write(Boolean.toString(todo.isCompleted()));
+        writer.write(',');
+        writer.write(dateField(todo.getDueDate()));
+        writer.write(',');
+        writer.write(dateField(todo.getCreatedDate()));
+        writer.write('\n');
+    }
+
+    private void writeNdjson(Writer writer, Todo todo) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("title", todo.getTitle());
+        node.put("description", todo.getDescription());
+        node.put("category", todo.getCategory());
+        node.put("priority", todo.getPriority().name());
+        node.put("completed", todo.isCompleted());
+        node.put("dueDate", todo.getDueDate() == null ? null : todo.getDueDate().toString());
+        node.put("createdDate", todo.getCreatedDate() == null ? null : todo.getCreatedDate().toString());
+        writer.write(objectMapper.writeValueAsString(node));
+        writer.write('\n');
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표를 이스케이프합니다.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String dateField(LocalDate date) {
+        return date == null ? "" : date.toString();
+    }
+}
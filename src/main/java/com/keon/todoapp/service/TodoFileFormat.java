@@ -0,0 +1,85 @@
+package com.keon.todoapp.service;
+
+import java.util.Locale;
+
+/**
+ * Todo 가져오기/내보내기 파일 형식
+ */
+public enum TodoFileFormat {
+
+    /**
+     * 헤더 행이 있는 CSV (RFC 4180 따옴표 규칙)
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * 한 줄에 JSON 객체 하나 (Newline Delimited JSON)
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    TodoFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 형식 이름(csv, ndjson, jsonl)으로 형식을 찾습니다.
+     *
+     * @param name 형식 이름 (대소문자 무시)
+     * @return 형식, 알 수 없으면 null
+     */
+    public static TodoFileFormat fromName(String name) {
+        return name == null ? null : fromFilename("." + name);
+    }
+
+    /**
+     * Content-Type으로 형식을 판단합니다.
+     *
+     * @param contentType Content-Type 헤더 값
+     * @return 형식, 알 수 없으면 null
+     */
+    public static TodoFileFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/ndjson")) {
+            return NDJSON;
+        }
+        return null;
+    }
+
+    /**
+     * 파일 확장자로 형식을 판단합니다.
+     *
+     * @param filename 파일명
+     * @return 형식, 알 수 없으면 null
+     */
+    public static TodoFileFormat fromFilename(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        String name = filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        return null;
+    }
+}
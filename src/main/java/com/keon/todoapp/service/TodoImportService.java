@@ -0,0 +1,303 @@
+package com.keon.todoapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keon.todoapp.dto.TodoImportError;
+import com.keon.todoapp.dto.TodoImportResult;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV/NDJSON 형식의 Todo 대량 가져오기를 처리하는 서비스
+ * 입력을 한 행씩 읽어 검증하고, 설정된 크기의 청크 단위로 {@link TodoService#createTodos}를 통해 배치 저장합니다.
+ * 파일 전체나 전체 엔티티를 메모리에 올리지 않으므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoImportService {
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final List<String> FIELDS =
+            Arrays.asList("title", "description", "category", "priority", "completed", "duedate");
+
+    private final TodoService todoService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${todo.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${todo.import.max-errors:100}")
+    private int maxErrors;
+
+    /**
+     * 입력 스트림의 Todo를 가져옵니다.
+     * 각 청크는 별도 트랜잭션으로 저장되므로, 일부 청크가 실패해도 나머지는 저장됩니다.
+     *
+     * @param reader 입력 (호출자가 닫음)
+     * @param format 입력 형식
+     * @param user Todo를 소유할 사용자
+     * @return 가져오기 결과 (처리량 포함)
+     */
+    public TodoImportResult importTodos(Reader reader, TodoFileFormat format, User user) {
+        ImportSession session = new ImportSession(user);
+        try {
+            if (format == TodoFileFormat.CSV) {
+                readCsv(new CsvRecordReader(new BufferedReader(reader)), session);
+            } else {
+                readNdjson(new NdjsonLineReader(new BufferedReader(reader)), session);
+            }
+        } catch (IOException e) {
+            // 입력 자체를 더 읽을 수 없는 경우: 이미 읽은 행까지만 저장
+            session.fail(session.lastLine, "입력을 읽을 수 없습니다: " + e.getMessage());
+        }
+        session.flush();
+
+        TodoImportResult result = session.toResult();
+        log.info("Todo 가져오기 완료: userId={}, format={}, total={}, imported={}, failed={}, {}ms ({}행/초)",
+                user.getId(), format, result.getTotalRows(), result.getImportedRows(), result.getFailedRows(),
+                result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    private void readCsv(CsvRecordReader csv, ImportSession session) throws IOException {
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+        if (csv.isTooWide()) {
+            session.lastLine = csv.getRecordLine();
+            throw new IOException("CSV 헤더의 열이 너무 많습니다 (최대 " + CsvRecordReader.MAX_FIELDS + "개)");
+        }
+        String[] columns = new String[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns[i] = FIELDS.contains(name) ? name : null;
+        }
+        if (!Arrays.asList(columns).contains("title")) {
+            session.lastLine = csv.getRecordLine();
+            throw new IOException("CSV 헤더에 title 열이 없습니다");
+        }
+        // 끝의 쉼표 하나는 허용하고, 그보다 열이 많은 레코드는 오류로 기록
+        csv.setMaxFields(columns.length + 1);
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            long line = csv.getRecordLine();
+            session.lastLine = line;
+            if (csv.isTooWide()) {
+                session.reject(line, "열이 너무 많습니다 (최대 " + (columns.length + 1) + "개)");
+                continue;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < columns.length && i < record.size(); i++) {
+                if (columns[i] != null) {
+                    values.put(columns[i], record.get(i));
+                }
+            }
+            session.accept(line, values);
+        }
+    }
+
+    private void readNdjson(NdjsonLineReader lines, ImportSession session) throws IOException {
+        String text;
+        long line = 0;
+        while ((text = lines.readLine()) != null) {
+            line++;
+            session.lastLine = line;
+            if (lines.isTooLong()) {
+                session.reject(line, "행이 너무 깁니다 (최대 " + NdjsonLineReader.MAX_LINE_LENGTH + "자)");
+                continue;
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                session.reject(line, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                continue;
+            }
+            if (node == null || !node.isObject()) {
+                session.reject(line, "각 행은 JSON 객체여야 합니다");
+                continue;
+            }
+
+            Map<String, String> values = new HashMap<>();
+            node.fields().forEachRemaining(entry -> {
+                String name = entry.getKey().toLowerCase(Locale.ROOT);
+                if (FIELDS.contains(name) && !entry.getValue().isNull()) {
+                    values.put(name, entry.getValue().asText());
+                }
+            });
+            session.accept(line, values);
+        }
+    }
+
+    /**
+     * 한 행의 값을 검증해 Todo로 변환합니다.
+     *
+     * @param values 필드명(소문자) → 값
+     * @return Todo
+     * @throws IllegalArgumentException 검증에 실패한 경우
+     */
+    Todo toTodo(Map<String, String> values) {
+        Todo todo = new Todo();
+        todo.setTitle(requireText(values, "title", "제목"));
+        // 카테고리가 없으면 '기타'로 분류
+        todo.setCategory(optionalText(values, "category") == null ? "기타" : requireText(values, "category", "카테고리"));
+        todo.setDescription(optionalText(values, "description"));
+
+        String priority = optionalText(values, "priority");
+        if (priority != null) {
+            todo.setPriority(TodoPriority.fromName(priority));
+        }
+
+        String completed = optionalText(values, "completed");
+        if (completed != null) {
+            if (!"true".equalsIgnoreCase(completed) && !"false".equalsIgnoreCase(completed)) {
+                throw new IllegalArgumentException("완료 여부는 true 또는 false여야 합니다: " + completed);
+            }
+            todo.setCompleted(Boolean.parseBoolean(completed.toLowerCase(Locale.ROOT)));
+        }
+
+        String dueDate = optionalText(values, "duedate");
+        if (dueDate != null) {
+            try {
+                todo.setDueDate(LocalDate.parse(dueDate));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("마감일 형식이 올바르지 않습니다 (yyyy-MM-dd): " + dueDate);
+            }
+        }
+        return todo;
+    }
+
+    private String requireText(Map<String, String> values, String field, String label) {
+        String value = optionalText(values, field);
+        if (value == null) {
+            throw new IllegalArgumentException(label + "은(는) 필수입니다");
+        }
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(label + "은(는) " + MAX_TEXT_LENGTH + "자를 넘을 수 없습니다");
+        }
+        return value;
+    }
+
+    private String optionalText(Map<String, String> values, String field) {
+        String value = values.get(field);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    /**
+     * 한 번의 가져오기 진행 상태 (현재 청크, 건수, 오류 목록)
+     */
+    private class ImportSession {
+
+        private final User user;
+        private final long startedAt = System.nanoTime();
+        private final List<Todo> chunk = new ArrayList<>();
+        private final List<TodoImportError> errors = new ArrayList<>();
+        private long chunkFirstLine;
+        private long lastLine;
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private boolean errorsTruncated;
+
+        private ImportSession(User user) {
+            this.user = user;
+        }
+
+        private void accept(long line, Map<String, String> values) {
+            totalRows++;
+            Todo todo;
+            try {
+                todo = toTodo(values);
+            } catch (IllegalArgumentException e) {
+                failedRows++;
+                addError(line, e.getMessage());
+                return;
+            }
+
+            if (chunk.isEmpty()) {
+                chunkFirstLine = line;
+            }
+            chunk.add(todo);
+            if (chunk.size() >= Math.max(1, chunkSize)) {
+                flush();
+            }
+        }
+
+        private void reject(long line, String message) {
+            totalRows++;
+            failedRows++;
+            addError(line, message);
+        }
+
+        private void fail(long line, String message) {
+            addError(line, message);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                todoService.createTodos(new ArrayList<>(chunk), user);
+                importedRows += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("Todo 가져오기 청크 저장 실패: userId={}, lines={}-{}", user.getId(), chunkFirstLine, lastLine, e);
+                failedRows += chunk.size();
+                addError(chunkFirstLine, chunk.size() + "개 행 저장 실패 (" + chunkFirstLine + "~" + lastLine + "행): "
+                        + e.getMessage());
+            } finally {
+                chunk.clear();
+                // 요청 범위 EntityManager(open-in-view)에 저장된 엔티티가 쌓이지 않도록 비움
+                entityManager.clear();
+            }
+        }
+
+        private void addError(long line, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new TodoImportError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        private TodoImportResult toResult() {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            return new TodoImportResult(totalRows, importedRows, failedRows, List.copyOf(errors),
+                    errorsTruncated, elapsedMillis);
+        }
+    }
+}
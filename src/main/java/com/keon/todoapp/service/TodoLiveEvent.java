@@ -0,0 +1,117 @@
+package com.keon.todoapp.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 열려 있는 Todo 목록 화면에 실시간으로 알리는 변경 이벤트
+ * TodoService가 발행하고, 트랜잭션 커밋 후 {@link TodoEventBus}가 해당 사용자의 구독자에게 전달합니다.
+ * 화면이 변경 내용을 직접 반영할 수 있도록 종류와 대상 ID만 담은 작은 JSON으로 전송됩니다.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoLiveEvent {
+
+    /**
+     * 이벤트 종류
+     */
+    public enum Type {
+        CREATED, UPDATED, TOGGLED, DELETED,
+
+        /**
+         * 완료된 Todo 전체 삭제 (대상 ID 없음)
+         */
+        CLEARED,
+
+        /**
+         * 구독자 버퍼가 넘쳐 이벤트가 버려졌으므로 목록을 다시 불러와야 함
+         */
+        RESYNC;
+
+        @JsonValue
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @JsonIgnore
+    Long userId;
+    Type type;
+    Collection<Long> ids;
+
+    /**
+     * 변경 후 완료 상태 (TOGGLED 이벤트에만 있음)
+     */
+    Boolean completed;
+
+    /**
+     * Todo 생성 이벤트
+     *
+     * @param userId 사용자 ID
+     * @param todoIds 생성된 Todo ID 목록
+     * @return 이벤트
+     */
+    public static TodoLiveEvent created(Long userId, Collection<Long> todoIds) {
+        return new TodoLiveEvent(userId, Type.CREATED, todoIds, null);
+    }
+
+    /**
+     * Todo 수정 이벤트 (내용 또는 우선순위 변경)
+     *
+     * @param userId 사용자 ID
+     * @param todoIds 수정된 Todo ID 목록
+     * @return 이벤트
+     */
+    public static TodoLiveEvent updated(Long userId, Collection<Long> todoIds) {
+        return new TodoLiveEvent(userId, Type.UPDATED, todoIds, null);
+    }
+
+    /**
+     * 완료 상태 변경 이벤트
+     *
+     * @param userId 사용자 ID
+     * @param todoIds 상태가 바뀐 Todo ID 목록
+     * @param completed 변경 후 완료 상태
+     * @return 이벤트
+     */
+    public static TodoLiveEvent toggled(Long userId, Collection<Long> todoIds, boolean completed) {
+        return new TodoLiveEvent(userId, Type.TOGGLED, todoIds, completed);
+    }
+
+    /**
+     * Todo 삭제 이벤트
+     *
+     * @param userId 사용자 ID
+     * @param todoIds 삭제된 Todo ID 목록
+     * @return 이벤트
+     */
+    public static TodoLiveEvent deleted(Long userId, Collection<Long> todoIds) {
+        return new TodoLiveEvent(userId, Type.DELETED, todoIds, null);
+    }
+
+    /**
+     * 완료된 Todo 전체 삭제 이벤트
+     *
+     * @param userId 사용자 ID
+     * @return 이벤트
+     */
+    public static TodoLiveEvent cleared(Long userId) {
+        return new TodoLiveEvent(userId, Type.CLEARED, List.of(), null);
+    }
+
+    /**
+     * 목록 재조회 요청 이벤트
+     *
+     * @param userId 사용자 ID
+     * @return 이벤트
+     */
+    public static TodoLiveEvent resync(Long userId) {
+        return new TodoLiveEvent(userId, Type.RESYNC, List.of(), null);
+    }
+}
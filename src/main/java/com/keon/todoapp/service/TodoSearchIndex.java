@@ -0,0 +1,457 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자별 Todo 역색인 (메모리)
+ * 제목과 설명을 {@link TodoSearchTokenizer}로 나눈 색인어 → Todo 목록을 정렬 맵으로 유지하므로,
+ * 접두어 검색이 전체 Todo를 훑지 않고 해당 색인어 범위만 조회하며, 점수가 높은 묶음부터 읽어 상위 결과만 확정합니다.
+ * DB가 원본이며, 이 색인은 {@link TodoSearchService}가 시작 시 재구성하고 변경 이벤트로 증분 갱신합니다.
+ * 메모리에 유지하는 사용자 색인 수는 최대치로 제한하며, 넘으면 가장 오래 검색하지 않은 사용자의 색인(LRU)을 제거합니다.
+ * 제거된 사용자는 다음 검색 때 다시 적재됩니다.
+ */
+@Component
+public class TodoSearchIndex {
+
+    /**
+     * 색인어 출처 등급 - 제목 단어, 제목 단어 중간(한글 접미어), 설명 단어, 설명 단어 중간 순으로 가중치가 높습니다.
+     */
+    private static final int TITLE_WORD = 0;
+    private static final int TITLE_INFIX = 1;
+    private static final int DESCRIPTION_WORD = 2;
+    private static final int DESCRIPTION_INFIX = 3;
+    private static final int[] GRADE_WEIGHTS = {8, 4, 2, 1};
+
+    /**
+     * 색인어가 검색어와 정확히 일치할 때 접두어 일치 대비 배율 (제목 일치가 설명 일치보다 항상 앞서도록 등급 간 가중치 차이보다 작게 유지)
+     */
+    static final double EXACT_MATCH_BOOST = 1.5;
+
+    /**
+     * 색인어별 Todo 목록의 키 = (등급 역순 << 56) | Todo ID
+     * 내림차순으로 순회하면 높은 등급부터, 같은 등급 안에서는 최신(ID 큰) Todo부터 나옵니다.
+     */
+    private static final int ID_BITS = 56;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+
+    private final int maxLoadedUsers;
+    private final Map<Long, UserIndex> userIndexes;
+
+    public TodoSearchIndex(@Value("${todo.search.max-loaded-users:1000}") int maxLoadedUsers) {
+        this.maxLoadedUsers = maxLoadedUsers;
+        this.userIndexes = new LinkedHashMap<Long, UserIndex>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserIndex> eldest) {
+                return size() > TodoSearchIndex.this.maxLoadedUsers;
+            }
+        };
+    }
+
+    /**
+     * 메모리에 유지할 최대 사용자 색인 수를 반환합니다.
+     *
+     * @return 최대 사용자 색인 수
+     */
+    public int getMaxLoadedUsers() {
+        return maxLoadedUsers;
+    }
+
+    /**
+     * 현재 메모리에 올라와 있는 사용자 색인 수를 반환합니다.
+     *
+     * @return 사용자 색인 수
+     */
+    public int loadedUsers() {
+        synchronized (userIndexes) {
+            return userIndexes.size();
+        }
+    }
+
+    /**
+     * 사용자 색인이 메모리에 올라와 있는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 색인 존재 여부
+     */
+    public boolean isLoaded(Long userId) {
+        synchronized (userIndexes) {
+            return userIndexes.containsKey(userId);
+        }
+    }
+
+    /**
+     * 사용자 색인을 새로 만들어 교체합니다.
+     * 새 색인을 먼저 등록하고 쓰기 잠금을 쥔 채로 채우므로, 적재 중에 도착한 변경은 적재가 끝난 뒤 반영됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param todos 사용자의 전체 Todo (소비 후 닫는 것은 호출자 책임)
+     * @return 색인한 Todo 개수
+     */
+    public int load(Long userId, Iterator<Todo> todos) {
+        UserIndex index = new UserIndex();
+        index.lock.writeLock().lock();
+        try {
+            synchronized (userIndexes) {
+                userIndexes.put(userId, index);
+            }
+            int count = 0;
+            while (todos.hasNext()) {
+                index.put(todos.next());
+                count++;
+            }
+            return count;
+        } catch (RuntimeException e) {
+            synchronized (userIndexes) {
+                userIndexes.remove(userId, index);
+            }
+            throw e;
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 색인을 메모리에서 제거합니다. 다음 검색 시 다시 적재됩니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        synchronized (userIndexes) {
+            userIndexes.remove(userId);
+        }
+    }
+
+    /**
+     * 생성되거나 수정된 Todo를 색인에 반영합니다. 색인이 적재되지 않은 사용자는 무시합니다.
+     *
+     * @param userId 사용자 ID
+     * @param todos 반영할 Todo 목록
+     */
+    public void put(Long userId, Collection<Todo> todos) {
+        UserIndex index = get(userId);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            todos.forEach(index::put);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 Todo를 색인에서 제거합니다.
+     *
+     * @param userId 사용자 ID
+     * @param todoIds 제거할 Todo ID 목록
+     */
+    public void remove(Long userId, Collection<Long> todoIds) {
+        UserIndex index = get(userId);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            todoIds.forEach(index::remove);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어를 접두어로 포함하는 Todo를 점수 순으로 찾습니다.
+     * 점수는 단어마다 가장 잘 맞는 색인어의 (출처 등급 가중치 × 정확 일치 배율 × IDF)를 더한 값입니다.
+     *
+     * @param userId 사용자 ID
+     * @param query 검색어
+     * @param limit 최대 결과 개수
+     * @return Todo ID 목록 (점수 내림차순, 같으면 ID 내림차순)
+     */
+    public List<Long> search(Long userId, String query, int limit) {
+        List<String> words = TodoSearchTokenizer.words(query);
+        UserIndex index = get(userId);
+        if (words.isEmpty() || index == null || limit <= 0) {
+            return List.of();
+        }
+
+        index.lock.readLock().lock();
+        try {
+            return index.search(words, limit);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 색인을 조회하며, 최근 사용 순서를 갱신합니다.
+     */
+    private UserIndex get(Long userId) {
+        synchronized (userIndexes) {
+            return userIndexes.get(userId);
+        }
+    }
+
+    private static long key(int grade, long todoId) {
+        return ((long) (GRADE_WEIGHTS.length - 1 - grade) << ID_BITS) | todoId;
+    }
+
+    /**
+     * 사용자 한 명의 색인
+     * 색인어 → Todo 키 정렬 집합과, Todo별 정렬된 색인어 배열(수정/삭제 시 이전 색인어 제거와 다중 단어 검색의 점수 계산용)을 함께 유지합니다.
+     */
+    private static final class UserIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<String, TreeSet<Long>> postings = new TreeMap<>();
+        private final Map<Long, TodoTerms> termsByTodo = new HashMap<>();
+
+        void put(Todo todo) {
+            Long todoId = todo.getId();
+            remove(todoId);
+
+            TreeMap<String, Integer> grades = new TreeMap<>();
+            collect(grades, todo.getTitle(), TITLE_WORD, TITLE_INFIX);
+            collect(grades, todo.getDescription(), DESCRIPTION_WORD, DESCRIPTION_INFIX);
+
+            String[] terms = new String[grades.size()];
+            byte[] termGrades = new byte[grades.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : grades.entrySet()) {
+                terms[i] = entry.getKey();
+                termGrades[i] = entry.getValue().byteValue();
+                postings.computeIfAbsent(entry.getKey(), term -> new TreeSet<>()).add(key(entry.getValue(), todoId));
+                i++;
+            }
+            termsByTodo.put(todoId, new TodoTerms(terms, termGrades));
+        }
+
+        void remove(Long todoId) {
+            TodoTerms todoTerms = termsByTodo.remove(todoId);
+            if (todoTerms == null) {
+                return;
+            }
+            for (int i = 0; i < todoTerms.terms.length; i++) {
+                TreeSet<Long> keys = postings.get(todoTerms.terms[i]);
+                keys.remove(key(todoTerms.grades[i], todoId));
+                if (keys.isEmpty()) {
+                    postings.remove(todoTerms.terms[i]);
+                }
+            }
+        }
+
+        /**
+         * 후보가 가장 적은 단어를 기준으로, 그 단어의 (색인어, 등급) 묶음을 점수 내림차순으로 순회합니다.
+         * 다른 단어의 점수는 후보 Todo의 색인어 배열에서 계산하며, 남은 묶음의 최대 가능 점수가
+         * 현재 상위 limit번째 결과를 넘을 수 없게 되면 더 보지 않습니다. 단어가 하나면 상위 limit개를 찾는 즉시 끝납니다.
+         */
+        List<Long> search(List<String> words, int limit) {
+            String composing = words.get(words.size() - 1);
+            List<WordMatch> matches = new ArrayList<>();
+            for (String word : new LinkedHashSet<>(words)) {
+                WordMatch match = new WordMatch(word, word.equals(composing));
+                if (match.groups.isEmpty()) {
+                    return List.of();
+                }
+                matches.add(match);
+            }
+            matches.sort(Comparator.comparingLong(match -> match.candidates));
+
+            WordMatch driver = matches.get(0);
+            List<WordMatch> others = matches.subList(1, matches.size());
+            double othersMaxScore = 0;
+            for (WordMatch other : others) {
+                othersMaxScore += other.maxScore;
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1);
+            Set<Long> seen = new HashSet<>();
+            for (Group group : driver.groups) {
+                double upperBound = group.score + othersMaxScore;
+                if (top.size() == limit && upperBound < top.peek().score) {
+                    break;
+                }
+
+                Iterator<Long> keys = group.keys.descendingIterator();
+                while (keys.hasNext()) {
+                    long todoId = keys.next() & ID_MASK;
+                    // 묶음 안에서는 ID가 작아지기만 하므로, 최대 가능 점수로도 상위에 들 수 없으면 나머지도 마찬가지
+                    if (top.size() == limit && !top.peek().isBelow(upperBound, todoId)) {
+                        break;
+                    }
+                    // 묶음을 점수 내림차순으로 보므로 처음 만난 점수가 해당 Todo의 최고 점수
+                    if (!seen.add(todoId)) {
+                        continue;
+                    }
+
+                    double score = score(todoId, group.score, others);
+                    if (score > 0) {
+                        top.offer(new Hit(todoId, score));
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.reverseOrder());
+            List<Long> todoIds = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                todoIds.add(hit.todoId);
+            }
+            return todoIds;
+        }
+
+        private double score(long todoId, double driverScore, List<WordMatch> others) {
+            double score = driverScore;
+            if (others.isEmpty()) {
+                return score;
+            }
+            TodoTerms todoTerms = termsByTodo.get(todoId);
+            for (WordMatch other : others) {
+                double otherScore = other.scoreOf(todoTerms);
+                if (otherScore == 0) {
+                    return 0;
+                }
+                score += otherScore;
+            }
+            return score;
+        }
+
+        private double termScore(String term, String word, int todoCount) {
+            double idf = Math.log(1.0 + (double) termsByTodo.size() / todoCount);
+            return term.equals(word) ? idf * EXACT_MATCH_BOOST : idf;
+        }
+
+        private static void collect(Map<String, Integer> grades, String text, int wordGrade, int infixGrade) {
+            for (String word : TodoSearchTokenizer.words(text)) {
+                grades.merge(word, wordGrade, Math::min);
+                for (String suffix : TodoSearchTokenizer.hangulSuffixes(word)) {
+                    grades.merge(suffix, infixGrade, Math::min);
+                }
+            }
+        }
+
+        /**
+         * 검색어 단어 하나에 매칭되는 (색인어, 등급) 묶음 목록
+         */
+        private final class WordMatch {
+
+            private final String word;
+            private final String from;
+            private final String to;
+            private final List<Group> groups = new ArrayList<>();
+            private long candidates;
+            private double maxScore;
+
+            WordMatch(String word, boolean composing) {
+                String[] range = TodoSearchTokenizer.prefixRange(word, composing);
+                this.word = word;
+                this.from = range[0];
+                this.to = range[1];
+
+                for (Map.Entry<String, TreeSet<Long>> entry : postings.subMap(from, true, to, false).entrySet()) {
+                    TreeSet<Long> keys = entry.getValue();
+                    double termScore = termScore(entry.getKey(), word, keys.size());
+                    for (int grade = 0; grade < GRADE_WEIGHTS.length; grade++) {
+                        NavigableSet<Long> gradeKeys = keys.subSet(key(grade, 0), true, key(grade, ID_MASK), true);
+                        if (!gradeKeys.isEmpty()) {
+                            groups.add(new Group(GRADE_WEIGHTS[grade] * termScore, gradeKeys));
+                        }
+                    }
+                    candidates += keys.size();
+                }
+                groups.sort(Comparator.comparingDouble((Group group) -> group.score).reversed());
+                maxScore = groups.isEmpty() ? 0 : groups.get(0).score;
+            }
+
+            double scoreOf(TodoTerms todoTerms) {
+                int i = Arrays.binarySearch(todoTerms.terms, from);
+                if (i < 0) {
+                    i = -i - 1;
+                }
+
+                double best = 0;
+                for (; i < todoTerms.terms.length && todoTerms.terms[i].compareTo(to) < 0; i++) {
+                    String term = todoTerms.terms[i];
+                    double score = GRADE_WEIGHTS[todoTerms.grades[i]] * termScore(term, word, postings.get(term).size());
+                    best = Math.max(best, score);
+                }
+                return best;
+            }
+        }
+    }
+
+    /**
+     * 같은 점수를 받는 Todo 키 묶음 (색인어 하나의 한 등급)
+     */
+    private static final class Group {
+
+        private final double score;
+        private final NavigableSet<Long> keys;
+
+        Group(double score, NavigableSet<Long> keys) {
+            this.score = score;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Todo 하나의 정렬된 색인어와 등급
+     */
+    private static final class TodoTerms {
+
+        private final String[] terms;
+        private final byte[] grades;
+
+        TodoTerms(String[] terms, byte[] grades) {
+            this.terms = terms;
+            this.grades = grades;
+        }
+    }
+
+    /**
+     * 검색 결과 후보 (점수, 같으면 ID 오름차순으로 비교 - 최소 힙에서 가장 약한 후보가 먼저 나옴)
+     */
+    private static final class Hit implements Comparable<Hit> {
+
+        private final long todoId;
+        private final double score;
+
+        Hit(long todoId, double score) {
+            this.todoId = todoId;
+            this.score = score;
+        }
+
+        boolean isBelow(double otherScore, long otherTodoId) {
+            return score < otherScore || (score == otherScore && todoId < otherTodoId);
+        }
+
+        @Override
+        public int compareTo(Hit other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(todoId, other.todoId);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 Todo 검색 색인 적재 작업
+ * 첫 검색이 색인 적재 비용을 치르지 않도록 사용자 색인을 미리 만들되, 색인이 메모리에 유지할 수 있는 사용자 수까지만 적재합니다.
+ * 적재 전에 들어온 검색은 해당 사용자의 색인을 직접 적재하므로, 이 작업은 지연만 줄여 줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexLoader {
+
+    private final UserRepository userRepository;
+    private final TodoSearchService todoSearchService;
+    private final TodoSearchIndex todoSearchIndex;
+
+    @Value("${todo.search.preload-on-startup:true}")
+    private boolean preloadOnStartup;
+
+    @Value("${todo.search.preload-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 사용자 ID 순서로 일정 크기씩 나누어 색인을 적재합니다.
+     * 사용자마다 별도 트랜잭션으로 스트리밍하므로 한 번에 메모리에 올리는 엔티티가 없습니다.
+     * 최대 사용자 색인 수를 넘겨 적재하면 앞서 적재한 색인이 곧바로 밀려나므로, 그 수에 도달하면 멈춥니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        if (!preloadOnStartup) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int users = 0;
+        long todos = 0;
+        int maxUsers = todoSearchIndex.getMaxLoadedUsers();
+
+        Long lastUserId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, PageRequest.of(0, batchSize));
+            for (Long userId : userIds) {
+                if (users >= maxUsers) {
+                    break;
+                }
+                try {
+                    todos += todoSearchService.rebuild(userId);
+                } catch (RuntimeException e) {
+                    log.error("Todo 검색 색인 적재 실패: userId={}", userId, e);
+                }
+                users++;
+                lastUserId = userId;
+            }
+        } while (userIds.size() == batchSize && users < maxUsers);
+
+        log.info("Todo 검색 색인 적재 완료: users={}, todos={}, elapsed={}ms",
+                users, todos, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,130 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Todo 제목/설명 검색 서비스
+ * DB에서 LIKE '%검색어%'로 전체를 훑는 대신 메모리 역색인({@link TodoSearchIndex})에서 ID를 찾고,
+ * 결과 Todo만 기본 키로 조회합니다. 색인은 사용자별로 처음 검색할 때 또는 시작 시 적재됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoSearchService {
+
+    /**
+     * 검색어 최대 길이
+     */
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private final TodoRepository todoRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final EntityManager entityManager;
+
+    /**
+     * 사용자의 Todo를 검색합니다.
+     * 검색어의 모든 단어를 제목 또는 설명에 접두어로 포함하는 Todo를 관련도 순으로 반환합니다.
+     *
+     * @param user 사용자
+     * @param query 검색어
+     * @param size 최대 결과 개수 (1 ~ {@link TodoService#MAX_PAGE_SIZE})
+     * @return 검색된 Todo 목록 (관련도 내림차순)
+     * @throws IllegalArgumentException 검색어가 너무 긴 경우
+     */
+    @Transactional(readOnly = true)
+    public List<Todo> search(User user, String query, int size) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 최대 " + MAX_QUERY_LENGTH + "자입니다.");
+        }
+
+        Long userId = user.getId();
+        if (!todoSearchIndex.isLoaded(userId)) {
+            load(userId);
+        }
+
+        int limit = Math.max(1, Math.min(size, TodoService.MAX_PAGE_SIZE));
+        List<Long> todoIds = todoSearchIndex.search(userId, query, limit);
+        if (todoIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Todo> found = new HashMap<>();
+        for (Todo todo : todoRepository.findAllById(todoIds)) {
+            if (userId.equals(todo.getUser().getId())) {
+                found.put(todo.getId(), todo);
+            }
+        }
+
+        // 색인 순서(관련도)를 유지하고, DB에 없는 ID는 색인에서 정리
+        List<Todo> results = new ArrayList<>(found.size());
+        List<Long> staleIds = new ArrayList<>();
+        for (Long todoId : todoIds) {
+            Todo todo = found.get(todoId);
+            if (todo != null) {
+                results.add(todo);
+            } else {
+                staleIds.add(todoId);
+            }
+        }
+        if (!staleIds.isEmpty()) {
+            todoSearchIndex.remove(userId, staleIds);
+        }
+        return results;
+    }
+
+    /**
+     * 사용자의 검색 색인을 DB에서 다시 만듭니다.
+     *
+     * @param userId 사용자 ID
+     * @return 색인한 Todo 개수
+     */
+    @Transactional(readOnly = true)
+    public int rebuild(Long userId) {
+        return load(userId);
+    }
+
+    /**
+     * 커밋된 Todo 변경을 검색 색인에 반영합니다.
+     * 롤백된 변경이 색인에 남지 않도록 커밋 후에만 처리합니다.
+     *
+     * @param event Todo 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.isReindexRequired()) {
+            todoSearchIndex.evict(event.getUserId());
+            return;
+        }
+        todoSearchIndex.remove(event.getUserId(), event.getDeletedIds());
+        todoSearchIndex.put(event.getUserId(), event.getSaved());
+    }
+
+    private int load(Long userId) {
+        long start = System.currentTimeMillis();
+        // 읽은 엔티티는 바로 분리해 영속성 컨텍스트가 Todo 개수만큼 커지지 않게 함
+        try (Stream<Todo> todos = todoRepository.streamByUserId(userId)) {
+            int count = todoSearchIndex.load(userId, todos.peek(entityManager::detach).iterator());
+            log.debug("Todo 검색 색인 적재: userId={}, todos={}, elapsed={}ms",
+                    userId, count, System.currentTimeMillis() - start);
+            return count;
+        }
+    }
+}
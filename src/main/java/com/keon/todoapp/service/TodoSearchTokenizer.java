@@ -0,0 +1,113 @@
+package com.keon.todoapp.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Todo 검색용 토크나이저
+ * 글자/숫자가 아닌 문자로 단어를 나누고 소문자로 정규화합니다.
+ * 한글은 조사와 복합어 때문에 띄어쓰기 단위로는 부분 검색이 되지 않으므로, 음절 위치마다 접미어를 추가 색인해
+ * 접두어 검색만으로 단어 중간("주간회의록"의 "회의")도 찾을 수 있게 합니다.
+ */
+final class TodoSearchTokenizer {
+
+    /**
+     * 색인/검색하는 단어의 최대 길이 (초과분은 잘라냄, 한글 접미어 수를 제한하기 위함)
+     */
+    static final int MAX_WORD_LENGTH = 32;
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int SYLLABLES_PER_CHOSEONG = JUNGSEONG_COUNT * JONGSEONG_COUNT;
+
+    /**
+     * 호환용 자모 자음 중 초성으로 쓰이는 글자 (초성 순서)
+     */
+    private static final String CHOSEONG_JAMO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private TodoSearchTokenizer() {
+    }
+
+    /**
+     * 텍스트를 정규화된 단어 목록으로 나눕니다.
+     * 조합형(NFD)으로 입력된 한글도 완성형으로 합친 뒤 나눕니다.
+     *
+     * @param text 원문 (null 가능)
+     * @return 소문자 단어 목록 (중복 포함, 입력 순서)
+     */
+    static List<String> words(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, Math.min(i, start + MAX_WORD_LENGTH)));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 단어의 한글 음절 위치에서 시작하는 접미어를 반환합니다 (단어 자체는 제외).
+     *
+     * @param word 정규화된 단어
+     * @return 접미어 목록 (한글이 없으면 빈 목록)
+     */
+    static List<String> hangulSuffixes(String word) {
+        List<String> suffixes = null;
+        for (int i = 1; i < word.length(); i++) {
+            if (isHangulSyllable(word.charAt(i))) {
+                if (suffixes == null) {
+                    suffixes = new ArrayList<>();
+                }
+                suffixes.add(word.substring(i));
+            }
+        }
+        return suffixes == null ? List.of() : suffixes;
+    }
+
+    /**
+     * 검색어 단어가 매칭할 색인어 범위를 계산합니다.
+     * 입력 중인 단어는 한글 조합 중일 수 있으므로 마지막 글자를 넓게 해석합니다.
+     * <ul>
+     *   <li>마지막 글자가 자음(예: "회ㅇ")이면 그 초성으로 시작하는 모든 음절 ("회의", "회원")</li>
+     *   <li>마지막 음절에 받침이 없으면(예: "하") 받침이 붙은 음절까지 ("한국", "할일")</li>
+     * </ul>
+     *
+     * @param word 정규화된 검색어 단어
+     * @param composing 입력 중인 단어인지 여부 (검색어의 마지막 단어)
+     * @return {시작(포함), 끝(미포함)}
+     */
+    static String[] prefixRange(String word, boolean composing) {
+        if (composing) {
+            String head = word.substring(0, word.length() - 1);
+            char last = word.charAt(word.length() - 1);
+
+            int choseong = CHOSEONG_JAMO.indexOf(last);
+            if (choseong >= 0) {
+                char first = (char) (HANGUL_FIRST + choseong * SYLLABLES_PER_CHOSEONG);
+                return new String[]{head + first, head + (char) (first + SYLLABLES_PER_CHOSEONG)};
+            }
+            if (isHangulSyllable(last) && (last - HANGUL_FIRST) % JONGSEONG_COUNT == 0) {
+                return new String[]{word, head + (char) (last + JONGSEONG_COUNT)};
+            }
+        }
+        return new String[]{word, word + Character.MAX_VALUE};
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_FIRST && c <= HANGUL_LAST;
+    }
+}
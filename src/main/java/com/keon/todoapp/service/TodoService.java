@@ -1,14 +1,29 @@
 package com.keon.todoapp.service;
 
+import com.keon.todoapp.dto.TodoCountRow;
+import com.keon.todoapp.dto.TodoCursor;
+import com.keon.todoapp.dto.TodoPage;
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.exception.TodoAccessDeniedException;
+import com.keon.todoapp.exception.TodoNotFoundException;
 import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
 import com.keon.todoapp.model.User;
 import com.keon.todoapp.repository.TodoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Todo 관련 비즈니스 로직을 처리하는 서비스
@@ -19,7 +34,19 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class TodoService {
 
+    /**
+     * 한 페이지에서 조회할 수 있는 최대 Todo 개수
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 한 번에 일괄 처리할 수 있는 최대 Todo 개수
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
     private final TodoRepository todoRepository;
+    private final TodoCounterService todoCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 Todo를 생성합니다.
@@ -32,7 +59,45 @@ public class TodoService {
     public Todo createTodo(Todo todo, User user) {
         todo.setUser(user);
         todo.setCreatedDate(LocalDate.now());
-        return todoRepository.save(todo);
+        Todo savedTodo = todoRepository.save(todo);
+        todoCounterService.apply(user, TodoCounterDelta.created(savedTodo));
+        eventPublisher.publishEvent(TodoChangedEvent.saved(user.getId(), List.of(savedTodo)));
+        eventPublisher.publishEvent(TodoLiveEvent.created(user.getId(), List.of(savedTodo.getId())));
+        return savedTodo;
+    }
+
+    /**
+     * 여러 Todo를 한 번에 생성합니다.
+     * 시퀀스로 ID를 미리 할당하므로 INSERT가 JDBC 배치로 묶이고, 카운터는 한 번만 갱신합니다.
+     *
+     * @param todos 생성할 Todo 목록 (최대 {@link #MAX_BULK_SIZE}개)
+     * @param user Todo를 소유할 사용자
+     * @return 생성된 Todo 목록
+     * @throws IllegalArgumentException 최대 개수를 초과한 경우
+     */
+    @Transactional
+    public List<Todo> createTodos(List<Todo> todos, User user) {
+        if (todos.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 Todo는 최대 " + MAX_BULK_SIZE + "개입니다.");
+        }
+        if (todos.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        TodoCounterDelta delta = TodoCounterDelta.NONE;
+        for (Todo todo : todos) {
+            todo.setUser(user);
+            todo.setCreatedDate(today);
+            delta = delta.plus(TodoCounterDelta.created(todo));
+        }
+
+        List<Todo> savedTodos = todoRepository.saveAll(todos);
+        todoCounterService.apply(user, delta);
+        eventPublisher.publishEvent(TodoChangedEvent.saved(user.getId(), savedTodos));
+        eventPublisher.publishEvent(TodoLiveEvent.created(user.getId(),
+                savedTodos.stream().map(Todo::getId).collect(Collectors.toList())));
+        return savedTodos;
     }
 
     /**
@@ -56,23 +121,77 @@ public class TodoService {
         return todoRepository.findByUserAndCompleted(user, completed);
     }
 
+    /**
+     * 특정 사용자의 Todo를 keyset 페이지네이션으로 조회합니다.
+     * (생성일, ID) 내림차순으로 정렬하며, 커서가 없으면 첫 페이지를 조회합니다.
+     *
+     * @param user 사용자
+     * @param completed 완료 상태 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ {@link #MAX_PAGE_SIZE})
+     * @return Todo 페이지
+     */
+    public TodoPage getTodoPage(User user, Boolean completed, TodoCursor cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Todo> rows;
+        if (completed == null) {
+            rows = cursor == null
+                    ? todoRepository.findByUserOrderByCreatedDateDescIdDesc(user, limit)
+                    : todoRepository.findByUserAfterCursor(user, cursor.getCreatedDate(), cursor.getId(), limit);
+        } else {
+            rows = cursor == null
+                    ? todoRepository.findByUserAndCompletedOrderByCreatedDateDescIdDesc(user, completed, limit)
+                    : todoRepository.findByUserAndCompletedAfterCursor(
+                            user, completed, cursor.getCreatedDate(), cursor.getId(), limit);
+        }
+
+        return TodoPage.of(rows, pageSize);
+    }
+
     /**
      * Todo ID로 Todo를 조회합니다.
+     * (ID, 사용자 ID)로 한 번에 조회하며, 조회에 실패한 경우에만 존재 여부를 추가로 확인해 예외 종류를 구분합니다.
      *
      * @param id Todo ID
      * @param user 소유자 확인을 위한 사용자
      * @return Todo 정보
-     * @throws RuntimeException Todo를 찾을 수 없거나 소유자가 다른 경우
+     * @throws TodoNotFoundException Todo를 찾을 수 없는 경우
+     * @throws TodoAccessDeniedException 다른 사용자의 Todo인 경우
      */
     public Todo getTodoById(Long id, User user) {
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Todo를 찾을 수 없습니다: " + id));
+        return todoRepository.findByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> todoRepository.existsById(id)
+                        ? new TodoAccessDeniedException(id)
+                        : new TodoNotFoundException(id));
+    }
 
-        if (!todo.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("해당 Todo에 접근할 권한이 없습니다.");
+    /**
+     * 여러 Todo를 ID로 조회합니다.
+     * 실시간 변경 이벤트를 받은 화면이 바뀐 카드만 다시 그릴 때 사용하며, 다른 사용자의 Todo와 없는 ID는 제외합니다.
+     *
+     * @param ids Todo ID 목록 (최대 {@link #MAX_PAGE_SIZE}개)
+     * @param user 소유자 확인을 위한 사용자
+     * @return 조회된 Todo 목록 (생성일, ID 내림차순)
+     * @throws IllegalArgumentException 최대 개수를 초과한 경우
+     */
+    public List<Todo> getTodosByIds(List<Long> ids, User user) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> targetIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (targetIds.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 Todo는 최대 " + MAX_PAGE_SIZE + "개입니다.");
         }
 
-        return todo;
+        return todoRepository.findAllById(targetIds).stream()
+                .filter(todo -> user.getId().equals(todo.getUser().getId()))
+                .sorted(Comparator.comparing(Todo::getCreatedDate).thenComparing(Todo::getId).reversed())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -86,6 +205,7 @@ public class TodoService {
     @Transactional
     public Todo updateTodo(Long id, Todo updatedTodo, User user) {
         Todo existingTodo = getTodoById(id, user);
+        TodoPriority oldPriority = existingTodo.getPriority();
 
         existingTodo.setTitle(updatedTodo.getTitle());
         existingTodo.setDescription(updatedTodo.getDescription());
@@ -93,7 +213,11 @@ public class TodoService {
         existingTodo.setPriority(updatedTodo.getPriority());
         existingTodo.setDueDate(updatedTodo.getDueDate());
 
-        return todoRepository.save(existingTodo);
+        Todo savedTodo = todoRepository.save(existingTodo);
+        todoCounterService.apply(user, TodoCounterDelta.priorityChanged(oldPriority, savedTodo.getPriority()));
+        eventPublisher.publishEvent(TodoChangedEvent.saved(user.getId(), List.of(savedTodo)));
+        eventPublisher.publishEvent(TodoLiveEvent.updated(user.getId(), List.of(id)));
+        return savedTodo;
     }
 
     /**
@@ -106,6 +230,9 @@ public class TodoService {
     public void deleteTodo(Long id, User user) {
         Todo todo = getTodoById(id, user);
         todoRepository.delete(todo);
+        todoCounterService.apply(user, TodoCounterDelta.deleted(todo));
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(user.getId(), List.of(id)));
+        eventPublisher.publishEvent(TodoLiveEvent.deleted(user.getId(), List.of(id)));
     }
 
     /**
@@ -119,7 +246,117 @@ public class TodoService {
     public Todo toggleComplete(Long id, User user) {
         Todo todo = getTodoById(id, user);
         todo.setCompleted(!todo.isCompleted());
-        return todoRepository.save(todo);
+        Todo savedTodo = todoRepository.save(todo);
+        todoCounterService.apply(user, TodoCounterDelta.toggled(savedTodo));
+        eventPublisher.publishEvent(TodoLiveEvent.toggled(user.getId(), List.of(id), savedTodo.isCompleted()));
+        return savedTodo;
+    }
+
+    /**
+     * 여러 Todo를 한 번에 완료 처리합니다.
+     * 사용자 조건을 포함한 한 번의 UPDATE 문으로 처리하며, 엔티티를 로딩하지 않습니다.
+     *
+     * @param ids 완료 처리할 Todo ID 목록
+     * @param user 소유자 확인을 위한 사용자
+     * @return 상태가 변경된 Todo 개수 (다른 사용자의 Todo와 이미 완료된 Todo는 제외)
+     */
+    @Transactional
+    public int completeTodos(List<Long> ids, User user) {
+        Set<Long> targetIds = toBulkIds(ids);
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+
+        // 다른 사용자의 Todo와 이미 완료된 Todo는 알림 대상에서도 제외
+        List<Long> changedIds = todoRepository.findIdsByUserIdAndIdsAndCompletedNot(user.getId(), targetIds, true);
+        if (changedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<TodoCountRow> rows = todoRepository.countGroupedByUserIdAndIds(user.getId(), changedIds);
+        int updated = todoRepository.updateCompletedByUserIdAndIds(user.getId(), changedIds, true);
+        todoCounterService.apply(user, TodoCounterDelta.completedAll(rows));
+        eventPublisher.publishEvent(TodoLiveEvent.toggled(user.getId(), changedIds, true));
+        return updated;
+    }
+
+    /**
+     * 여러 Todo를 한 번에 삭제합니다.
+     * 사용자 조건을 포함한 한 번의 DELETE 문으로 처리하며, 엔티티를 로딩하지 않습니다.
+     *
+     * @param ids 삭제할 Todo ID 목록
+     * @param user 소유자 확인을 위한 사용자
+     * @return 삭제된 Todo 개수 (다른 사용자의 Todo는 제외)
+     */
+    @Transactional
+    public int deleteTodos(List<Long> ids, User user) {
+        Set<Long> targetIds = toBulkIds(ids);
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+
+        List<TodoCountRow> rows = todoRepository.countGroupedByUserIdAndIds(user.getId(), targetIds);
+        int deleted = todoRepository.deleteByUserIdAndIds(user.getId(), targetIds);
+        todoCounterService.apply(user, TodoCounterDelta.deletedAll(rows));
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(user.getId(), targetIds));
+        eventPublisher.publishEvent(TodoLiveEvent.deleted(user.getId(), targetIds));
+        return deleted;
+    }
+
+    /**
+     * 사용자의 완료된 Todo를 모두 삭제합니다.
+     *
+     * @param user 사용자
+     * @return 삭제된 Todo 개수
+     */
+    @Transactional
+    public int clearCompleted(User user) {
+        List<TodoCountRow> completedRows = todoRepository.countGroupedByUserId(user.getId()).stream()
+                .filter(TodoCountRow::isCompleted)
+                .collect(Collectors.toList());
+        if (completedRows.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = todoRepository.deleteCompletedByUserId(user.getId());
+        todoCounterService.apply(user, TodoCounterDelta.deletedAll(completedRows));
+        // 삭제된 ID를 조회하지 않으므로 검색 색인은 다음 검색 때 다시 만듦
+        eventPublisher.publishEvent(TodoChangedEvent.reindex(user.getId()));
+        eventPublisher.publishEvent(TodoLiveEvent.cleared(user.getId()));
+        return deleted;
+    }
+
+    /**
+     * 여러 Todo의 우선순위를 한 번에 변경합니다.
+     *
+     * @param ids 변경할 Todo ID 목록
+     * @param priority 변경할 우선순위
+     * @param user 소유자 확인을 위한 사용자
+     * @return 우선순위가 변경된 Todo 개수 (다른 사용자의 Todo와 이미 같은 우선순위인 Todo는 제외)
+     * @throws IllegalArgumentException 우선순위가 없는 경우
+     */
+    @Transactional
+    public int updatePriority(List<Long> ids, TodoPriority priority, User user) {
+        if (priority == null) {
+            throw new IllegalArgumentException("우선순위는 필수입니다.");
+        }
+
+        Set<Long> targetIds = toBulkIds(ids);
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+
+        // 다른 사용자의 Todo와 이미 같은 우선순위인 Todo는 알림 대상에서도 제외
+        List<Long> changedIds = todoRepository.findIdsByUserIdAndIdsAndPriorityNot(user.getId(), targetIds, priority);
+        if (changedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<TodoCountRow> rows = todoRepository.countGroupedByUserIdAndIds(user.getId(), changedIds);
+        int updated = todoRepository.updatePriorityByUserIdAndIds(user.getId(), changedIds, priority);
+        todoCounterService.apply(user, TodoCounterDelta.reprioritizedAll(rows, priority));
+        eventPublisher.publishEvent(TodoLiveEvent.updated(user.getId(), changedIds));
+        return updated;
     }
 
     /**
@@ -142,6 +379,28 @@ public class TodoService {
         return todoRepository.countByUserAndCompleted(user, false);
     }
 
+    /**
+     * 특정 사용자의 Todo 통계를 조회합니다.
+     * 사용자별 카운터를 기본 키로 조회하므로 Todo 개수와 무관하게 비용이 일정합니다.
+     *
+     * @param user 사용자
+     * @return Todo 통계 (카테고리별 개수 제외)
+     */
+    public TodoStats getStats(User user) {
+        return todoCounterService.getStats(user);
+    }
+
+    /**
+     * 특정 사용자의 카테고리별 개수를 포함한 상세 Todo 통계를 조회합니다.
+     * 완료 상태, 우선순위, 카테고리별 개수를 한 번의 그룹 집계 쿼리로 계산합니다.
+     *
+     * @param user 사용자
+     * @return Todo 통계
+     */
+    public TodoStats getDetailedStats(User user) {
+        return TodoStats.from(todoRepository.countGroupedByUserId(user.getId()));
+    }
+
     /**
      * 특정 사용자의 우선순위별 Todo를 조회합니다.
      *
@@ -149,10 +408,23 @@ public class TodoService {
      * @param priority 우선순위
      * @return 우선순위별 Todo 목록
      */
-    public List<Todo> getTodosByPriority(User user, String priority) {
+    public List<Todo> getTodosByPriority(User user, TodoPriority priority) {
         return todoRepository.findByUserAndPriority(user, priority);
     }
 
+    /**
+     * 특정 사용자의 미완료 Todo를 급한 순서(우선순위 → 마감일 → 최신순)로 조회합니다.
+     * 정렬은 데이터베이스가 인덱스 순서로 처리하므로 상위 개수만 읽습니다.
+     *
+     * @param user 사용자
+     * @param size 조회할 개수 (최대 {@link #MAX_PAGE_SIZE})
+     * @return 급한 순 Todo 목록
+     */
+    public List<Todo> getUrgentTodos(User user, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return todoRepository.findUrgentByUserId(user.getId(), PageRequest.of(0, limit));
+    }
+
     /**
      * 특정 사용자의 카테고리별 Todo를 조회합니다.
      *
@@ -163,4 +435,18 @@ public class TodoService {
     public List<Todo> getTodosByCategory(User user, String category) {
         return todoRepository.findByUserAndCategory(user, category);
     }
+
+    private Set<Long> toBulkIds(List<Long> ids) {
+        if (ids == null) {
+            return Set.of();
+        }
+
+        Set<Long> targetIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (targetIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 Todo는 최대 " + MAX_BULK_SIZE + "개입니다.");
+        }
+        return targetIds;
+    }
 }
@@ -0,0 +1,14 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.User;
+import lombok.Value;
+
+/**
+ * 사용자의 비밀번호 해시가 바뀌었음을 알리는 이벤트
+ * UserService가 발행하고, 트랜잭션 커밋 후 {@link BoundedUserCache}가 캐시된 사용자 정보를 새 해시로 교체합니다.
+ */
+@Value
+public class UserPasswordChangedEvent {
+
+    User user;
+}
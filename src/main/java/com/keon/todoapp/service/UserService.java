@@ -3,7 +3,9 @@ package com.keon.todoapp.service;
 import com.keon.todoapp.model.User;
 import com.keon.todoapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -12,18 +14,24 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스
- * Spring Security의 UserDetailsService를 구현하여 인증 시스템과 연동
+ * Spring Security의 UserDetailsService를 구현하여 인증 시스템과 연동하고,
+ * 로그인 시 비밀번호 해시의 cost가 현재 cost보다 낮으면 UserDetailsPasswordService로 새 해시를 저장
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TodoCounterService todoCounterService;
+    private final BoundedUserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Spring Security에서 사용자 인증 시 호출되는 메서드
+     * 캐시된 사용자 정보는 DaoAuthenticationProvider가 UserCache로 먼저 확인하므로,
+     * 여기서는 최근 존재하지 않는 것으로 확인된 사용자명만 데이터베이스 조회 없이 거절합니다.
      * 
      * @param username 사용자명
      * @return UserDetails 구현체 (User 엔티티)
@@ -31,8 +39,37 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        if (userCache.isKnownMissing(username)) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
+        }
+
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (user == null) {
+            userCache.putMissing(username);
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
+        }
+
+        userCache.putUserInCache(user);
+        return user;
+    }
+
+    /**
+     * 로그인에 성공한 사용자의 비밀번호 해시를 새 해시로 바꿉니다.
+     * 인증 직후 DaoAuthenticationProvider가 호출하며, 다음 로그인에서 이전 해시를 쓰지 않도록 커밋 후 캐시도 갱신합니다.
+     *
+     * @param user 인증된 사용자
+     * @param newPassword 새로 인코딩한 비밀번호
+     * @return 비밀번호가 바뀐 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + user.getUsername()));
+        stored.setPassword(newPassword);
+
+        eventPublisher.publishEvent(new UserPasswordChangedEvent(stored));
+        return stored;
     }
 
     /**
@@ -50,20 +87,33 @@ public class UserService implements UserDetailsService {
         
         // 비밀번호 암호화
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        
-        return userRepository.save(user);
+
+        User savedUser = userRepository.save(user);
+        todoCounterService.initialize(savedUser);
+
+        // 가입 전에 기록된 '존재하지 않는 사용자' 항목 제거
+        userCache.removeUserFromCache(savedUser.getUsername());
+        return savedUser;
     }
 
     /**
      * 사용자명으로 사용자를 조회합니다.
+     * 캐시에 있으면 데이터베이스를 조회하지 않습니다.
      * 
      * @param username 사용자명
      * @return 사용자 정보
      * @throws RuntimeException 사용자를 찾을 수 없는 경우
      */
     public User findByUsername(String username) {
-        return userRepository.findByUsername(username)
+        User cached = userCache.getUser(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+        userCache.putUserInCache(user);
+        return user;
     }
 
     /**
@@ -0,0 +1,40 @@
+-- 초기 스키마: 엔티티 매핑(User, Todo, TodoCounter)과 1:1로 대응합니다.
+-- Hibernate는 validate 모드로 동작하므로 컬럼/시퀀스 변경은 반드시 새 버전 스크립트로 추가하세요.
+
+-- pooled 옵티마이저용 시퀀스 (allocationSize = 50 과 INCREMENT BY 값이 같아야 합니다)
+CREATE SEQUENCE user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE todo_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE todos (
+    id           BIGINT       NOT NULL,
+    category     VARCHAR(255) NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  CLOB,
+    priority     VARCHAR(255) NOT NULL,
+    completed    BOOLEAN      NOT NULL,
+    created_date DATE         NOT NULL,
+    due_date     DATE,
+    user_id      BIGINT       NOT NULL,
+    CONSTRAINT pk_todos PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE todo_counters (
+    user_id               BIGINT NOT NULL,
+    total_count           BIGINT NOT NULL,
+    completed_count       BIGINT NOT NULL,
+    high_priority_count   BIGINT NOT NULL,
+    medium_priority_count BIGINT NOT NULL,
+    low_priority_count    BIGINT NOT NULL,
+    data_version          BIGINT NOT NULL,
+    CONSTRAINT pk_todo_counters PRIMARY KEY (user_id),
+    CONSTRAINT fk_todo_counters_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,28 @@
+-- TodoRepository 접근 패턴별 복합 인덱스
+-- 모든 조회가 user_id 등치 조건으로 시작하므로 user_id를 선두 컬럼으로 두고,
+-- 정렬/그룹핑 컬럼을 뒤에 붙여 정렬(filesort)과 테이블 재조회를 피합니다.
+
+-- 전체 목록 키셋 페이지네이션 / 스트리밍 내보내기
+--   WHERE user_id = ? [AND (created_date, id) < (?, ?)] ORDER BY created_date DESC, id DESC
+CREATE INDEX idx_todos_user_created ON todos (user_id, created_date DESC, id DESC);
+
+-- 완료/미완료 필터 목록 키셋 페이지네이션, countByUserAndCompleted, deleteCompletedByUserId
+--   WHERE user_id = ? AND completed = ? [AND (created_date, id) < (?, ?)] ORDER BY created_date DESC, id DESC
+CREATE INDEX idx_todos_user_completed_created ON todos (user_id, completed, created_date DESC, id DESC);
+
+-- 통계 집계 (countGroupedByUserId) - GROUP BY 컬럼을 모두 포함하는 커버링 인덱스
+--   WHERE user_id = ? GROUP BY completed, priority, category
+CREATE INDEX idx_todos_user_stats ON todos (user_id, completed, priority, category);
+
+-- 우선순위별 조회 (findByUserAndPriority)
+CREATE INDEX idx_todos_user_priority ON todos (user_id, priority);
+
+-- 카테고리별 조회 (findByUserAndCategory)
+CREATE INDEX idx_todos_user_category ON todos (user_id, category);
+
+-- fk_todos_user가 만든 user_id 단일 컬럼 인덱스(FK_TODOS_USER_INDEX_*)를 제거합니다.
+-- H2는 외래 키 컬럼과 정확히 같은 인덱스만 외래 키에 재사용하므로 위 복합 인덱스로 대신할 수 없고,
+-- 옵티마이저는 user_id 등치 조건에서 더 좁은 이 인덱스를 골라 정렬과 테이블 재조회가 다시 생깁니다.
+-- 인덱스는 외래 키에 속해 있어 제약과 함께 제거하며, todos.user_id 무결성은 Todo.user(nullable = false)와
+-- 사용자 삭제 기능이 없는 애플리케이션이 보장합니다.
+ALTER TABLE todos DROP CONSTRAINT fk_todos_user;
@@ -0,0 +1,27 @@
+-- Todo 우선순위를 문자열(VARCHAR)에서 긴급도 순서를 유지하는 SMALLINT 코드로 변환합니다.
+-- LOW = 1, MEDIUM = 2, HIGH = 3 (TodoPriority 코드와 일치해야 합니다)
+
+ALTER TABLE todos ADD COLUMN priority_code SMALLINT;
+
+UPDATE todos
+SET priority_code = CASE UPPER(priority)
+                        WHEN 'HIGH' THEN 3
+                        WHEN 'MEDIUM' THEN 2
+                        ELSE 1
+                    END;
+
+ALTER TABLE todos ALTER COLUMN priority_code SET NOT NULL;
+
+-- 기존 priority 컬럼을 참조하는 인덱스를 먼저 제거한 뒤 컬럼을 교체합니다.
+DROP INDEX idx_todos_user_stats;
+DROP INDEX idx_todos_user_priority;
+ALTER TABLE todos DROP COLUMN priority;
+ALTER TABLE todos ALTER COLUMN priority_code RENAME TO priority;
+
+CREATE INDEX idx_todos_user_stats ON todos (user_id, completed, priority, category);
+CREATE INDEX idx_todos_user_priority ON todos (user_id, priority);
+
+-- 급한 순 목록 (findUrgentByUserId)
+--   WHERE user_id = ? AND completed = ? ORDER BY priority DESC, due_date ASC NULLS LAST, created_date DESC, id DESC
+CREATE INDEX idx_todos_user_urgency
+    ON todos (user_id, completed, priority DESC, due_date ASC NULLS LAST, created_date DESC, id DESC);
@@ -0,0 +1,5 @@
+-- Todo 내용이 바뀔 때마다 증가하는 수정 번호를 추가합니다.
+-- 목록 화면은 (Todo ID, 수정 번호)로 미리 렌더링한 카드 HTML을 재사용하므로,
+-- 엔티티 수정(@PreUpdate)과 벌크 UPDATE 문 모두 이 값을 증가시켜야 합니다.
+
+ALTER TABLE todos ADD COLUMN revision BIGINT DEFAULT 0 NOT NULL;
@@ -22,6 +22,15 @@ document.addEventListener('DOMContentLoaded', function() {
     // 확인 대화상자 개선
     enhanceConfirmDialogs();
 
+    // Todo 목록 무한 스크롤
+    initializeInfiniteScroll();
+
+    // Todo 일괄 작업 선택
+    initializeBulkSelection();
+
+    // 다른 탭의 Todo 변경 실시간 반영
+    initializeLiveUpdates();
+
     console.log('Todo App initialized successfully!');
 });
 
@@ -58,8 +67,8 @@ function initializeAnimations() {
 /**
  * 폼 validation 강화
  */
-function enhanceFormValidation() {
-    const forms = document.querySelectorAll('form');
+function enhanceFormValidation(root = document) {
+    const forms = root.querySelectorAll('form');
 
     forms.forEach(form => {
         form.addEventListener('submit', function(e) {
@@ -114,9 +123,10 @@ function enhanceFormValidation() {
 
 /**
  * Todo 완료 토글 Ajax 처리
+ * 폼 제출 후 리다이렉트로 목록 전체를 다시 그리는 대신, 바뀐 상태와 개수만 받아 해당 카드와 통계만 갱신합니다.
  */
-function initializeTodoToggle() {
-    const toggleForms = document.querySelectorAll('form[action*="/toggle"]');
+function initializeTodoToggle(root = document) {
+    const toggleForms = root.querySelectorAll('form[action*="/toggle"]');
 
     toggleForms.forEach(form => {
         form.addEventListener('submit', function(e) {
@@ -130,15 +140,77 @@ function initializeTodoToggle() {
             icon.className = 'fas fa-spinner fa-spin';
             button.disabled = true;
 
-            // Ajax 요청 시뮬레이션 (실제로는 폼 제출)
-            setTimeout(() => {
-                // 실제 폼 제출
-                this.submit();
-            }, 500);
+            fetch(this.action, {
+                method: 'POST',
+                headers: { 'X-Requested-With': 'XMLHttpRequest', 'Accept': 'application/json' },
+                body: new URLSearchParams(new FormData(this))
+            })
+                .then(response => {
+                    if (!response.ok) {
+                        throw new Error(`HTTP ${response.status}`);
+                    }
+                    return response.json();
+                })
+                .then(result => {
+                    const card = this.closest('.todo-card');
+                    if (card) {
+                        applyTodoCompleted(card, result.completed);
+                    }
+                    updateTodoCounters(result);
+                })
+                .catch(error => {
+                    console.error('완료 상태를 변경하지 못했습니다:', error);
+                    icon.className = originalClass;
+                    button.disabled = false;
+                    // 세션 만료 등 JSON으로 처리할 수 없는 경우 일반 폼 제출로 처리
+                    this.submit();
+                });
         });
     });
 }
 
+/**
+ * Todo 카드의 완료 상태 표시를 갱신합니다.
+ * 현재 목록의 필터(진행 중/완료됨/급한 순)에 더 이상 속하지 않는 카드는 제거합니다.
+ */
+function applyTodoCompleted(card, completed) {
+    const list = document.getElementById('todo-list');
+    const filter = list ? list.dataset.filter : '';
+    if ((completed && (filter === 'pending' || filter === 'urgent')) || (!completed && filter === 'completed')) {
+        card.remove();
+        return;
+    }
+    card.dataset.completed = String(completed);
+
+    const button = card.querySelector('form[action*="/toggle"] button');
+    if (button) {
+        button.className = completed ? 'btn btn-sm btn-success' : 'btn btn-sm btn-outline-secondary';
+        button.disabled = false;
+        button.querySelector('i').className = completed ? 'fas fa-check-circle' : 'far fa-circle';
+    }
+    const title = card.querySelector('h5');
+    if (title) {
+        title.className = completed ? 'text-decoration-line-through text-muted' : '';
+    }
+}
+
+/**
+ * 목록 상단의 전체/완료/진행 중 개수를 갱신합니다.
+ */
+function updateTodoCounters(counts) {
+    const counters = {
+        'todo-total-count': counts.totalCount,
+        'todo-completed-count': counts.completedCount,
+        'todo-pending-count': counts.pendingCount
+    };
+    Object.entries(counters).forEach(([id, value]) => {
+        const element = document.getElementById(id);
+        if (element && value !== undefined) {
+            element.textContent = value;
+        }
+    });
+}
+
 /**
  * 알림 메시지 자동 닫기
  */
@@ -174,8 +246,8 @@ function initializeTooltips() {
 /**
  * 확인 대화상자 개선
  */
-function enhanceConfirmDialogs() {
-    const deleteForms = document.querySelectorAll('form[action*="/delete"]');
+function enhanceConfirmDialogs(root = document) {
+    const deleteForms = root.querySelectorAll('form[action*="/delete"]');
 
     deleteForms.forEach(form => {
         form.addEventListener('submit', function(e) {
@@ -189,6 +261,227 @@ function enhanceConfirmDialogs() {
     });
 }
 
+/**
+ * Todo 목록 무한 스크롤 초기화
+ * 목록 끝의 로딩 지점이 화면에 보이면 커서 기반으로 다음 페이지 조각을 불러와 이어 붙입니다.
+ */
+function initializeInfiniteScroll() {
+    const list = document.getElementById('todo-list');
+    if (!list) {
+        return;
+    }
+
+    let loading = false;
+
+    const loadNextPage = () => {
+        const sentinel = list.querySelector('.todo-list-sentinel');
+        if (!sentinel || loading) {
+            return;
+        }
+        loading = true;
+
+        const params = new URLSearchParams({ cursor: sentinel.dataset.nextCursor });
+        if (list.dataset.filter) {
+            params.append('filter', list.dataset.filter);
+        }
+
+        fetch(`${list.dataset.itemsUrl}?${params.toString()}`, {
+            headers: { 'X-Requested-With': 'XMLHttpRequest' }
+        })
+            .then(response => {
+                if (!response.ok) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                return response.text();
+            })
+            .then(html => {
+                const template = document.createElement('template');
+                template.innerHTML = html.trim();
+
+                // 새로 추가되는 카드에도 이벤트 바인딩
+                enhanceFormValidation(template.content);
+                initializeTodoToggle(template.content);
+                enhanceConfirmDialogs(template.content);
+
+                sentinel.replaceWith(template.content);
+                observeSentinel();
+            })
+            .catch(error => {
+                console.error('다음 페이지를 불러오지 못했습니다:', error);
+                showAlert('목록을 더 불러오지 못했습니다. 잠시 후 다시 시도해주세요.', 'danger');
+            })
+            .finally(() => {
+                loading = false;
+            });
+    };
+
+    const observer = 'IntersectionObserver' in window
+        ? new IntersectionObserver(entries => {
+            if (entries.some(entry => entry.isIntersecting)) {
+                loadNextPage();
+            }
+        }, { rootMargin: '200px' })
+        : null;
+
+    const observeSentinel = () => {
+        const sentinel = list.querySelector('.todo-list-sentinel');
+        if (!sentinel) {
+            return;
+        }
+        if (observer) {
+            observer.disconnect();
+            observer.observe(sentinel);
+        }
+    };
+
+    // "더 보기" 링크는 전체 페이지 이동 대신 조각 로딩으로 처리
+    list.addEventListener('click', function(e) {
+        if (e.target.closest('.todo-list-sentinel a')) {
+            e.preventDefault();
+            loadNextPage();
+        }
+    });
+
+    observeSentinel();
+}
+
+/**
+ * Todo 일괄 작업 선택 초기화
+ * 전체 선택 체크박스로 현재 목록에 표시된 Todo를 한 번에 선택/해제합니다.
+ */
+function initializeBulkSelection() {
+    const selectAll = document.getElementById('todo-select-all');
+    if (!selectAll) {
+        return;
+    }
+
+    selectAll.addEventListener('change', function() {
+        document.querySelectorAll('.todo-select').forEach(checkbox => {
+            checkbox.checked = selectAll.checked;
+        });
+    });
+}
+
+/**
+ * Todo 변경 실시간 반영 초기화
+ * 서버의 변경 이벤트 스트림(SSE)을 구독해 목록을 다시 불러오지 않고 바뀐 카드만 추가/교체/삭제합니다.
+ * 현재 화면에서 직접 반영할 수 없는 변경(정렬 기준이 다른 목록, 많은 항목)은 새로고침 안내만 표시합니다.
+ */
+function initializeLiveUpdates() {
+    const live = document.getElementById('todo-live');
+    if (!live || !('EventSource' in window)) {
+        return;
+    }
+
+    // 한 번에 다시 그릴 최대 카드 수 (서버의 최대 페이지 크기 이하)
+    const MAX_CARD_REFRESH = 50;
+    const list = document.getElementById('todo-list');
+    const filter = list ? (list.dataset.filter || '') : null;
+    let noticeShown = false;
+
+    const findCards = ids => (list ? ids : [])
+        .map(id => list.querySelector(`.todo-card[data-todo-id="${id}"]`))
+        .filter(card => card !== null);
+
+    const showRefreshNotice = () => {
+        if (noticeShown) {
+            return;
+        }
+        noticeShown = true;
+        showAlert('다른 곳에서 Todo 목록이 변경되었습니다. <a href="" class="alert-link">새로고침</a>', 'info');
+        setTimeout(() => { noticeShown = false; }, 4000);
+    };
+
+    const fetchCards = ids => {
+        const params = new URLSearchParams();
+        ids.forEach(id => params.append('ids', id));
+
+        return fetch(`${live.dataset.cardsUrl}?${params.toString()}`, {
+            headers: { 'X-Requested-With': 'XMLHttpRequest' }
+        })
+            .then(response => {
+                if (!response.ok) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                return response.text();
+            })
+            .then(html => {
+                const template = document.createElement('template');
+                template.innerHTML = html.trim();
+
+                // 새로 그린 카드에도 이벤트 바인딩
+                enhanceFormValidation(template.content);
+                initializeTodoToggle(template.content);
+                enhanceConfirmDialogs(template.content);
+
+                return Array.from(template.content.querySelectorAll('.todo-card'));
+            });
+    };
+
+    const handlers = {
+        created(event) {
+            // 최신순 목록(전체/진행 중)만 맨 앞에 추가할 수 있음
+            if (!list || (filter !== '' && filter !== 'pending') || event.ids.length > MAX_CARD_REFRESH) {
+                showRefreshNotice();
+                return;
+            }
+            return fetchCards(event.ids).then(cards => {
+                cards.filter(card => findCards([card.dataset.todoId]).length === 0)
+                    .reverse()
+                    .forEach(card => list.prepend(card));
+            });
+        },
+        updated(event) {
+            const cards = findCards(event.ids);
+            if (cards.length === 0) {
+                return;
+            }
+            if (cards.length > MAX_CARD_REFRESH || filter === 'urgent' || filter === 'search') {
+                // 우선순위/내용이 정렬 순서에 영향을 주는 목록
+                showRefreshNotice();
+                return;
+            }
+            return fetchCards(cards.map(card => card.dataset.todoId)).then(fresh => {
+                fresh.forEach(card => {
+                    findCards([card.dataset.todoId]).forEach(old => old.replaceWith(card));
+                });
+            });
+        },
+        toggled(event) {
+            findCards(event.ids).forEach(card => applyTodoCompleted(card, event.completed));
+        },
+        deleted(event) {
+            findCards(event.ids).forEach(card => card.remove());
+        },
+        cleared() {
+            if (list) {
+                list.querySelectorAll('.todo-card[data-completed="true"]').forEach(card => card.remove());
+            }
+        },
+        resync() {
+            showRefreshNotice();
+        }
+    };
+
+    const source = new EventSource(live.dataset.streamUrl);
+    source.addEventListener('todo', function(e) {
+        const event = JSON.parse(e.data);
+        const handler = handlers[event.type];
+        if (!handler) {
+            return;
+        }
+        Promise.resolve()
+            .then(() => handler(event))
+            .catch(error => {
+                console.error('Todo 변경을 반영하지 못했습니다:', error);
+                showRefreshNotice();
+            });
+    });
+
+    // 페이지를 떠날 때 연결을 바로 닫아 서버 구독을 정리
+    window.addEventListener('pagehide', () => source.close());
+}
+
 /**
  * 필드 에러 표시
  */
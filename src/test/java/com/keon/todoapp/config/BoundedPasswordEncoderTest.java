@@ -0,0 +1,141 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedPasswordEncoder 단위 테스트
+ */
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("해시와 검증 - 전용 스레드에서 BCrypt 수행")
+    void encodeAndMatches() {
+        // given
+        encoder = new BoundedPasswordEncoder(4, 2, 8, Duration.ofSeconds(5));
+
+        // when
+        String encoded = encoder.encode("password123");
+
+        // then
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+    }
+
+    @Test
+    @DisplayName("대기열 초과 - 기다리지 않고 바로 거절")
+    void encode_RejectedWhenQueueFull() throws Exception {
+        // given (스레드 1개, 대기열 1개를 모두 채움)
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(gate, started), 4, 1, 1, Duration.ofSeconds(5));
+        callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> encoder.encode("second"));
+        waitForQueued(1);
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        gate.countDown();
+
+        // then
+        assertTrue(elapsedMillis < 1000, "거절은 해시 완료를 기다리면 안 됨: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 - 거절")
+    void encode_RejectedAfterMaxWait() {
+        // given
+        CountDownLatch gate = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(gate, new CountDownLatch(1)), 4, 1, 1, Duration.ofMillis(100));
+
+        // when & then
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("password123"));
+        gate.countDown();
+    }
+
+    @Test
+    @DisplayName("cost 변경 - 더 낮은 cost의 해시만 재해시 대상")
+    void upgradeEncoding_CostChanged() {
+        // given
+        encoder = new BoundedPasswordEncoder(5, 1, 8, Duration.ofSeconds(5));
+        String lowerCost = new BCryptPasswordEncoder(4).encode("password123");
+        String higherCost = new BCryptPasswordEncoder(6).encode("password123");
+
+        // when & then
+        assertTrue(encoder.upgradeEncoding(lowerCost));
+        assertFalse(encoder.upgradeEncoding(higherCost));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+        assertFalse(encoder.upgradeEncoding("plain"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    @DisplayName("cost 보정 - 최소/최대 cost 범위 안에서 선택")
+    void calibrateCost_WithinBounds() {
+        // when & then
+        assertEquals(4, BoundedPasswordEncoder.calibrateCost(Duration.ZERO, 4, 6));
+        assertEquals(6, BoundedPasswordEncoder.calibrateCost(Duration.ofHours(1), 4, 6));
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueueSize() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, encoder.getQueueSize());
+    }
+
+    /**
+     * gate가 열릴 때까지 해시를 끝내지 않는 인코더
+     */
+    private static PasswordEncoder blockingEncoder(CountDownLatch gate, CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * CurrentUserArgumentResolver 단위 테스트
+ */
+@DisplayName("CurrentUserArgumentResolver 테스트")
+class CurrentUserArgumentResolverTest {
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private CurrentUserArgumentResolver resolver;
+
+    private NativeWebRequest webRequest;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        webRequest = new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인증 주체가 User 엔티티이면 데이터베이스 조회 없이 반환")
+    void resolveArgument_PrincipalIsUser() {
+        // given
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        authenticate(user);
+
+        // when
+        Object result = resolver.resolveArgument(null, null, webRequest, null);
+
+        // then
+        assertSame(user, result);
+        verify(userService, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("인증 주체가 User 엔티티가 아니면 사용자명으로 조회")
+    void resolveArgument_FallbackLookup() {
+        // given
+        org.springframework.security.core.userdetails.User principal =
+                new org.springframework.security.core.userdetails.User("testuser", "password", Collections.emptyList());
+        authenticate(principal);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        when(userService.findByUsername("testuser")).thenReturn(user);
+
+        // when
+        Object first = resolver.resolveArgument(null, null, webRequest, null);
+        Object second = resolver.resolveArgument(null, null, webRequest, null);
+
+        // then
+        assertSame(user, first);
+        assertSame(user, second);
+        verify(userService, times(1)).findByUsername("testuser"); // 같은 요청에서는 한 번만 조회
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 예외 발생")
+    void resolveArgument_Unauthenticated() {
+        assertThrows(RuntimeException.class, () -> resolver.resolveArgument(null, null, webRequest, null));
+    }
+
+    private void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.exception.LoginThrottledException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginThrottle 단위 테스트
+ */
+@DisplayName("LoginThrottle 테스트")
+class LoginThrottleTest {
+
+    private static final String ADDRESS = "10.0.0.1";
+    private static final String ATTACKER_ADDRESS = "192.0.2.1";
+    private static final int USERNAME_CAPACITY = 20;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("로그인 성공 - 같은 IP에서 반복해도 IP 제한에 포함하지 않음")
+    void reset_SuccessDoesNotChargeAddress() {
+        // given
+        LoginThrottle throttle = throttle(3);
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            Authentication authentication = authentication("user" + i);
+            assertDoesNotThrow(() -> throttle.acquire(authentication));
+            throttle.reset(authentication);
+        }
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 같은 IP의 실패가 버킷 크기를 넘으면 거절")
+    void acquire_FailuresChargeAddress() {
+        // given
+        LoginThrottle throttle = throttle(3);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire(authentication("user" + i));
+        }
+
+        // when & then
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> throttle.acquire(authentication("other")));
+        assertEquals(10, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("사용자명 공격 중 - 다른 IP의 피해자는 계속 로그인 가능")
+    void acquire_VictimOnOtherAddressNotLockedOut() {
+        // given
+        LoginThrottle throttle = throttle(100);
+        for (int i = 0; i < 10; i++) {
+            throttle.acquire(authentication("victim", ATTACKER_ADDRESS));
+        }
+        assertThrows(LoginThrottledException.class, () -> throttle.acquire(authentication("victim", ATTACKER_ADDRESS)));
+
+        // when
+        Authentication victim = authentication("Victim", ADDRESS);
+
+        // then
+        assertDoesNotThrow(() -> throttle.acquire(victim));
+        throttle.reset(victim);
+        assertThrows(LoginThrottledException.class, () -> throttle.acquire(authentication("victim", ATTACKER_ADDRESS)));
+    }
+
+    @Test
+    @DisplayName("여러 IP에 나눈 공격 - 사용자명별 제한으로 거절")
+    void acquire_DistributedAttackChargesUsername() {
+        // given
+        LoginThrottle throttle = throttle(100);
+        for (int i = 0; i < USERNAME_CAPACITY; i++) {
+            throttle.acquire(authentication("victim", "10.1.0." + i));
+        }
+
+        // when & then
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+                () -> throttle.acquire(authentication("victim", "10.2.0.1")));
+        assertEquals(10, exception.getRetryAfterSeconds());
+    }
+
+    private LoginThrottle throttle(int addressCapacity) {
+        return new LoginThrottle(
+                new TokenBucketLimiter(10, Duration.ofSeconds(30), 100, 4, now::get),
+                new TokenBucketLimiter(USERNAME_CAPACITY, Duration.ofSeconds(10), 100, 4, now::get),
+                new TokenBucketLimiter(addressCapacity, Duration.ofSeconds(10), 100, 4, now::get));
+    }
+
+    private static Authentication authentication(String username) {
+        return authentication(username, ADDRESS);
+    }
+
+    private static Authentication authentication(String username, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(username, "password");
+        authentication.setDetails(new WebAuthenticationDetails(request));
+        return authentication;
+    }
+}
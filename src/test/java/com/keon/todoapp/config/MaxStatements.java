@@ -0,0 +1,34 @@
+package com.keon.todoapp.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행되는 SQL 문 개수의 상한을 검증합니다.
+ * {@code @BeforeEach}의 데이터 준비는 집계하지 않으므로, 테스트 본문에는 검증할 요청만 둡니다.
+ * Hibernate에 {@link SqlStatementCounter}가 등록된 컨텍스트(@SpringBootTest)에서 사용합니다.
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;MaxStatements(3)
+ * void todoList() throws Exception {
+ *     mockMvc.perform(get("/user/todos").with(user(testUser)));
+ * }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(StatementCountExtension.class)
+public @interface MaxStatements {
+
+    /**
+     * 허용하는 최대 SQL 문 개수
+     */
+    int value();
+}
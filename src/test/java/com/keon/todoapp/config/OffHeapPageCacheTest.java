@@ -0,0 +1,108 @@
+package com.keon.todoapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OffHeapPageCache 단위 테스트
+ */
+@DisplayName("OffHeapPageCache 테스트")
+class OffHeapPageCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("저장한 본문을 여러 블록에 걸쳐 그대로 읽음")
+    void get_ReadsBodyAcrossBlocks() throws IOException {
+        // given
+        OffHeapPageCache cache = new OffHeapPageCache(4 * OffHeapPageCache.BLOCK_SIZE);
+        byte[] body = body(OffHeapPageCache.BLOCK_SIZE * 2 + 100, 7);
+        cache.put("1|/user/todos", 1L, TODAY, Map.of("ETag", "\"v1\""), body);
+
+        // when
+        OffHeapPageCache.Page page = cache.get("1|/user/todos", 1L, TODAY);
+
+        // then
+        assertEquals(body.length, page.size());
+        assertArrayEquals(body, written(page));
+        try (InputStream in = page.openStream()) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+        page.release();
+        assertNull(cache.get("1|/user/todos", 2L, TODAY));
+    }
+
+    @Test
+    @DisplayName("빈 블록이 모자라면 가장 오래 사용하지 않은 페이지를 제거하고 그 블록을 재사용")
+    void put_EvictsLeastRecentlyUsed() {
+        // given
+        OffHeapPageCache cache = new OffHeapPageCache(2 * OffHeapPageCache.BLOCK_SIZE);
+        cache.put("a", 1L, TODAY, Map.of(), body(OffHeapPageCache.BLOCK_SIZE, 1));
+        cache.put("b", 1L, TODAY, Map.of(), body(OffHeapPageCache.BLOCK_SIZE, 2));
+        cache.get("a", 1L, TODAY).release();
+
+        // when
+        cache.put("c", 1L, TODAY, Map.of(), body(OffHeapPageCache.BLOCK_SIZE, 3));
+
+        // then
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b", 1L, TODAY));
+        assertEquals(2L * OffHeapPageCache.BLOCK_SIZE, cache.usedBytes());
+    }
+
+    @Test
+    @DisplayName("읽는 중인 페이지는 제거되어도 블록을 덮어쓰지 않음")
+    void put_DoesNotReuseBlocksInUse() throws IOException {
+        // given
+        OffHeapPageCache cache = new OffHeapPageCache(OffHeapPageCache.BLOCK_SIZE);
+        byte[] body = body(OffHeapPageCache.BLOCK_SIZE, 1);
+        cache.put("a", 1L, TODAY, Map.of(), body);
+        OffHeapPageCache.Page reading = cache.get("a", 1L, TODAY);
+
+        // when
+        cache.put("b", 1L, TODAY, Map.of(), body(OffHeapPageCache.BLOCK_SIZE, 2));
+
+        // then
+        assertEquals(0, cache.size());
+        assertArrayEquals(body, written(reading));
+        reading.release();
+        cache.put("b", 1L, TODAY, Map.of(), body(OffHeapPageCache.BLOCK_SIZE, 2));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("예산보다 큰 본문은 저장하지 않음")
+    void put_TooLarge() {
+        // given
+        OffHeapPageCache cache = new OffHeapPageCache(OffHeapPageCache.BLOCK_SIZE);
+
+        // when
+        cache.put("a", 1L, TODAY, Map.of(), body(OffHeapPageCache.BLOCK_SIZE + 1, 1));
+
+        // then
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+    }
+
+    private static byte[] body(int length, int seed) {
+        byte[] body = new byte[length];
+        for (int i = 0; i < length; i++) {
+            body[i] = (byte) (i * 31 + seed);
+        }
+        return body;
+    }
+
+    private static byte[] written(OffHeapPageCache.Page page) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        page.writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,168 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoService;
+import com.keon.todoapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 전체 페이지 캐시 필터 통합 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("전체 페이지 캐시 테스트")
+class PageCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User testUser;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("pageuser-" + System.nanoTime());
+        user.setPassword("password123");
+        testUser = userService.registerUser(user);
+        createTodo("페이지 캐시 Todo");
+        session = new MockHttpSession();
+    }
+
+    @Test
+    @DisplayName("같은 세션 재요청 - 압축된 캐시 페이지로 응답")
+    void todoList_ServedFromCacheGzipped() throws Exception {
+        // given
+        String rendered = mockMvc.perform(get("/user/todos").with(user(testUser)).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        double hitsBefore = hits();
+
+        // when
+        MvcResult result = mockMvc.perform(get("/user/todos").with(user(testUser)).session(session)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals(1, hits() - hitsBefore);
+        assertEquals("gzip", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(rendered, gunzip(result.getResponse().getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("캐시 응답 ETag - gzip 본문과 압축을 푼 본문의 ETag가 다름")
+    void todoList_ETagDependsOnEncoding() throws Exception {
+        // given
+        String etag = mockMvc.perform(get("/user/todos").with(user(testUser)).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        String gzipETag = mockMvc.perform(get("/user/todos").with(user(testUser)).session(session)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String identityETag = mockMvc.perform(get("/user/todos").with(user(testUser)).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertNotNull(etag);
+        assertEquals(etag, identityETag);
+        assertEquals(PageCacheFilter.gzipETag(etag), gzipETag);
+        assertNotEquals(etag, gzipETag);
+        mockMvc.perform(get("/user/todos").with(user(testUser)).session(session)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("gzip 미지원 클라이언트 - 압축을 풀어 응답")
+    void dashboard_ServedFromCacheUncompressed() throws Exception {
+        // given
+        String rendered = mockMvc.perform(get("/user/dashboard").with(user(testUser)).session(session))
+                .andReturn().getResponse().getContentAsString();
+        double hitsBefore = hits();
+
+        // when
+        MvcResult result = mockMvc.perform(get("/user/dashboard").with(user(testUser)).session(session))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals(1, hits() - hitsBefore);
+        assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(rendered, result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("데이터 변경 후 - 캐시를 사용하지 않고 다시 렌더링")
+    void todoList_RerenderedAfterChange() throws Exception {
+        // given
+        mockMvc.perform(get("/user/todos").with(user(testUser)).session(session)).andExpect(status().isOk());
+        createTodo("새로 추가한 Todo");
+        double hitsBefore = hits();
+
+        // when
+        String html = mockMvc.perform(get("/user/todos").with(user(testUser)).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertEquals(0, hits() - hitsBefore);
+        assertTrue(html.contains("새로 추가한 Todo"));
+    }
+
+    private void createTodo(String title) {
+        Todo todo = new Todo();
+        todo.setTitle(title);
+        todo.setCategory("업무");
+        todoService.createTodo(todo, testUser);
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "pages").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.keon.todoapp.config;
+
+import com.keon.todoapp.dto.TodoPage;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoRepository;
+import com.keon.todoapp.service.TodoService;
+import com.keon.todoapp.service.UserService;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hibernate 2차 캐시/쿼리 캐시 통합 테스트
+ * 캐시는 커밋된 데이터만 다루므로 테스트 트랜잭션 없이 서비스 호출마다 커밋합니다.
+ */
+@SpringBootTest
+@DisplayName("2차 캐시 테스트")
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private List<Long> todoIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User newUser = new User();
+        newUser.setUsername("cache-" + System.nanoTime());
+        newUser.setPassword("password123");
+        user = userService.registerUser(newUser);
+
+        todoIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Todo todo = new Todo();
+            todo.setTitle("캐시 Todo " + i);
+            todo.setCategory("업무");
+            todoIds.add(todoService.createTodo(todo, user).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("ID 조회 - Todo 영역에서 읽고 SQL을 실행하지 않음")
+    void findById_CacheHit() {
+        // given
+        long hitsBefore = statistics.getDomainDataRegionStatistics(Todo.CACHE_REGION).getHitCount();
+        long statementsBefore = SqlStatementCounter.current();
+
+        // when
+        Todo todo = todoRepository.findById(todoIds.get(0)).orElseThrow();
+
+        // then
+        assertEquals("캐시 Todo 0", todo.getTitle());
+        assertEquals(0, SqlStatementCounter.current() - statementsBefore);
+        assertTrue(statistics.getDomainDataRegionStatistics(Todo.CACHE_REGION).getHitCount() > hitsBefore);
+    }
+
+    @Test
+    @DisplayName("캐시에서 읽은 Todo - 세션 밖에서 toString/hashCode가 사용자 프록시를 초기화하지 않음")
+    void findById_DetachedToString() {
+        // given
+        todoRepository.findById(todoIds.get(0));
+        long statementsBefore = SqlStatementCounter.current();
+
+        // when
+        Todo todo = todoRepository.findById(todoIds.get(0)).orElseThrow();
+
+        // then
+        assertFalse(Hibernate.isInitialized(todo.getUser()));
+        assertDoesNotThrow(() -> todo.toString());
+        assertDoesNotThrow(() -> todo.hashCode());
+        assertEquals(0, SqlStatementCounter.current() - statementsBefore);
+    }
+
+    @Test
+    @DisplayName("목록/개수 조회 - 두 번째 조회는 쿼리 캐시에서 읽음")
+    void listAndCount_QueryCacheHit() {
+        // given
+        TodoPage first = todoService.getTodoPage(user, null, null, 10);
+        long pending = todoService.getPendingCount(user);
+        long statementsBefore = SqlStatementCounter.current();
+
+        // when
+        TodoPage again = todoService.getTodoPage(user, null, null, 10);
+        long pendingAgain = todoService.getPendingCount(user);
+
+        // then
+        assertEquals(0, SqlStatementCounter.current() - statementsBefore);
+        assertEquals(ids(first), ids(again));
+        assertEquals(pending, pendingAgain);
+        assertTrue(statistics.getQueryRegionStatistics(TodoRepository.QUERY_CACHE_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("단건 변경 - 엔티티와 쿼리 캐시가 새 값을 반환")
+    void toggle_Invalidates() {
+        // given
+        todoService.getTodoPage(user, false, null, 10);
+        assertEquals(0, todoService.getCompletedCount(user));
+
+        // when
+        todoService.toggleComplete(todoIds.get(0), user);
+
+        // then
+        assertEquals(1, todoService.getCompletedCount(user));
+        assertEquals(2, todoService.getTodoPage(user, false, null, 10).getTodos().size());
+        assertTrue(todoRepository.findById(todoIds.get(0)).orElseThrow().isCompleted());
+    }
+
+    @Test
+    @DisplayName("벌크 변경 - UPDATE/DELETE 후 캐시된 엔티티와 쿼리 결과를 쓰지 않음")
+    void bulk_Invalidates() {
+        // given
+        todoRepository.findById(todoIds.get(1));
+        todoService.getTodoPage(user, null, null, 10);
+        todoService.getCompletedCount(user);
+
+        // when
+        todoService.completeTodos(todoIds, user);
+
+        // then
+        assertEquals(3, todoService.getCompletedCount(user));
+        assertTrue(todoRepository.findById(todoIds.get(1)).orElseThrow().isCompleted());
+
+        // when
+        todoService.deleteTodos(todoIds, user);
+
+        // then
+        assertTrue(todoService.getTodoPage(user, null, null, 10).getTodos().isEmpty());
+        assertTrue(todoRepository.findById(todoIds.get(1)).isEmpty());
+    }
+
+    private static List<Long> ids(TodoPage page) {
+        return page.getTodos().stream().map(Todo::getId).collect(Collectors.toList());
+    }
+}
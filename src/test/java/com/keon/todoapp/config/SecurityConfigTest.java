@@ -1,5 +1,6 @@
 package com.keon.todoapp.config;
 
+import com.keon.todoapp.model.User;
 import com.keon.todoapp.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -81,12 +83,23 @@ class SecurityConfigTest {
                 .andExpect(redirectedUrlPattern("**/login"));
     }
 
+    @Test
+    @DisplayName("REST API - 비인증 시 리다이렉트 없이 401")
+    void api_Unauthenticated() throws Exception {
+        mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @WithMockUser
     @DisplayName("사용자 전용 페이지 - 인증 시 접근 허용")
     void userPages_AuthenticatedAccess() throws Exception {
-        // MockBean으로 UserService가 설정되어 있어 실제 호출은 되지 않지만,
-        // Security 설정 자체는 테스트 가능
+        // @WithMockUser의 인증 주체는 User 엔티티가 아니므로 @CurrentUser가 사용자명으로 조회
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("user");
+        when(userService.findByUsername("user")).thenReturn(user);
+
         mockMvc.perform(get("/user/todos"))
                 .andExpect(status().isOk());
     }
@@ -127,4 +140,28 @@ class SecurityConfigTest {
                         .param("password", "password"))
                 .andExpect(status().is3xxRedirection());
     }
+
+    @Test
+    @DisplayName("로그인 시도 제한 - 같은 사용자명으로 반복 실패 시 사용자 조회 없이 429")
+    void login_Throttled() throws Exception {
+        // given
+        String username = "throttled-" + System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(post("/login")
+                            .with(csrf())
+                            .param("username", username)
+                            .param("password", "wrong"))
+                    .andExpect(status().is3xxRedirection());
+        }
+        clearInvocations(userService);
+
+        // when & then
+        mockMvc.perform(post("/login")
+                        .with(csrf())
+                        .param("username", username)
+                        .param("password", "wrong"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        verify(userService, never()).loadUserByUsername(username);
+    }
 }
@@ -0,0 +1,38 @@
+package com.keon.todoapp.config;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MaxStatements}를 처리하는 JUnit 확장
+ * 테스트 본문 실행 전후의 {@link SqlStatementCounter} 값을 비교해 상한을 넘으면 테스트를 실패시킵니다.
+ */
+public class StatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(StatementCountExtension.class);
+    private static final String START_KEY = "start";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START_KEY, SqlStatementCounter.current());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long start = context.getStore(NAMESPACE).remove(START_KEY, Long.class);
+        long count = SqlStatementCounter.current() - start;
+
+        int max = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxStatements.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxStatements.class))
+                .map(MaxStatements::value)
+                .orElseThrow(() -> new IllegalStateException("@MaxStatements가 없습니다."));
+
+        assertTrue(count <= max,
+                () -> context.getDisplayName() + ": SQL 문 " + count + "개 실행 (최대 " + max + "개)");
+    }
+}
@@ -0,0 +1,162 @@
+package com.keon.todoapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucketLimiter 단위 테스트
+ */
+@DisplayName("TokenBucketLimiter 테스트")
+class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 거절, 시간이 지나면 다시 허용")
+    void tryAcquire_RefillsOverTime() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, Duration.ofSeconds(10), 100, 4, now::get);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("user"));
+        }
+
+        // when
+        long waitNanos = limiter.tryAcquire("user");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertEquals(TimeUnit.SECONDS.toNanos(10), waitNanos);
+        assertEquals(0, limiter.tryAcquire("user"));
+        assertTrue(limiter.tryAcquire("user") > 0);
+        assertEquals(0, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    @DisplayName("거절된 시도 - 대기 시간을 늘리지 않음")
+    void tryAcquire_RejectionDoesNotConsume() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofSeconds(10), 100, 4, now::get);
+        limiter.tryAcquire("user");
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("user");
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertEquals(0, limiter.tryAcquire("user"));
+    }
+
+    @Test
+    @DisplayName("초기화 - 버킷을 가득 찬 상태로 되돌림")
+    void reset_RestoresCapacity() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, Duration.ofSeconds(10), 100, 4, now::get);
+        limiter.tryAcquire("user");
+
+        // when
+        limiter.reset("user");
+
+        // then
+        assertEquals(0, limiter.tryAcquire("user"));
+    }
+
+    @Test
+    @DisplayName("반환 - 사용한 토큰 하나만 되돌리고 버킷 크기를 넘지 않음")
+    void release_ReturnsOneToken() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, Duration.ofSeconds(10), 100, 4, now::get);
+        limiter.tryAcquire("user");
+        limiter.tryAcquire("user");
+
+        // when
+        limiter.release("user");
+        limiter.release("user");
+        limiter.release("user");
+
+        // then
+        assertEquals(0, limiter.tryAcquire("user"));
+        assertEquals(0, limiter.tryAcquire("user"));
+        assertTrue(limiter.tryAcquire("user") > 0);
+    }
+
+    @Test
+    @DisplayName("항목 수 제한 - 키가 많아져도 최대 항목 수를 넘지 않음")
+    void tryAcquire_BoundedEntries() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(5, Duration.ofSeconds(10), 64, 4, now::get);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+
+        // then
+        assertTrue(limiter.size() <= 64, "항목 수: " + limiter.size());
+    }
+
+    @Test
+    @DisplayName("항목 수 제한 - 자리가 없으면 채워지는 중인 버킷을 지우지 않고 새 키를 거절")
+    void tryAcquire_FullStripeRejectsNewKey() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, Duration.ofSeconds(10), 2, 1, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.tryAcquire("b");
+
+        // when
+        long waitNanos = limiter.tryAcquire("c");
+
+        // then
+        // 가장 먼저 가득 차는 b의 버킷까지 남은 시간
+        assertEquals(TimeUnit.SECONDS.toNanos(10), waitNanos);
+        assertEquals(2, limiter.size());
+        assertTrue(limiter.tryAcquire("a") > 0);
+
+        // b의 버킷이 가득 차(만료되어) 자리가 생기면 새 키를 허용
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    @DisplayName("동시 요청 - 버킷 크기보다 많이 허용하지 않음")
+    void tryAcquire_Concurrent() throws Exception {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(50, Duration.ofHours(1), 100, 4, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (limiter.tryAcquire("user") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(50, allowed.get());
+    }
+}
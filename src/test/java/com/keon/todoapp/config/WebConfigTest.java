@@ -0,0 +1,103 @@
+package com.keon.todoapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 정적 리소스 핸들러 설정 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("정적 리소스 설정 테스트")
+class WebConfigTest {
+
+    private static final Pattern STYLE_URL = Pattern.compile("/css/style-[0-9a-f]{32}\\.css");
+    private static final Pattern SCRIPT_URL = Pattern.compile("/js/app-[0-9a-f]{32}\\.js");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("템플릿 링크 - 콘텐츠 해시 URL로 변환")
+    void templateLinks_Versioned() throws Exception {
+        // when
+        String html = mockMvc.perform(get("/login"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertTrue(STYLE_URL.matcher(html).find());
+        assertTrue(SCRIPT_URL.matcher(html).find());
+        assertFalse(html.contains("/css/style.css"));
+    }
+
+    @Test
+    @DisplayName("해시 URL - 장기 캐시 헤더와 함께 제공")
+    void versionedResource_Immutable() throws Exception {
+        // given
+        String url = find(SCRIPT_URL, mockMvc.perform(get("/login")).andReturn());
+
+        // when
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String cacheControl = result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+        assertNotNull(cacheControl);
+        assertTrue(cacheControl.contains("max-age=31536000"));
+        assertTrue(cacheControl.contains("immutable"));
+        // Security 필터 체인을 거치지 않으므로 보안 헤더가 붙지 않음
+        assertNull(result.getResponse().getHeader("X-Content-Type-Options"));
+    }
+
+    @Test
+    @DisplayName("해시 없는 URL - 장기 캐시 없이 매번 재검증")
+    void unversionedResource_NoCache() throws Exception {
+        // when
+        MvcResult script = mockMvc.perform(get("/js/app.js"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult style = mockMvc.perform(get("/css/style.css"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals("no-cache", script.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("no-cache", style.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("gzip 지원 클라이언트 - 사전 압축본 제공")
+    void versionedResource_Precompressed() throws Exception {
+        // given
+        String url = find(STYLE_URL, mockMvc.perform(get("/login")).andReturn());
+
+        // when
+        MvcResult result = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals("gzip", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private static String find(Pattern pattern, MvcResult page) throws Exception {
+        Matcher matcher = pattern.matcher(page.getResponse().getContentAsString());
+        assertTrue(matcher.find());
+        return matcher.group();
+    }
+}
@@ -1,6 +1,8 @@
 package com.keon.todoapp.controller;
 
+import com.keon.todoapp.config.LoginThrottle;
 import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.BoundedUserCache;
 import com.keon.todoapp.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,12 @@ class AppControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private BoundedUserCache userCache;
+
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     @Test
     @DisplayName("홈페이지 접근")
     void index_Success() throws Exception {
@@ -0,0 +1,156 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.MaxStatements;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoService;
+import com.keon.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러 요청별 SQL 문 개수 회귀 테스트
+ * 각 요청이 @StatementBudget에 지정한 개수 이내로 SQL을 실행하는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("컨트롤러 SQL 문 예산 테스트")
+class ControllerStatementBudgetTest {
+
+    private static final int TODO_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Todo firstTodo;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("budgetuser");
+        user.setPassword("password123");
+        testUser = userService.registerUser(user);
+
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = new Todo();
+            todo.setTitle("Todo " + i);
+            todo.setCategory(i % 2 == 0 ? "업무" : "개인");
+            todo.setPriority(i % 3 == 0 ? TodoPriority.HIGH : TodoPriority.LOW);
+            Todo saved = todoService.createTodo(todo, testUser);
+            if (firstTodo == null) {
+                firstTodo = saved;
+            }
+        }
+
+        // 요청이 영속성 컨텍스트 캐시가 아닌 실제 SQL로 조회하도록 비움
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxStatements(3)
+    @DisplayName("Todo 목록 - 데이터 버전, 첫 페이지, 카운터 조회")
+    void todoList_WithinBudget() throws Exception {
+        mockMvc.perform(get("/user/todos").with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    @DisplayName("Todo 목록 조각 - 데이터 버전, 페이지 조회")
+    void todoItems_WithinBudget() throws Exception {
+        mockMvc.perform(get("/user/todos/items").param("filter", "pending").with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    @DisplayName("Todo 카드 조각 - ID 목록 조회")
+    void todoCards_WithinBudget() throws Exception {
+        mockMvc.perform(get("/user/todos/cards").param("ids", firstTodo.getId().toString()).with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    @DisplayName("프로필 - 데이터 버전, 카운터 조회")
+    void profile_WithinBudget() throws Exception {
+        mockMvc.perform(get("/user/profile").with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    @DisplayName("대시보드 - 데이터 버전, 그룹 집계 조회")
+    void dashboard_WithinBudget() throws Exception {
+        mockMvc.perform(get("/user/dashboard").with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(3)
+    @DisplayName("완료 상태 토글 - 조회, 변경, 카운터 반영")
+    void toggleComplete_WithinBudget() throws Exception {
+        mockMvc.perform(post("/user/todos/{id}/toggle", firstTodo.getId()).with(user(testUser)).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    @MaxStatements(4)
+    @DisplayName("비동기 완료 상태 토글 - 조회, 변경, 카운터 반영, 카운터 조회")
+    void toggleCompleteAsync_WithinBudget() throws Exception {
+        mockMvc.perform(post("/user/todos/{id}/toggle", firstTodo.getId())
+                        .header("X-Requested-With", "XMLHttpRequest")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(user(testUser)).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(firstTodo.getId()))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.completedCount").value(1))
+                .andExpect(jsonPath("$.pendingCount").value(TODO_COUNT - 1));
+    }
+
+    @Test
+    @MaxStatements(2)
+    @DisplayName("REST API 목록 - 데이터 버전, 페이지 조회")
+    void apiList_WithinBudget() throws Exception {
+        mockMvc.perform(get("/api/todos").with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    @DisplayName("REST API 상세 통계 - 데이터 버전, 그룹 집계 조회")
+    void apiStats_WithinBudget() throws Exception {
+        mockMvc.perform(get("/api/todos/stats").param("detailed", "true").with(user(testUser)))
+                .andExpect(status().isOk());
+    }
+}
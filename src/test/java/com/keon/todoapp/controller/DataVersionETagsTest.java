@@ -0,0 +1,108 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.FlashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DataVersionETags 단위 테스트
+ */
+@DisplayName("DataVersionETags 테스트")
+class DataVersionETagsTest {
+
+    @Mock
+    private TodoCounterService todoCounterService;
+
+    private DataVersionETags dataVersionETags;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        dataVersionETags = new DataVersionETags(todoCounterService);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("같은 데이터 버전이면 304")
+    void checkNotModified_SameVersion() {
+        // given
+        when(todoCounterService.getDataVersion(testUser)).thenReturn(3L);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+
+        // when
+        boolean first = dataVersionETags.checkNotModified(
+                new ServletWebRequest(get(null), firstResponse), testUser, "todos", (Object) null);
+        String etag = firstResponse.getHeader("ETag");
+
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        boolean second = dataVersionETags.checkNotModified(
+                new ServletWebRequest(get(etag), secondResponse), testUser, "todos", (Object) null);
+
+        // then
+        assertFalse(first);
+        assertNotNull(etag);
+        assertEquals("private, no-cache", firstResponse.getHeader("Cache-Control"));
+        assertTrue(second);
+        assertEquals(304, secondResponse.getStatus());
+    }
+
+    @Test
+    @DisplayName("데이터 버전이나 화면이 다르면 200")
+    void checkNotModified_Changed() {
+        // given
+        when(todoCounterService.getDataVersion(testUser)).thenReturn(3L, 4L, 4L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        dataVersionETags.checkNotModified(new ServletWebRequest(get(null), response), testUser, "todos");
+        String etag = response.getHeader("ETag");
+
+        // when & then
+        assertFalse(dataVersionETags.checkNotModified(
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()), testUser, "todos"));
+        assertFalse(dataVersionETags.checkNotModified(
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()), testUser, "dashboard"));
+    }
+
+    @Test
+    @DisplayName("플래시 메시지가 있거나 카운터가 없으면 비교하지 않음")
+    void checkNotModified_Skipped() {
+        // given
+        MockHttpServletRequest flashRequest = get("\"anything\"");
+        FlashMap flashMap = new FlashMap();
+        flashMap.put("successMessage", "완료");
+        flashRequest.setAttribute(DispatcherServlet.INPUT_FLASH_MAP_ATTRIBUTE, flashMap);
+
+        // when & then
+        assertFalse(dataVersionETags.checkNotModified(
+                new ServletWebRequest(flashRequest, new MockHttpServletResponse()), testUser, "todos"));
+        verify(todoCounterService, never()).getDataVersion(testUser);
+
+        when(todoCounterService.getDataVersion(testUser)).thenReturn(null);
+        assertFalse(dataVersionETags.checkNotModified(
+                new ServletWebRequest(get("\"anything\""), new MockHttpServletResponse()), testUser, "todos"));
+    }
+
+    private MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/todos");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,186 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.config.LoginThrottle;
+import com.keon.todoapp.dto.TodoPage;
+import com.keon.todoapp.exception.TodoNotFoundException;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.BoundedUserCache;
+import com.keon.todoapp.service.TodoSearchService;
+import com.keon.todoapp.service.TodoService;
+import com.keon.todoapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TodoApiController 테스트
+ */
+@WebMvcTest(TodoApiController.class)
+@WithMockUser(username = "testuser")
+@DisplayName("TodoApiController 테스트")
+class TodoApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TodoService todoService;
+
+    @MockBean
+    private TodoSearchService todoSearchService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private BoundedUserCache userCache;
+
+    @MockBean
+    private LoginThrottle loginThrottle;
+
+    @MockBean
+    private DataVersionETags dataVersionETags;
+
+    private User testUser;
+    private Todo testTodo;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        when(userService.findByUsername("testuser")).thenReturn(testUser);
+
+        testTodo = new Todo();
+        testTodo.setId(10L);
+        testTodo.setTitle("Test Todo");
+        testTodo.setCategory("업무");
+        testTodo.setPriority(TodoPriority.HIGH);
+        testTodo.setCreatedDate(LocalDate.of(2025, 1, 1));
+        testTodo.setUser(testUser);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - DTO로 응답하고 사용자 정보는 포함하지 않음")
+    void list_Success() throws Exception {
+        // given
+        when(todoService.getTodoPage(eq(testUser), isNull(), isNull(), anyInt()))
+                .thenReturn(new TodoPage(List.of(testTodo), "2025-01-01_10"));
+
+        // when & then
+        mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].id").value(10))
+                .andExpect(jsonPath("$.items[0].title").value("Test Todo"))
+                .andExpect(jsonPath("$.items[0].createdDate").value("2025-01-01"))
+                .andExpect(jsonPath("$.items[0].user").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("2025-01-01_10"));
+    }
+
+    @Test
+    @DisplayName("급한 순 목록 - DTO 배열로 응답")
+    void urgent_Success() throws Exception {
+        // given
+        when(todoService.getUrgentTodos(eq(testUser), anyInt())).thenReturn(List.of(testTodo));
+
+        // when & then
+        mockMvc.perform(get("/api/todos/urgent").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(jsonPath("$[0].priority").value("HIGH"));
+        verify(todoService).getUrgentTodos(testUser, 5);
+    }
+
+    @Test
+    @DisplayName("검색 - 관련도 순 DTO 목록")
+    void search_Success() throws Exception {
+        // given
+        when(todoSearchService.search(eq(testUser), eq("test"), anyInt())).thenReturn(List.of(testTodo));
+
+        // when & then
+        mockMvc.perform(get("/api/todos/search").param("q", "test").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(jsonPath("$[0].title").value("Test Todo"));
+        verify(todoSearchService).search(testUser, "test", 5);
+    }
+
+    @Test
+    @DisplayName("검색 - 잘못된 검색어는 400")
+    void search_BadQuery() throws Exception {
+        // given
+        when(todoSearchService.search(eq(testUser), anyString(), anyInt()))
+                .thenThrow(new IllegalArgumentException("검색어는 최대 100자입니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/todos/search").param("q", "x".repeat(101)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 없는 Todo는 404")
+    void get_NotFound() throws Exception {
+        // given
+        when(todoService.getTodoById(99L, testUser)).thenThrow(new TodoNotFoundException(99L));
+
+        // when & then
+        mockMvc.perform(get("/api/todos/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    @DisplayName("생성 - 201과 Location 헤더")
+    void create_Success() throws Exception {
+        // given
+        when(todoService.createTodo(any(Todo.class), eq(testUser))).thenReturn(testTodo);
+
+        // when & then
+        mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Test Todo\",\"category\":\"업무\",\"priority\":\"HIGH\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "http://localhost/api/todos/10"))
+                .andExpect(jsonPath("$.priority").value("HIGH"));
+    }
+
+    @Test
+    @DisplayName("생성 - 필수 값 누락 시 400")
+    void create_InvalidRequest() throws Exception {
+        mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"category\":\"업무\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("제목은 필수입니다."));
+
+        verify(todoService, never()).createTodo(any(Todo.class), any(User.class));
+    }
+
+    @Test
+    @DisplayName("삭제 - 204")
+    void delete_Success() throws Exception {
+        mockMvc.perform(delete("/api/todos/10"))
+                .andExpect(status().isNoContent());
+
+        verify(todoService).deleteTodo(10L, testUser);
+    }
+}
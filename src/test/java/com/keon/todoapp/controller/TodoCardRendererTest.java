@@ -0,0 +1,128 @@
+package com.keon.todoapp.controller;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.service.TodoService;
+import com.keon.todoapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Todo 카드 렌더링 캐시 통합 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Todo 카드 렌더링 캐시 테스트")
+class TodoCardRendererTest {
+
+    private static final int TODO_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ThymeleafViewResolver viewResolver;
+
+    private User testUser;
+    private List<Todo> todos;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("carduser-" + System.nanoTime());
+        user.setPassword("password123");
+        testUser = userService.registerUser(user);
+
+        todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = new Todo();
+            todo.setTitle("카드 Todo " + i);
+            todo.setCategory("업무");
+            todos.add(todoService.createTodo(todo, testUser));
+        }
+    }
+
+    @Test
+    @DisplayName("목록 재조회 - 바뀐 카드만 다시 렌더링")
+    void todoList_RendersOnlyChangedCards() throws Exception {
+        // given
+        mockMvc.perform(get("/user/todos").with(user(testUser))).andExpect(status().isOk());
+        double missesBefore = misses();
+
+        // when
+        mockMvc.perform(post("/user/todos/{id}/toggle", todos.get(0).getId()).with(user(testUser)).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        MvcResult result = mockMvc.perform(get("/user/todos").with(user(testUser)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals(1, misses() - missesBefore);
+        String html = result.getResponse().getContentAsString();
+        for (Todo todo : todos) {
+            assertTrue(html.contains(todo.getTitle()));
+        }
+        assertTrue(html.contains("text-decoration-line-through"));
+    }
+
+    @Test
+    @DisplayName("캐시 크기 - 총 글자 수를 넘으면 가장 오래 사용하지 않은 카드부터 제거")
+    void render_BoundedByChars() {
+        // given
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+        try {
+            int cardLength = new TodoCardRenderer(viewResolver, Long.MAX_VALUE).render(todos.get(0)).length();
+            TodoCardRenderer renderer = new TodoCardRenderer(viewResolver, cardLength * 5L / 2);
+
+            // when
+            for (Todo todo : todos) {
+                renderer.render(todo);
+            }
+
+            // then
+            assertEquals(2, renderer.size());
+            assertTrue(renderer.chars() <= cardLength * 5L / 2);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private double misses() {
+        return meterRegistry.get("cache.gets").tag("cache", "todo-cards").tag("result", "miss")
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,398 @@
+package com.keon.todoapp.repository;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 리포지토리 쿼리 실행 계획 회귀 테스트
+ * 현실적인 규모의 데이터를 적재한 뒤 각 리포지토리 메서드가 생성한 SQL을 캡처하여 H2 EXPLAIN으로 검사합니다.
+ * 테이블 전체 스캔으로 바뀌거나 기대한 인덱스를 사용하지 않으면 실패합니다.
+ * H2 옵티마이저는 커밋된 행 수와 ANALYZE 통계로 인덱스 비용을 계산하므로, 적재한 데이터는 커밋한 뒤 통계를 갱신하고
+ * 테스트가 끝나면 직접 지웁니다. 롤백되는 데이터만 있으면 빈 테이블로 보고 가장 좁은 인덱스를 고릅니다.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.keon.todoapp.repository.SqlCaptureInspector")
+@DisplayName("리포지토리 쿼리 실행 계획 테스트")
+class RepositoryQueryPlanTest {
+
+    private static final int USER_COUNT = 10;
+    private static final int TODOS_PER_USER = 300;
+    private static final TodoPriority[] PRIORITIES = TodoPriority.values();
+    private static final List<String> CATEGORIES = Arrays.asList("업무", "개인", "쇼핑", "건강", "기타");
+
+    private static final String IDX_USER_CREATED = "IDX_TODOS_USER_CREATED";
+    private static final String IDX_USER_COMPLETED_CREATED = "IDX_TODOS_USER_COMPLETED_CREATED";
+    private static final String IDX_USER_STATS = "IDX_TODOS_USER_STATS";
+    private static final String IDX_USER_PRIORITY = "IDX_TODOS_USER_PRIORITY";
+    private static final String IDX_USER_CATEGORY = "IDX_TODOS_USER_CATEGORY";
+    private static final String IDX_USER_URGENCY = "IDX_TODOS_USER_URGENCY";
+
+    /** EXPLAIN 결과의 인덱스 주석: PUBLIC.인덱스명: 인덱스 조건 */
+    private static final Pattern INDEX_COMMENT = Pattern.compile("/\\*\\s*PUBLIC\\.(\\w+)(?::\\s*([^*]*?))?\\s*\\*/");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+    private List<Long> sampleIds;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int u = 0; u < USER_COUNT; u++) {
+            User user = new User();
+            user.setUsername("planuser" + u);
+            user.setPassword("password123");
+            users.add(entityManager.persist(user));
+        }
+        entityManager.flush();
+
+        LocalDate today = LocalDate.now();
+        sampleIds = new ArrayList<>();
+        for (User user : users) {
+            for (int i = 0; i < TODOS_PER_USER; i++) {
+                Todo todo = new Todo();
+                todo.setTitle("Todo " + i);
+                todo.setCategory(CATEGORIES.get(i % CATEGORIES.size()));
+                todo.setPriority(PRIORITIES[i % PRIORITIES.length]);
+                todo.setDueDate(i % 4 == 0 ? null : today.plusDays(i % 30));
+                todo.setCompleted(i % 3 == 0);
+                todo.setCreatedDate(today.minusDays(i % 365));
+                todo.setUser(user);
+                entityManager.persist(todo);
+                if (user == users.get(0) && sampleIds.size() < 5) {
+                    sampleIds.add(todo.getId());
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        testUser = users.get(0);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+        entityManager.getEntityManager().createNativeQuery("ANALYZE").executeUpdate();
+        SqlCaptureInspector.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    @Test
+    @DisplayName("findByUser - user_id 인덱스 조회")
+    void findByUser_UsesUserIndex() {
+        // when
+        todoRepository.findByUser(testUser);
+
+        // then
+        assertIndexCondition(explainSingle("todos"), "USER_ID = ");
+    }
+
+    @Test
+    @DisplayName("findByUserAndCompleted - (user_id, completed) 인덱스 사용")
+    void findByUserAndCompleted_UsesCompletedIndex() {
+        // when
+        todoRepository.findByUserAndCompleted(testUser, false);
+
+        // then
+        assertUsesIndex(explainSingle("todos"), IDX_USER_COMPLETED_CREATED, IDX_USER_STATS);
+    }
+
+    @Test
+    @DisplayName("findByUserOrderByCreatedDateDesc - 정렬 순서와 같은 인덱스 사용")
+    void findByUserOrderByCreatedDateDesc_UsesCreatedIndex() {
+        // when
+        todoRepository.findByUserOrderByCreatedDateDesc(testUser);
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_CREATED);
+    }
+
+    @Test
+    @DisplayName("키셋 첫 페이지 - 정렬 순서와 같은 인덱스 사용")
+    void findByUserOrderByCreatedDateDescIdDesc_UsesCreatedIndex() {
+        // when
+        todoRepository.findByUserOrderByCreatedDateDescIdDesc(testUser, PageRequest.of(0, 20));
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_CREATED);
+    }
+
+    @Test
+    @DisplayName("키셋 다음 페이지 - 정렬 순서와 같은 인덱스 사용")
+    void findByUserAfterCursor_UsesCreatedIndex() {
+        // when
+        todoRepository.findByUserAfterCursor(testUser, LocalDate.now().minusDays(10), 100L, PageRequest.of(0, 20));
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_CREATED);
+    }
+
+    @Test
+    @DisplayName("완료 상태 키셋 첫 페이지 - (user_id, completed, created_date, id) 인덱스 사용")
+    void findByUserAndCompletedOrderByCreatedDateDescIdDesc_UsesCompletedCreatedIndex() {
+        // when
+        todoRepository.findByUserAndCompletedOrderByCreatedDateDescIdDesc(testUser, true, PageRequest.of(0, 20));
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_COMPLETED_CREATED);
+    }
+
+    @Test
+    @DisplayName("완료 상태 키셋 다음 페이지 - (user_id, completed, created_date, id) 인덱스 사용")
+    void findByUserAndCompletedAfterCursor_UsesCompletedCreatedIndex() {
+        // when
+        todoRepository.findByUserAndCompletedAfterCursor(
+                testUser, false, LocalDate.now().minusDays(10), 100L, PageRequest.of(0, 20));
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_COMPLETED_CREATED);
+    }
+
+    @Test
+    @DisplayName("countByUserAndCompleted - (user_id, completed) 인덱스 사용")
+    void countByUserAndCompleted_UsesCompletedIndex() {
+        // when
+        todoRepository.countByUserAndCompleted(testUser, true);
+
+        // then
+        assertUsesIndex(explainSingle("todos"), IDX_USER_COMPLETED_CREATED, IDX_USER_STATS);
+    }
+
+    @Test
+    @DisplayName("streamByUserId - 정렬 순서와 같은 인덱스 사용")
+    void streamByUserId_UsesCreatedIndex() {
+        // when
+        try (Stream<Todo> stream = todoRepository.streamByUserId(testUser.getId())) {
+            stream.limit(1).forEach(todo -> { });
+        }
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_CREATED);
+    }
+
+    @Test
+    @DisplayName("findByIdAndUserId - 기본 키 조회")
+    void findByIdAndUserId_UsesPrimaryKey() {
+        // when
+        todoRepository.findByIdAndUserId(sampleIds.get(0), testUser.getId());
+
+        // then
+        assertIndexCondition(explainSingle("todos"), "ID = ");
+    }
+
+    @Test
+    @DisplayName("countGroupedByUserId - 통계 커버링 인덱스 사용")
+    void countGroupedByUserId_UsesStatsIndex() {
+        // when
+        todoRepository.countGroupedByUserId(testUser.getId());
+
+        // then
+        assertUsesIndex(explainSingle("todos"), IDX_USER_STATS);
+    }
+
+    @Test
+    @DisplayName("countGroupedByUserIdAndIds - 전체 스캔 없음")
+    void countGroupedByUserIdAndIds_NoTableScan() {
+        // when
+        todoRepository.countGroupedByUserIdAndIds(testUser.getId(), sampleIds);
+
+        // then
+        assertNoTableScan(explainSingle("todos"));
+    }
+
+    @Test
+    @DisplayName("updateCompletedByUserIdAndIds - 전체 스캔 없음")
+    void updateCompletedByUserIdAndIds_NoTableScan() {
+        // when
+        todoRepository.updateCompletedByUserIdAndIds(testUser.getId(), sampleIds, true);
+
+        // then
+        assertNoTableScan(explainSingle("todos"));
+    }
+
+    @Test
+    @DisplayName("updatePriorityByUserIdAndIds - 전체 스캔 없음")
+    void updatePriorityByUserIdAndIds_NoTableScan() {
+        // when
+        todoRepository.updatePriorityByUserIdAndIds(testUser.getId(), sampleIds, TodoPriority.HIGH);
+
+        // then
+        assertNoTableScan(explainSingle("todos"));
+    }
+
+    @Test
+    @DisplayName("deleteByUserIdAndIds - 전체 스캔 없음")
+    void deleteByUserIdAndIds_NoTableScan() {
+        // when
+        todoRepository.deleteByUserIdAndIds(testUser.getId(), sampleIds);
+
+        // then
+        assertNoTableScan(explainSingle("todos"));
+    }
+
+    @Test
+    @DisplayName("deleteCompletedByUserId - (user_id, completed) 인덱스 사용")
+    void deleteCompletedByUserId_UsesCompletedIndex() {
+        // when
+        todoRepository.deleteCompletedByUserId(testUser.getId());
+
+        // then
+        assertUsesIndex(explainSingle("todos"), IDX_USER_COMPLETED_CREATED, IDX_USER_STATS);
+    }
+
+    @Test
+    @DisplayName("findByUserAndPriority - (user_id, priority) 인덱스 사용")
+    void findByUserAndPriority_UsesPriorityIndex() {
+        // when
+        todoRepository.findByUserAndPriority(testUser, TodoPriority.HIGH);
+
+        // then
+        assertUsesIndex(explainSingle("todos"), IDX_USER_PRIORITY);
+    }
+
+    @Test
+    @DisplayName("findByUserAndCategory - (user_id, category) 인덱스 사용")
+    void findByUserAndCategory_UsesCategoryIndex() {
+        // when
+        todoRepository.findByUserAndCategory(testUser, "업무");
+
+        // then
+        assertUsesIndex(explainSingle("todos"), IDX_USER_CATEGORY);
+    }
+
+    @Test
+    @DisplayName("findUrgentByUserId - 급한 순 정렬과 같은 인덱스 사용")
+    void findUrgentByUserId_UsesUrgencyIndex() {
+        // when
+        todoRepository.findUrgentByUserId(testUser.getId(), PageRequest.of(0, 20));
+
+        // then
+        assertSortedByIndex(explainSingle("todos"), IDX_USER_URGENCY);
+    }
+
+    @Test
+    @DisplayName("UserRepository.findByUsername - username 유니크 인덱스 사용")
+    void findByUsername_UsesUsernameIndex() {
+        // when
+        userRepository.findByUsername("planuser3");
+
+        // then
+        assertIndexCondition(explainSingle("users"), "USERNAME = ");
+    }
+
+    @Test
+    @DisplayName("UserRepository.existsByUsername - username 유니크 인덱스 사용")
+    void existsByUsername_UsesUsernameIndex() {
+        // when
+        userRepository.existsByUsername("planuser3");
+
+        // then
+        assertIndexCondition(explainSingle("users"), "USERNAME = ");
+    }
+
+    @Test
+    @DisplayName("UserRepository.findIdsAfter - 기본 키 범위 조회")
+    void findIdsAfter_UsesPrimaryKeyRange() {
+        // when
+        userRepository.findIdsAfter(0L, PageRequest.of(0, 100));
+
+        // then
+        assertIndexCondition(explainSingle("users"), "ID > ");
+    }
+
+    /**
+     * 캡처된 SQL 중 지정한 테이블을 참조하는 문장이 정확히 하나인지 확인하고 실행 계획을 반환합니다.
+     */
+    private String explainSingle(String table) {
+        List<String> statements = SqlCaptureInspector.statementsOn(table);
+        assertEquals(1, statements.size(), () -> "캡처된 SQL: " + statements);
+        return explain(statements.get(0));
+    }
+
+    /**
+     * 테스트 트랜잭션과 같은 커넥션에서 EXPLAIN을 실행합니다.
+     * 실행 계획은 준비 단계에서 결정되므로 바인딩 값은 NULL로 채웁니다.
+     */
+    private String explain(String sql) {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        String plan = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    return resultSet.getString(1);
+                }
+            }
+        });
+        return plan.replace("\"", "");
+    }
+
+    private void assertNoTableScan(String plan) {
+        assertFalse(plan.contains(".tableScan"), () -> "전체 테이블 스캔 발생:\n" + plan);
+        assertTrue(INDEX_COMMENT.matcher(plan).find(), () -> "인덱스를 사용하지 않음:\n" + plan);
+    }
+
+    private void assertUsesIndex(String plan, String... expectedIndexes) {
+        assertNoTableScan(plan);
+        Matcher matcher = INDEX_COMMENT.matcher(plan);
+        assertTrue(matcher.find());
+        String index = matcher.group(1);
+        assertTrue(Arrays.asList(expectedIndexes).contains(index),
+                () -> "기대한 인덱스 " + Arrays.toString(expectedIndexes) + " 대신 " + index + " 사용:\n" + plan);
+    }
+
+    private void assertSortedByIndex(String plan, String expectedIndex) {
+        assertUsesIndex(plan, expectedIndex);
+        assertTrue(plan.contains("/* index sorted */"), () -> "인덱스 순서로 정렬하지 않음:\n" + plan);
+    }
+
+    private void assertIndexCondition(String plan, String conditionPrefix) {
+        assertNoTableScan(plan);
+        Matcher matcher = INDEX_COMMENT.matcher(plan);
+        assertTrue(matcher.find());
+        String condition = matcher.group(2);
+        assertTrue(condition != null && condition.startsWith(conditionPrefix),
+                () -> "인덱스 조건이 '" + conditionPrefix + "'로 시작하지 않음:\n" + plan);
+    }
+}
@@ -0,0 +1,57 @@
+package com.keon.todoapp.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션 결과 검증 테스트
+ * 컨텍스트 기동 자체가 ddl-auto=validate 통과를 의미하므로 인덱스 생성 여부만 확인합니다.
+ */
+@DataJpaTest
+@DisplayName("스키마 마이그레이션 테스트")
+class SchemaMigrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("todos 테이블 - 접근 패턴별 복합 인덱스 생성")
+    void migrate_CreatesTodoIndexes() {
+        // when
+        @SuppressWarnings("unchecked")
+        List<Object> rows = entityManager.getEntityManager()
+                .createNativeQuery("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'TODOS'")
+                .getResultList();
+        List<String> indexNames = rows.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+
+        // then
+        assertTrue(indexNames.contains("IDX_TODOS_USER_CREATED"));
+        assertTrue(indexNames.contains("IDX_TODOS_USER_COMPLETED_CREATED"));
+        assertTrue(indexNames.contains("IDX_TODOS_USER_STATS"));
+        assertTrue(indexNames.contains("IDX_TODOS_USER_PRIORITY"));
+        assertTrue(indexNames.contains("IDX_TODOS_USER_CATEGORY"));
+        assertTrue(indexNames.contains("IDX_TODOS_USER_URGENCY"));
+    }
+
+    @Test
+    @DisplayName("시퀀스 - pooled 옵티마이저와 같은 증가폭(50)으로 생성")
+    void migrate_CreatesPooledSequences() {
+        // when
+        Object increment = entityManager.getEntityManager()
+                .createNativeQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TODO_SEQ'")
+                .getSingleResult();
+
+        // then
+        assertEquals(50L, ((Number) increment).longValue());
+    }
+}
@@ -0,0 +1,44 @@
+package com.keon.todoapp.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate가 실행하는 SQL을 그대로 기록하는 테스트용 StatementInspector
+ * hibernate.session_factory.statement_inspector 속성으로 등록합니다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.add(sql);
+        return sql;
+    }
+
+    /**
+     * 지금까지 기록된 SQL을 모두 지웁니다.
+     */
+    static void clear() {
+        CAPTURED.clear();
+    }
+
+    /**
+     * 기록된 SQL 중 지정한 테이블을 참조하는 문장만 반환합니다.
+     *
+     * @param table 테이블명
+     * @return 테이블을 참조하는 SQL 목록 (실행 순서)
+     */
+    static List<String> statementsOn(String table) {
+        String needle = " " + table.toLowerCase(Locale.ROOT) + " ";
+        return new ArrayList<>(CAPTURED).stream()
+                .filter(sql -> (sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ") + " ").contains(needle))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,93 @@
+package com.keon.todoapp.repository;
+
+import com.keon.todoapp.model.TodoCounter;
+import com.keon.todoapp.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TodoCounterRepository 단위 테스트
+ */
+@DataJpaTest
+@DisplayName("TodoCounterRepository 테스트")
+class TodoCounterRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TodoCounterRepository todoCounterRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("testuser");
+        testUser.setPassword("password123");
+        testUser = entityManager.persistAndFlush(testUser);
+    }
+
+    @Test
+    @DisplayName("카운터 증감 - 단일 UPDATE로 반영")
+    void applyDelta_Success() {
+        // given
+        TodoCounter counter = new TodoCounter();
+        counter.setUserId(testUser.getId());
+        counter.setTotalCount(3);
+        counter.setCompletedCount(1);
+        counter.setLowPriorityCount(3);
+        entityManager.persistAndFlush(counter);
+        entityManager.clear();
+
+        // when
+        int updated = todoCounterRepository.applyDelta(testUser.getId(), 1, 1, 1, 0, 0);
+        TodoCounter result = todoCounterRepository.findById(testUser.getId()).orElseThrow();
+
+        // then
+        assertEquals(1, updated);
+        assertEquals(4, result.getTotalCount());
+        assertEquals(2, result.getCompletedCount());
+        assertEquals(2, result.getPendingCount());
+        assertEquals(1, result.getHighPriorityCount());
+        assertEquals(3, result.getLowPriorityCount());
+        assertEquals(1, result.getDataVersion());
+        assertEquals(1L, todoCounterRepository.findDataVersionByUserId(testUser.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("카운터 증감 - 이미 읽은 카운터도 새 값으로 다시 조회")
+    void applyDelta_ClearsLoadedCounter() {
+        // given
+        TodoCounter counter = new TodoCounter();
+        counter.setUserId(testUser.getId());
+        entityManager.persistAndFlush(counter);
+        todoCounterRepository.findById(testUser.getId()).orElseThrow();
+
+        // when
+        todoCounterRepository.applyDelta(testUser.getId(), 2, 0, 0, 2, 0);
+        TodoCounter result = todoCounterRepository.findById(testUser.getId()).orElseThrow();
+
+        // then
+        assertEquals(2, result.getTotalCount());
+        assertEquals(2, result.getMediumPriorityCount());
+        assertEquals(1, result.getDataVersion());
+    }
+
+    @Test
+    @DisplayName("카운터 증감 - 카운터가 없으면 0건")
+    void applyDelta_MissingCounter() {
+        // when
+        int updated = todoCounterRepository.applyDelta(testUser.getId(), 1, 0, 0, 0, 1);
+
+        // then
+        assertEquals(0, updated);
+        assertFalse(todoCounterRepository.findById(testUser.getId()).isPresent());
+    }
+}
@@ -1,6 +1,9 @@
 package com.keon.todoapp.repository;
 
+import com.keon.todoapp.dto.TodoCountRow;
+import com.keon.todoapp.dto.TodoStats;
 import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
 import com.keon.todoapp.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,9 +11,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -41,8 +49,8 @@ class TodoRepositoryTest {
     @DisplayName("사용자별 Todo 조회")
     void findByUser_Success() {
         // given
-        Todo todo1 = createTodo("Todo 1", "업무", "HIGH", false);
-        Todo todo2 = createTodo("Todo 2", "개인", "LOW", true);
+        Todo todo1 = createTodo("Todo 1", "업무", TodoPriority.HIGH, false);
+        Todo todo2 = createTodo("Todo 2", "개인", TodoPriority.LOW, true);
         entityManager.persistAndFlush(todo1);
         entityManager.persistAndFlush(todo2);
 
@@ -58,8 +66,8 @@ class TodoRepositoryTest {
     @DisplayName("완료 상태별 Todo 조회")
     void findByUserAndCompleted_Success() {
         // given
-        Todo completedTodo = createTodo("Completed Todo", "업무", "HIGH", true);
-        Todo pendingTodo = createTodo("Pending Todo", "개인", "LOW", false);
+        Todo completedTodo = createTodo("Completed Todo", "업무", TodoPriority.HIGH, true);
+        Todo pendingTodo = createTodo("Pending Todo", "개인", TodoPriority.LOW, false);
         entityManager.persistAndFlush(completedTodo);
         entityManager.persistAndFlush(pendingTodo);
 
@@ -81,10 +89,10 @@ class TodoRepositoryTest {
     @DisplayName("생성일 기준 내림차순 정렬 조회")
     void findByUserOrderByCreatedDateDesc_Success() {
         // given
-        Todo oldTodo = createTodo("Old Todo", "업무", "HIGH", false);
+        Todo oldTodo = createTodo("Old Todo", "업무", TodoPriority.HIGH, false);
         oldTodo.setCreatedDate(LocalDate.now().minusDays(2));
 
-        Todo newTodo = createTodo("New Todo", "개인", "LOW", false);
+        Todo newTodo = createTodo("New Todo", "개인", TodoPriority.LOW, false);
         newTodo.setCreatedDate(LocalDate.now());
 
         entityManager.persistAndFlush(oldTodo);
@@ -99,6 +107,53 @@ class TodoRepositoryTest {
         assertEquals("Old Todo", result.get(1).getTitle());
     }
 
+    @Test
+    @DisplayName("커서 기반 페이지 조회 - 생성일, ID 내림차순으로 이어서 조회")
+    void findByUserAfterCursor_Success() {
+        // given
+        Todo oldTodo = createTodo("Old Todo", "업무", TodoPriority.HIGH, false);
+        oldTodo.setCreatedDate(LocalDate.now().minusDays(1));
+        Todo sameDayFirst = createTodo("Same Day 1", "개인", TodoPriority.LOW, false);
+        Todo sameDaySecond = createTodo("Same Day 2", "개인", TodoPriority.LOW, false);
+
+        entityManager.persistAndFlush(oldTodo);
+        entityManager.persistAndFlush(sameDayFirst);
+        entityManager.persistAndFlush(sameDaySecond);
+
+        // when
+        List<Todo> firstPage = todoRepository.findByUserOrderByCreatedDateDescIdDesc(testUser, PageRequest.of(0, 2));
+        Todo last = firstPage.get(firstPage.size() - 1);
+        List<Todo> nextPage = todoRepository.findByUserAfterCursor(
+                testUser, last.getCreatedDate(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertEquals(2, firstPage.size());
+        assertEquals("Same Day 2", firstPage.get(0).getTitle()); // 같은 날짜는 ID 내림차순
+        assertEquals("Same Day 1", firstPage.get(1).getTitle());
+        assertEquals(1, nextPage.size());
+        assertEquals("Old Todo", nextPage.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("완료 상태별 커서 기반 페이지 조회")
+    void findByUserAndCompletedAfterCursor_Success() {
+        // given
+        createAndPersistTodos();
+
+        // when
+        List<Todo> firstPage = todoRepository.findByUserAndCompletedOrderByCreatedDateDescIdDesc(
+                testUser, false, PageRequest.of(0, 2));
+        Todo last = firstPage.get(firstPage.size() - 1);
+        List<Todo> nextPage = todoRepository.findByUserAndCompletedAfterCursor(
+                testUser, false, last.getCreatedDate(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertEquals(2, firstPage.size());
+        assertEquals(1, nextPage.size());
+        assertTrue(nextPage.stream().noneMatch(Todo::isCompleted));
+        assertTrue(nextPage.get(0).getId() < last.getId());
+    }
+
     @Test
     @DisplayName("완료 상태별 개수 조회")
     void countByUserAndCompleted_Success() {
@@ -114,41 +169,167 @@ class TodoRepositoryTest {
         assertEquals(3, pendingCount);
     }
 
+    @Test
+    @DisplayName("사용자별 Todo 스트림 조회")
+    void streamByUserId_Success() {
+        // given
+        createAndPersistTodos();
+        entityManager.clear();
+
+        // when
+        List<String> titles;
+        try (Stream<Todo> todos = todoRepository.streamByUserId(testUser.getId())) {
+            titles = todos.map(Todo::getTitle).collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(5, titles.size());
+        assertEquals("Pending 3", titles.get(0)); // 같은 생성일이면 ID 내림차순
+    }
+
+    @Test
+    @DisplayName("소유자 조건을 포함한 ID 조회")
+    void findByIdAndUserId_Success() {
+        // given
+        User otherUser = new User();
+        otherUser.setUsername("otheruser");
+        otherUser.setPassword("password123");
+        otherUser = entityManager.persistAndFlush(otherUser);
+        Todo todo = entityManager.persistAndFlush(createTodo("Todo 1", "업무", TodoPriority.HIGH, false));
+        entityManager.clear();
+
+        // when
+        Optional<Todo> owned = todoRepository.findByIdAndUserId(todo.getId(), testUser.getId());
+        Optional<Todo> notOwned = todoRepository.findByIdAndUserId(todo.getId(), otherUser.getId());
+
+        // then
+        assertTrue(owned.isPresent());
+        assertEquals("Todo 1", owned.get().getTitle());
+        assertFalse(notOwned.isPresent());
+    }
+
+    @Test
+    @DisplayName("완료 상태, 우선순위, 카테고리별 그룹 집계")
+    void countGroupedByUserId_Success() {
+        // given
+        createAndPersistTodos();
+        entityManager.persistAndFlush(createTodo("Completed 3", "업무", TodoPriority.HIGH, true));
+
+        // when
+        List<TodoCountRow> rows = todoRepository.countGroupedByUserId(testUser.getId());
+        TodoStats stats = TodoStats.from(rows);
+
+        // then
+        assertEquals(5, rows.size()); // (true, HIGH, 업무)는 2건이 한 행으로 집계
+        assertEquals(6, stats.getTotalCount());
+        assertEquals(3, stats.getCompletedCount());
+        assertEquals(3, stats.getPendingCount());
+        assertEquals(3, stats.getHighPriorityCount());
+        assertEquals(1, stats.getMediumPriorityCount());
+        assertEquals(2, stats.getLowPriorityCount());
+        assertEquals(2L, stats.getCategoryCounts().get("업무"));
+    }
+
+    @Test
+    @DisplayName("사용자 조건을 포함한 일괄 완료 처리와 삭제")
+    void bulkUpdateAndDelete_ScopedToUser() {
+        // given
+        User otherUser = new User();
+        otherUser.setUsername("otheruser");
+        otherUser.setPassword("password123");
+        otherUser = entityManager.persistAndFlush(otherUser);
+
+        Todo mine1 = entityManager.persistAndFlush(createTodo("Mine 1", "업무", TodoPriority.HIGH, false));
+        Todo mine2 = entityManager.persistAndFlush(createTodo("Mine 2", "개인", TodoPriority.LOW, true));
+        Todo others = createTodo("Others", "업무", TodoPriority.HIGH, false);
+        others.setUser(otherUser);
+        others = entityManager.persistAndFlush(others);
+        List<Long> ids = Arrays.asList(mine1.getId(), mine2.getId(), others.getId());
+
+        // when
+        List<TodoCountRow> rows = todoRepository.countGroupedByUserIdAndIds(testUser.getId(), ids);
+        List<Long> toComplete = todoRepository.findIdsByUserIdAndIdsAndCompletedNot(testUser.getId(), ids, true);
+        List<Long> toReprioritize = todoRepository.findIdsByUserIdAndIdsAndPriorityNot(testUser.getId(), ids, TodoPriority.LOW);
+        int completed = todoRepository.updateCompletedByUserIdAndIds(testUser.getId(), ids, true);
+        int reprioritized = todoRepository.updatePriorityByUserIdAndIds(testUser.getId(), ids, TodoPriority.LOW);
+        int cleared = todoRepository.deleteCompletedByUserId(testUser.getId());
+
+        // then
+        assertEquals(2, rows.stream().mapToLong(TodoCountRow::getCount).sum());
+        assertEquals(List.of(mine1.getId()), toComplete);
+        assertEquals(List.of(mine1.getId()), toReprioritize);
+        assertEquals(1, completed);
+        assertEquals(1, reprioritized);
+        assertEquals(2, cleared);
+        assertTrue(todoRepository.findByUser(testUser).isEmpty());
+        Todo othersAfter = todoRepository.findById(others.getId()).orElseThrow();
+        assertFalse(othersAfter.isCompleted());
+        assertEquals(TodoPriority.HIGH, othersAfter.getPriority());
+    }
+
     @Test
     @DisplayName("우선순위별 Todo 조회")
     void findByUserAndPriority_Success() {
         // given
-        Todo highTodo = createTodo("High Priority", "업무", "HIGH", false);
-        Todo mediumTodo = createTodo("Medium Priority", "개인", "MEDIUM", false);
-        Todo lowTodo = createTodo("Low Priority", "학습", "LOW", false);
+        Todo highTodo = createTodo("High Priority", "업무", TodoPriority.HIGH, false);
+        Todo mediumTodo = createTodo("Medium Priority", "개인", TodoPriority.MEDIUM, false);
+        Todo lowTodo = createTodo("Low Priority", "학습", TodoPriority.LOW, false);
 
         entityManager.persistAndFlush(highTodo);
         entityManager.persistAndFlush(mediumTodo);
         entityManager.persistAndFlush(lowTodo);
 
         // when
-        List<Todo> highPriorityTodos = todoRepository.findByUserAndPriority(testUser, "HIGH");
-        List<Todo> mediumPriorityTodos = todoRepository.findByUserAndPriority(testUser, "MEDIUM");
-        List<Todo> lowPriorityTodos = todoRepository.findByUserAndPriority(testUser, "LOW");
+        List<Todo> highPriorityTodos = todoRepository.findByUserAndPriority(testUser, TodoPriority.HIGH);
+        List<Todo> mediumPriorityTodos = todoRepository.findByUserAndPriority(testUser, TodoPriority.MEDIUM);
+        List<Todo> lowPriorityTodos = todoRepository.findByUserAndPriority(testUser, TodoPriority.LOW);
 
         // then
         assertEquals(1, highPriorityTodos.size());
-        assertEquals("HIGH", highPriorityTodos.get(0).getPriority());
+        assertEquals(TodoPriority.HIGH, highPriorityTodos.get(0).getPriority());
 
         assertEquals(1, mediumPriorityTodos.size());
-        assertEquals("MEDIUM", mediumPriorityTodos.get(0).getPriority());
+        assertEquals(TodoPriority.MEDIUM, mediumPriorityTodos.get(0).getPriority());
 
         assertEquals(1, lowPriorityTodos.size());
-        assertEquals("LOW", lowPriorityTodos.get(0).getPriority());
+        assertEquals(TodoPriority.LOW, lowPriorityTodos.get(0).getPriority());
+    }
+
+    @Test
+    @DisplayName("급한 순 Todo 조회 - 우선순위, 마감일(없으면 마지막), 최신순 정렬")
+    void findUrgentByUserId_Success() {
+        // given
+        Todo highNoDue = createTodo("High No Due", "업무", TodoPriority.HIGH, false);
+        Todo highDueLater = createTodo("High Due Later", "업무", TodoPriority.HIGH, false);
+        highDueLater.setDueDate(LocalDate.now().plusDays(5));
+        Todo highDueSoon = createTodo("High Due Soon", "업무", TodoPriority.HIGH, false);
+        highDueSoon.setDueDate(LocalDate.now().plusDays(1));
+        Todo mediumDueSoon = createTodo("Medium Due Soon", "개인", TodoPriority.MEDIUM, false);
+        mediumDueSoon.setDueDate(LocalDate.now());
+        Todo completedHigh = createTodo("Completed High", "업무", TodoPriority.HIGH, true);
+        completedHigh.setDueDate(LocalDate.now());
+
+        entityManager.persistAndFlush(highNoDue);
+        entityManager.persistAndFlush(highDueLater);
+        entityManager.persistAndFlush(highDueSoon);
+        entityManager.persistAndFlush(mediumDueSoon);
+        entityManager.persistAndFlush(completedHigh);
+
+        // when
+        List<Todo> result = todoRepository.findUrgentByUserId(testUser.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertEquals(Arrays.asList("High Due Soon", "High Due Later", "High No Due", "Medium Due Soon"),
+                result.stream().map(Todo::getTitle).collect(Collectors.toList()));
     }
 
     @Test
     @DisplayName("카테고리별 Todo 조회")
     void findByUserAndCategory_Success() {
         // given
-        Todo workTodo1 = createTodo("Work Todo 1", "업무", "HIGH", false);
-        Todo workTodo2 = createTodo("Work Todo 2", "업무", "MEDIUM", true);
-        Todo personalTodo = createTodo("Personal Todo", "개인", "LOW", false);
+        Todo workTodo1 = createTodo("Work Todo 1", "업무", TodoPriority.HIGH, false);
+        Todo workTodo2 = createTodo("Work Todo 2", "업무", TodoPriority.MEDIUM, true);
+        Todo personalTodo = createTodo("Personal Todo", "개인", TodoPriority.LOW, false);
 
         entityManager.persistAndFlush(workTodo1);
         entityManager.persistAndFlush(workTodo2);
@@ -166,7 +347,7 @@ class TodoRepositoryTest {
         assertEquals("개인", personalTodos.get(0).getCategory());
     }
 
-    private Todo createTodo(String title, String category, String priority, boolean completed) {
+    private Todo createTodo(String title, String category, TodoPriority priority, boolean completed) {
         Todo todo = new Todo();
         todo.setTitle(title);
         todo.setDescription("Description for " + title);
@@ -180,12 +361,12 @@ class TodoRepositoryTest {
 
     private void createAndPersistTodos() {
         // 완료된 Todo 2개
-        entityManager.persistAndFlush(createTodo("Completed 1", "업무", "HIGH", true));
-        entityManager.persistAndFlush(createTodo("Completed 2", "개인", "LOW", true));
+        entityManager.persistAndFlush(createTodo("Completed 1", "업무", TodoPriority.HIGH, true));
+        entityManager.persistAndFlush(createTodo("Completed 2", "개인", TodoPriority.LOW, true));
 
         // 미완료 Todo 3개
-        entityManager.persistAndFlush(createTodo("Pending 1", "학습", "MEDIUM", false));
-        entityManager.persistAndFlush(createTodo("Pending 2", "운동", "HIGH", false));
-        entityManager.persistAndFlush(createTodo("Pending 3", "취미", "LOW", false));
+        entityManager.persistAndFlush(createTodo("Pending 1", "학습", TodoPriority.MEDIUM, false));
+        entityManager.persistAndFlush(createTodo("Pending 2", "운동", TodoPriority.HIGH, false));
+        entityManager.persistAndFlush(createTodo("Pending 3", "취미", TodoPriority.LOW, false));
     }
 }
@@ -0,0 +1,152 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedUserCache 단위 테스트
+ */
+@DisplayName("BoundedUserCache 테스트")
+class BoundedUserCacheTest {
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        return user;
+    }
+
+    @Test
+    @DisplayName("저장한 사용자 조회 - 적중")
+    void getUser_Hit() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(10, Duration.ofMinutes(10), 10, Duration.ofMinutes(1));
+        User user = user("testuser");
+        cache.putUserInCache(user);
+
+        // when
+        User result = cache.getUser("testuser");
+
+        // then
+        assertSame(user, result);
+        assertNull(cache.getUser("other"));
+    }
+
+    @Test
+    @DisplayName("최대 개수 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void putUserInCache_EvictsLeastRecentlyUsed() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(2, Duration.ofMinutes(10), 10, Duration.ofMinutes(1));
+        cache.putUserInCache(user("a"));
+        cache.putUserInCache(user("b"));
+        cache.getUser("a");
+
+        // when
+        cache.putUserInCache(user("c"));
+
+        // then
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getUser("a"));
+        assertNull(cache.getUser("b"));
+        assertNotNull(cache.getUser("c"));
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 이벤트 - 캐시된 사용자를 새 해시로 교체")
+    void onPasswordChanged_ReplacesUser() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(10, Duration.ofMinutes(10), 10, Duration.ofMinutes(1));
+        cache.putUserInCache(user("testuser"));
+        User rehashed = user("testuser");
+        rehashed.setPassword("newHash");
+
+        // when
+        cache.onPasswordChanged(new UserPasswordChangedEvent(rehashed));
+
+        // then
+        assertEquals("newHash", cache.getUser("testuser").getPassword());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않음")
+    void getUser_Expired() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(10, Duration.ZERO, 10, Duration.ZERO);
+        cache.putUserInCache(user("testuser"));
+        cache.putMissing("ghost");
+
+        // when & then
+        assertNull(cache.getUser("testuser"));
+        assertFalse(cache.isKnownMissing("ghost"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.missingSize());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자명 기록 및 제거")
+    void putMissing_AndRemove() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(10, Duration.ofMinutes(10), 10, Duration.ofMinutes(1));
+        cache.putMissing("ghost");
+
+        // when & then
+        assertTrue(cache.isKnownMissing("ghost"));
+        assertNull(cache.getUser("ghost"));
+
+        cache.removeUserFromCache("ghost");
+        assertFalse(cache.isKnownMissing("ghost"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자명이 많아도 실제 사용자 항목은 제거되지 않음")
+    void putMissing_DoesNotEvictUsers() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(2, Duration.ofMinutes(10), 3, Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.putUserInCache(user("a"));
+        cache.putUserInCache(user("b"));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.putMissing("ghost-" + i);
+        }
+
+        // then
+        assertNotNull(cache.getUser("a"));
+        assertNotNull(cache.getUser("b"));
+        assertEquals(3, cache.missingSize());
+        assertTrue(cache.isKnownMissing("ghost-99"));
+        assertFalse(cache.isKnownMissing("ghost-0"));
+        assertEquals(0.0, registry.get("cache.evictions").tag("cache", "users").functionCounter().count());
+        assertEquals(97.0, registry.get("cache.evictions").tag("cache", "users-missing").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("적중/미스/제거 지표 등록")
+    void bindTo_RegistersMetrics() {
+        // given
+        BoundedUserCache cache = new BoundedUserCache(1, Duration.ofMinutes(10), 10, Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // when
+        cache.putUserInCache(user("a"));
+        cache.getUser("a");
+        cache.getUser("b");
+        cache.putUserInCache(user("b"));
+
+        // then
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").tag("cache", "users").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", "users").gauge().value());
+    }
+}
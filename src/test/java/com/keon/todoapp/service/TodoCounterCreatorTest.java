@@ -0,0 +1,107 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoCounter;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TodoCounterCreator 통합 테스트
+ * 별도 트랜잭션으로 커밋되는 동작을 확인하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+@DisplayName("TodoCounterCreator 테스트")
+class TodoCounterCreatorTest {
+
+    @Autowired
+    private TodoCounterCreator todoCounterCreator;
+
+    @Autowired
+    private TodoCounterService todoCounterService;
+
+    @Autowired
+    private TodoCounterRepository todoCounterRepository;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        User newUser = new User();
+        newUser.setUsername("counter-" + System.nanoTime());
+        newUser.setPassword("password123");
+        user = userService.registerUser(newUser);
+
+        Todo todo = new Todo();
+        todo.setTitle("기존 Todo");
+        todo.setCategory("업무");
+        todo.setPriority(TodoPriority.HIGH);
+        todoService.createTodo(todo, user);
+        // 카운터 도입 전 사용자처럼 카운터만 없는 상태로 만듦
+        todoCounterRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("중복 생성 - 호출한 트랜잭션은 롤백되지 않고 변화량을 반영")
+    void create_DuplicateDoesNotRollBackCaller() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        todoCounterCreator.create(user.getId());
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            assertThrows(DataIntegrityViolationException.class, () -> todoCounterCreator.create(user.getId()));
+            Todo todo = new Todo();
+            todo.setTitle("새 Todo");
+            todo.setCategory("업무");
+            todo.setPriority(TodoPriority.LOW);
+            todoService.createTodo(todo, user);
+            assertFalse(status.isRollbackOnly());
+        });
+
+        // then
+        TodoCounter counter = todoCounterRepository.findById(user.getId()).orElseThrow();
+        assertEquals(2, counter.getTotalCount());
+        assertEquals(1, counter.getHighPriorityCount());
+        assertEquals(1, counter.getLowPriorityCount());
+    }
+
+    @Test
+    @DisplayName("변화량 반영 - 카운터가 없으면 커밋된 집계로 만든 뒤 변화량을 더함")
+    void apply_MissingCounter() {
+        // given
+        Todo todo = new Todo();
+        todo.setTitle("새 Todo");
+        todo.setCategory("개인");
+        todo.setPriority(TodoPriority.MEDIUM);
+
+        // when
+        todoService.createTodo(todo, user);
+
+        // then
+        TodoCounter counter = todoCounterRepository.findById(user.getId()).orElseThrow();
+        assertEquals(2, counter.getTotalCount());
+        assertEquals(1, counter.getHighPriorityCount());
+        assertEquals(1, counter.getMediumPriorityCount());
+        assertEquals(todoCounterService.getStats(user).getTotalCount(), counter.getTotalCount());
+    }
+}
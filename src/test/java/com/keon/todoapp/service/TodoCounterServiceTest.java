@@ -0,0 +1,210 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.dto.TodoCountRow;
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.TodoCounter;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoCounterRepository;
+import com.keon.todoapp.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoCounterService 단위 테스트
+ */
+@DisplayName("TodoCounterService 테스트")
+class TodoCounterServiceTest {
+
+    @Mock
+    private TodoCounterRepository todoCounterRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoCounterCreator todoCounterCreator;
+
+    @InjectMocks
+    private TodoCounterService todoCounterService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("변화량 반영 - 카운터가 있으면 UPDATE 한 번으로 처리")
+    void apply_ExistingCounter() {
+        // given
+        Todo todo = new Todo();
+        todo.setPriority(TodoPriority.HIGH);
+        when(todoCounterRepository.applyDelta(1L, 1, 0, 1, 0, 0)).thenReturn(1);
+
+        // when
+        todoCounterService.apply(testUser, TodoCounterDelta.created(todo));
+
+        // then
+        verify(todoCounterRepository).applyDelta(1L, 1, 0, 1, 0, 0);
+        verify(todoRepository, never()).countGroupedByUserId(anyLong());
+        verify(todoCounterRepository, never()).save(any(TodoCounter.class));
+    }
+
+    @Test
+    @DisplayName("변화량 반영 - 카운터가 없으면 생성한 뒤 변화량을 다시 반영")
+    void apply_MissingCounter() {
+        // given
+        when(todoCounterRepository.applyDelta(1L, 1, 0, 0, 0, 1)).thenReturn(0, 1);
+
+        // when
+        todoCounterService.apply(testUser, new TodoCounterDelta(1, 0, 0, 0, 1));
+
+        // then
+        verify(todoCounterCreator).create(1L);
+        verify(todoCounterRepository, times(2)).applyDelta(1L, 1, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("변화량 반영 - 다른 트랜잭션이 먼저 카운터를 만들면 그 카운터에 반영")
+    void apply_CounterCreatedConcurrently() {
+        // given
+        when(todoCounterRepository.applyDelta(1L, 1, 0, 0, 0, 1)).thenReturn(0, 1);
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(todoCounterCreator).create(1L);
+
+        // when
+        assertDoesNotThrow(() -> todoCounterService.apply(testUser, new TodoCounterDelta(1, 0, 0, 0, 1)));
+
+        // then
+        verify(todoCounterRepository, times(2)).applyDelta(1L, 1, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("변화량 반영 - 개수 변화가 없어도 데이터 버전은 증가")
+    void apply_EmptyDelta() {
+        // given
+        when(todoCounterRepository.applyDelta(1L, 0, 0, 0, 0, 0)).thenReturn(1);
+
+        // when
+        todoCounterService.apply(testUser, TodoCounterDelta.priorityChanged(TodoPriority.LOW, TodoPriority.LOW));
+
+        // then
+        verify(todoCounterRepository).applyDelta(1L, 0, 0, 0, 0, 0);
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    @DisplayName("데이터 버전 조회")
+    void getDataVersion_Success() {
+        // given
+        when(todoCounterRepository.findDataVersionByUserId(1L)).thenReturn(Optional.of(7L));
+        when(todoCounterRepository.findDataVersionByUserId(2L)).thenReturn(Optional.empty());
+        User otherUser = new User();
+        otherUser.setId(2L);
+
+        // when & then
+        assertEquals(7L, todoCounterService.getDataVersion(testUser));
+        assertNull(todoCounterService.getDataVersion(otherUser));
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 카운터 기본 키 조회")
+    void getStats_FromCounter() {
+        // given
+        TodoCounter counter = counter(5, 2, 1, 1, 3);
+        when(todoCounterRepository.findById(1L)).thenReturn(Optional.of(counter));
+
+        // when
+        TodoStats stats = todoCounterService.getStats(testUser);
+
+        // then
+        assertEquals(5, stats.getTotalCount());
+        assertEquals(2, stats.getCompletedCount());
+        assertEquals(3, stats.getPendingCount());
+        assertEquals(3, stats.getLowPriorityCount());
+        verify(todoRepository, never()).countGroupedByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("보정 - 어긋난 카운터를 집계 결과로 수정")
+    void reconcile_DriftedCounter() {
+        // given
+        TodoCounter counter = counter(10, 10, 10, 0, 0);
+        when(todoCounterRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(counter));
+        when(todoRepository.countGroupedByUserId(1L)).thenReturn(Arrays.asList(
+                new TodoCountRow(false, TodoPriority.MEDIUM, "업무", 4L)));
+
+        // when
+        boolean fixed = todoCounterService.reconcile(1L);
+
+        // then
+        assertTrue(fixed);
+        assertEquals(4, counter.getTotalCount());
+        assertEquals(0, counter.getCompletedCount());
+        assertEquals(0, counter.getHighPriorityCount());
+        assertEquals(4, counter.getMediumPriorityCount());
+        assertEquals(1, counter.getDataVersion());
+    }
+
+    @Test
+    @DisplayName("보정 - 일치하는 카운터는 변경 없음")
+    void reconcile_MatchingCounter() {
+        // given
+        TodoCounter counter = counter(1, 1, 1, 0, 0);
+        when(todoCounterRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(counter));
+        when(todoRepository.countGroupedByUserId(1L)).thenReturn(Arrays.asList(
+                new TodoCountRow(true, TodoPriority.HIGH, "업무", 1L)));
+
+        // when & then
+        assertFalse(todoCounterService.reconcile(1L));
+        verify(todoCounterRepository, never()).save(any(TodoCounter.class));
+    }
+
+    @Test
+    @DisplayName("보정 - 카운터가 없으면 별도 트랜잭션으로 생성")
+    void reconcile_MissingCounter() {
+        // given
+        TodoCounter created = counter(1, 1, 1, 0, 0);
+        when(todoCounterRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty(), Optional.of(created));
+        when(todoRepository.countGroupedByUserId(1L)).thenReturn(Arrays.asList(
+                new TodoCountRow(true, TodoPriority.HIGH, "업무", 1L)));
+
+        // when
+        boolean fixed = todoCounterService.reconcile(1L);
+
+        // then
+        assertTrue(fixed);
+        verify(todoCounterCreator).create(1L);
+        verify(todoCounterRepository, never()).save(any(TodoCounter.class));
+    }
+
+    private TodoCounter counter(long total, long completed, long high, long medium, long low) {
+        TodoCounter counter = new TodoCounter();
+        counter.setUserId(1L);
+        counter.setTotalCount(total);
+        counter.setCompletedCount(completed);
+        counter.setHighPriorityCount(high);
+        counter.setMediumPriorityCount(medium);
+        counter.setLowPriorityCount(low);
+        return counter;
+    }
+}
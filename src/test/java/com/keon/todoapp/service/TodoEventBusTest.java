@@ -0,0 +1,205 @@
+package com.keon.todoapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TodoEventBus 단위 테스트
+ */
+@DisplayName("TodoEventBus 테스트")
+class TodoEventBusTest {
+
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(10);
+
+    private TodoEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("발행 - 같은 사용자의 구독자에게만 전달")
+    void publish_FanOut() throws Exception {
+        // given
+        bus = new TodoEventBus(16, 8, 2, WRITE_TIMEOUT);
+        RecordingSink first = new RecordingSink(null);
+        RecordingSink second = new RecordingSink(null);
+        RecordingSink other = new RecordingSink(null);
+        bus.subscribe(1L, first);
+        bus.subscribe(1L, second);
+        bus.subscribe(2L, other);
+
+        // when
+        bus.publish(TodoLiveEvent.deleted(1L, List.of(10L)));
+
+        // then
+        assertEquals(TodoLiveEvent.Type.DELETED, first.next().getType());
+        assertEquals(List.of(10L), second.next().getIds());
+        assertNull(other.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("느린 구독자 - 발행은 막히지 않고 버퍼가 넘치면 재조회 이벤트로 대체")
+    void publish_SlowSubscriber() throws Exception {
+        // given
+        bus = new TodoEventBus(4, 8, 1, WRITE_TIMEOUT);
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink(gate);
+        bus.subscribe(1L, slow);
+
+        // when
+        long start = System.nanoTime();
+        for (long id = 1; id <= 100; id++) {
+            bus.publish(TodoLiveEvent.toggled(1L, List.of(id), true));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        gate.countDown();
+
+        // then
+        assertTrue(elapsedMillis < 1000, "발행이 구독자 전송을 기다리면 안 됨: " + elapsedMillis + "ms");
+        List<TodoLiveEvent> received = slow.drain();
+        assertTrue(received.size() < 100);
+        assertTrue(received.stream().anyMatch(event -> event.getType() == TodoLiveEvent.Type.RESYNC));
+    }
+
+    @Test
+    @DisplayName("전송 실패 - 구독을 정리하고 연결을 닫음")
+    void send_FailureCancels() throws Exception {
+        // given
+        bus = new TodoEventBus(16, 8, 1, WRITE_TIMEOUT);
+        RecordingSink broken = new RecordingSink(null);
+        broken.failing = true;
+        bus.subscribe(1L, broken);
+
+        // when
+        bus.publish(TodoLiveEvent.cleared(1L));
+
+        // then
+        assertTrue(broken.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, bus.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송 제한 시간 초과 - 막힌 구독을 끊고 다른 구독자 전송은 계속")
+    void expireStalledWrites_FreesSender() throws Exception {
+        // given
+        bus = new TodoEventBus(16, 8, 1, Duration.ofMillis(50));
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingSink stalled = new RecordingSink(gate);
+        RecordingSink other = new RecordingSink(null);
+        bus.subscribe(1L, stalled);
+        bus.subscribe(2L, other);
+        bus.publish(TodoLiveEvent.cleared(1L));
+        bus.publish(TodoLiveEvent.cleared(2L));
+
+        try {
+            // when
+            Thread.sleep(200);
+            bus.expireStalledWrites();
+
+            // then
+            assertEquals(TodoLiveEvent.Type.CLEARED, other.next().getType());
+            assertEquals(1, bus.getSubscriberCount());
+            assertEquals(1, stalled.closed.getCount());
+        } finally {
+            gate.countDown();
+        }
+        assertTrue(stalled.closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("구독 - 사용자별 최대 구독자 수를 넘으면 가장 오래된 구독 종료")
+    void subscribe_EvictsOldest() {
+        // given
+        bus = new TodoEventBus(16, 2, 1, WRITE_TIMEOUT);
+        RecordingSink oldest = new RecordingSink(null);
+        bus.subscribe(1L, oldest);
+        bus.subscribe(1L, new RecordingSink(null));
+
+        // when
+        bus.subscribe(1L, new RecordingSink(null));
+
+        // then
+        assertEquals(0, oldest.closed.getCount());
+        assertEquals(2, bus.getSubscriberCount());
+    }
+
+    /**
+     * 받은 이벤트를 기록하는 구독 대상 (gate가 있으면 열릴 때까지 전송을 지연)
+     */
+    private static final class RecordingSink implements TodoEventSink {
+
+        private final BlockingQueue<TodoLiveEvent> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch gate;
+        private volatile boolean failing;
+
+        private RecordingSink(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(TodoLiveEvent event) throws IOException {
+            if (failing) {
+                throw new IOException("연결 끊김");
+            }
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void sendHeartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        private TodoLiveEvent next() throws InterruptedException {
+            TodoLiveEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            return event;
+        }
+
+        /**
+         * 재조회 이벤트를 받을 때까지(최대 5초) 받은 이벤트를 모읍니다.
+         */
+        private List<TodoLiveEvent> drain() throws InterruptedException {
+            List<TodoLiveEvent> received = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                TodoLiveEvent event = events.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    received.add(event);
+                    if (event.getType() == TodoLiveEvent.Type.RESYNC) {
+                        break;
+                    }
+                }
+            }
+            return received;
+        }
+    }
+}
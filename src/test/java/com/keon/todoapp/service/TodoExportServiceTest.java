@@ -0,0 +1,126 @@
+package com.keon.todoapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoExportService 단위 테스트
+ */
+@DisplayName("TodoExportService 테스트")
+class TodoExportServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TodoExportService todoExportService;
+
+    private User testUser;
+    private Todo first;
+    private Todo second;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        todoExportService = new TodoExportService(todoRepository, objectMapper, entityManager);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+
+        first = new Todo();
+        first.setTitle("보고서, \"초안\"");
+        first.setDescription("여러 줄\n설명");
+        first.setCategory("업무");
+        first.setPriority(TodoPriority.HIGH);
+        first.setDueDate(LocalDate.of(2025, 1, 31));
+        first.setCreatedDate(LocalDate.of(2025, 1, 1));
+
+        second = new Todo();
+        second.setTitle("운동하기");
+        second.setCategory("운동");
+        second.setCompleted(true);
+        second.setCreatedDate(LocalDate.of(2025, 1, 2));
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 특수문자 이스케이프와 엔티티 분리")
+    void export_Csv() throws Exception {
+        // given
+        when(todoRepository.streamByUserId(1L)).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = todoExportService.export(testUser, TodoFileFormat.CSV, out);
+
+        // then
+        assertEquals(2, count);
+        assertEquals("title,description,category,priority,completed,dueDate,createdDate\n"
+                        + "\"보고서, \"\"초안\"\"\",\"여러 줄\n설명\",업무,HIGH,false,2025-01-31,2025-01-01\n"
+                        + "운동하기,,운동,LOW,true,,2025-01-02\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 결과를 그대로 다시 읽을 수 있음")
+    void export_CsvRoundTrip() throws Exception {
+        // given
+        when(todoRepository.streamByUserId(1L)).thenReturn(Stream.of(first));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        todoExportService.export(testUser, TodoFileFormat.CSV, out);
+
+        // when
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(out.toString(StandardCharsets.UTF_8)));
+        reader.readRecord();
+
+        // then
+        assertEquals("보고서, \"초안\"", reader.readRecord().get(0));
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 한 줄에 객체 하나")
+    void export_Ndjson() throws Exception {
+        // given
+        when(todoRepository.streamByUserId(1L)).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        todoExportService.export(testUser, TodoFileFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode node = objectMapper.readTree(lines[0]);
+        assertEquals("보고서, \"초안\"", node.get("title").asText());
+        assertEquals("2025-01-31", node.get("dueDate").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("dueDate").isNull());
+        verify(entityManager, times(2)).detach(any(Todo.class));
+    }
+}
@@ -0,0 +1,215 @@
+package com.keon.todoapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keon.todoapp.dto.TodoImportError;
+import com.keon.todoapp.dto.TodoImportResult;
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoImportService 단위 테스트
+ */
+@DisplayName("TodoImportService 테스트")
+class TodoImportServiceTest {
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TodoImportService todoImportService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        todoImportService = new TodoImportService(todoService, new ObjectMapper(), entityManager);
+        ReflectionTestUtils.setField(todoImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(todoImportService, "maxErrors", 10);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 따옴표 필드와 청크 단위 저장")
+    void importTodos_Csv() {
+        // given
+        String csv = "title,category,priority,completed,dueDate,description\r\n"
+                + "\"보고서, 초안\",업무,high,false,2025-01-31,\"여러 줄\n설명\"\r\n"
+                + "운동하기,운동,LOW,true,,\r\n"
+                + "\r\n"
+                + "잘못된 행,개인,URGENT,false,,\r\n"
+                + "\"따옴표 \"\"포함\"\"\",,,,,\r\n";
+        List<List<Todo>> chunks = captureChunks();
+
+        // when
+        TodoImportResult result = todoImportService.importTodos(new StringReader(csv), TodoFileFormat.CSV, testUser);
+
+        // then
+        assertEquals(4, result.getTotalRows());
+        assertEquals(3, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(6, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("우선순위"));
+
+        assertEquals(2, chunks.size());
+        Todo first = chunks.get(0).get(0);
+        assertEquals("보고서, 초안", first.getTitle());
+        assertEquals(TodoPriority.HIGH, first.getPriority());
+        assertEquals("여러 줄\n설명", first.getDescription());
+        assertEquals(LocalDate.of(2025, 1, 31), first.getDueDate());
+        assertTrue(chunks.get(0).get(1).isCompleted());
+        assertEquals("따옴표 \"포함\"", chunks.get(1).get(0).getTitle());
+        assertEquals("기타", chunks.get(1).get(0).getCategory());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 잘못된 행은 건너뛰고 계속 처리")
+    void importTodos_Ndjson() {
+        // given
+        String ndjson = "{\"title\":\"책 읽기\",\"category\":\"학습\",\"completed\":true}\n"
+                + "{not json}\n"
+                + "[1,2]\n"
+                + "{\"category\":\"개인\"}\n"
+                + "{\"title\":\"장보기\",\"priority\":\"medium\",\"dueDate\":null}\n";
+        List<List<Todo>> chunks = captureChunks();
+
+        // when
+        TodoImportResult result = todoImportService.importTodos(new StringReader(ndjson), TodoFileFormat.NDJSON, testUser);
+
+        // then
+        assertEquals(5, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(3, result.getFailedRows());
+        assertEquals(List.of(2L, 3L, 4L),
+                result.getErrors().stream().map(TodoImportError::getLine).collect(Collectors.toList()));
+        assertEquals(TodoPriority.MEDIUM, chunks.get(0).get(1).getPriority());
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 최대 길이를 넘는 행은 오류로 기록하고 다음 행부터 계속 처리")
+    void importTodos_NdjsonLineTooLong() {
+        // given
+        String ndjson = "{\"title\":\"" + "가".repeat(NdjsonLineReader.MAX_LINE_LENGTH) + "\"}\n"
+                + "{\"title\":\"장보기\"}\n";
+        List<List<Todo>> chunks = captureChunks();
+
+        // when
+        TodoImportResult result = todoImportService.importTodos(new StringReader(ndjson), TodoFileFormat.NDJSON, testUser);
+
+        // then
+        assertEquals(2, result.getTotalRows());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(1L, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("너무 깁니다"));
+        assertEquals("장보기", chunks.get(0).get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 열이 너무 많은 레코드는 오류로 기록하고 다음 레코드부터 계속 처리")
+    void importTodos_CsvRecordTooWide() {
+        // given
+        String csv = "title,category\n"
+                + "할 일,업무,\n"
+                + "넘치는 행" + ",".repeat(100_000) + "\n"
+                + "장보기,개인\n";
+        List<List<Todo>> chunks = captureChunks();
+
+        // when
+        TodoImportResult result = todoImportService.importTodos(new StringReader(csv), TodoFileFormat.CSV, testUser);
+
+        // then
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(3L, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("열이 너무 많습니다"));
+        assertEquals("장보기", chunks.get(0).get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - title 헤더 없음")
+    void importTodos_CsvMissingTitleHeader() {
+        // when
+        TodoImportResult result = todoImportService.importTodos(
+                new StringReader("name,category\n할 일,업무\n"), TodoFileFormat.CSV, testUser);
+
+        // then
+        assertEquals(0, result.getImportedRows());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("title"));
+        verify(todoService, never()).createTodos(anyList(), any(User.class));
+    }
+
+    @Test
+    @DisplayName("오류 목록은 최대 개수까지만 보관")
+    void importTodos_ErrorsTruncated() {
+        // given
+        ReflectionTestUtils.setField(todoImportService, "maxErrors", 2);
+        String csv = "title,priority\na,X\nb,X\nc,X\n";
+
+        // when
+        TodoImportResult result = todoImportService.importTodos(new StringReader(csv), TodoFileFormat.CSV, testUser);
+
+        // then
+        assertEquals(3, result.getFailedRows());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+    }
+
+    @Test
+    @DisplayName("청크 저장 실패 시 해당 청크만 실패 처리")
+    void importTodos_ChunkFailure() {
+        // given
+        when(todoService.createTodos(anyList(), eq(testUser)))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        String csv = "title\na\nb\nc\n";
+
+        // when
+        TodoImportResult result = todoImportService.importTodos(new StringReader(csv), TodoFileFormat.CSV, testUser);
+
+        // then
+        assertEquals(3, result.getTotalRows());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(2, result.getFailedRows());
+        assertTrue(result.getErrors().get(0).getMessage().contains("DB 오류"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Todo>> captureChunks() {
+        List<List<Todo>> chunks = new ArrayList<>();
+        when(todoService.createTodos(anyList(), eq(testUser))).thenAnswer(invocation -> {
+            List<Todo> chunk = invocation.getArgument(0);
+            chunks.add(new ArrayList<>(chunk));
+            return chunk;
+        });
+        return chunks;
+    }
+}
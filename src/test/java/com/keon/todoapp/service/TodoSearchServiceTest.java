@@ -0,0 +1,131 @@
+package com.keon.todoapp.service;
+
+import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.User;
+import com.keon.todoapp.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * TodoSearchService 단위 테스트
+ */
+@DisplayName("TodoSearchService 테스트")
+class TodoSearchServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private TodoSearchService todoSearchService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("검색 - 색인 순서를 유지하고 DB에 없는 ID는 색인에서 제거")
+    void search_KeepsIndexOrder() {
+        // given
+        Todo first = todo(3L);
+        Todo second = todo(1L);
+        when(todoSearchIndex.isLoaded(1L)).thenReturn(true);
+        when(todoSearchIndex.search(1L, "회의", 20)).thenReturn(List.of(3L, 2L, 1L));
+        when(todoRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(second, first));
+
+        // when
+        List<Todo> result = todoSearchService.search(testUser, "회의", 20);
+
+        // then
+        assertEquals(List.of(first, second), result);
+        verify(todoSearchIndex).remove(1L, List.of(2L));
+        verify(todoRepository, never()).streamByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("검색 - 색인이 없으면 DB에서 적재")
+    void search_LoadsIndex() {
+        // given
+        when(todoSearchIndex.isLoaded(1L)).thenReturn(false);
+        when(todoRepository.streamByUserId(1L)).thenReturn(Stream.of(todo(1L)));
+        when(todoSearchIndex.search(1L, "회의", 20)).thenReturn(List.of());
+
+        // when
+        List<Todo> result = todoSearchService.search(testUser, "회의", 20);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(todoSearchIndex).load(eq(1L), any());
+        verify(todoRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("검색 - 빈 검색어는 조회하지 않음")
+    void search_BlankQuery() {
+        // when
+        List<Todo> result = todoSearchService.search(testUser, "  ", 20);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(todoSearchIndex, never()).search(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("검색 - 너무 긴 검색어")
+    void search_QueryTooLong() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> todoSearchService.search(testUser, "x".repeat(TodoSearchService.MAX_QUERY_LENGTH + 1), 20));
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 - 저장/삭제 반영, 재색인 필요 시 색인 제거")
+    void onTodoChanged_UpdatesIndex() {
+        // given
+        Todo saved = todo(5L);
+
+        // when
+        todoSearchService.onTodoChanged(TodoChangedEvent.saved(1L, List.of(saved)));
+        todoSearchService.onTodoChanged(TodoChangedEvent.deleted(1L, List.of(7L)));
+        todoSearchService.onTodoChanged(TodoChangedEvent.reindex(1L));
+
+        // then
+        verify(todoSearchIndex).put(1L, List.of(saved));
+        verify(todoSearchIndex).remove(1L, List.of(7L));
+        verify(todoSearchIndex).evict(1L);
+    }
+
+    private Todo todo(Long id) {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setTitle("회의 " + id);
+        todo.setUser(testUser);
+        return todo;
+    }
+}
@@ -1,6 +1,13 @@
 package com.keon.todoapp.service;
 
+import com.keon.todoapp.dto.TodoCountRow;
+import com.keon.todoapp.dto.TodoCursor;
+import com.keon.todoapp.dto.TodoPage;
+import com.keon.todoapp.dto.TodoStats;
+import com.keon.todoapp.exception.TodoAccessDeniedException;
+import com.keon.todoapp.exception.TodoNotFoundException;
 import com.keon.todoapp.model.Todo;
+import com.keon.todoapp.model.TodoPriority;
 import com.keon.todoapp.model.User;
 import com.keon.todoapp.repository.TodoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,14 +16,22 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -28,6 +43,12 @@ class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoCounterService todoCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -47,7 +68,7 @@ class TodoServiceTest {
         testTodo.setTitle("Test Todo");
         testTodo.setDescription("Test Description");
         testTodo.setCategory("업무");
-        testTodo.setPriority("HIGH");
+        testTodo.setPriority(TodoPriority.HIGH);
         testTodo.setCompleted(false);
         testTodo.setUser(testUser);
         testTodo.setCreatedDate(LocalDate.now());
@@ -71,6 +92,8 @@ class TodoServiceTest {
         assertEquals(testUser, newTodo.getUser());
         assertEquals(LocalDate.now(), newTodo.getCreatedDate());
         verify(todoRepository).save(newTodo);
+        verify(todoCounterService).apply(testUser, TodoCounterDelta.created(testTodo));
+        verify(eventPublisher).publishEvent(TodoChangedEvent.saved(1L, List.of(testTodo)));
     }
 
     @Test
@@ -106,11 +129,57 @@ class TodoServiceTest {
         verify(todoRepository).findByUserAndCompleted(testUser, true);
     }
 
+    @Test
+    @DisplayName("Todo 페이지 조회 - 첫 페이지, 다음 페이지 있음")
+    void getTodoPage_FirstPageWithNext() {
+        // given
+        Todo olderTodo = new Todo();
+        olderTodo.setId(0L);
+        olderTodo.setCreatedDate(LocalDate.now().minusDays(1));
+        List<Todo> rows = Arrays.asList(testTodo, olderTodo);
+        when(todoRepository.findByUserOrderByCreatedDateDescIdDesc(testUser, PageRequest.of(0, 2))).thenReturn(rows);
+
+        // when
+        TodoPage result = todoService.getTodoPage(testUser, null, null, 1);
+
+        // then
+        assertEquals(1, result.getTodos().size());
+        assertEquals(testTodo, result.getTodos().get(0));
+        assertTrue(result.hasNext());
+        assertEquals(TodoCursor.of(testTodo.getCreatedDate(), testTodo.getId()).encode(), result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Todo 페이지 조회 - 커서 이후, 마지막 페이지")
+    void getTodoPage_AfterCursorLastPage() {
+        // given
+        TodoCursor cursor = TodoCursor.parse(LocalDate.now() + "_5");
+        when(todoRepository.findByUserAndCompletedAfterCursor(
+                testUser, false, cursor.getCreatedDate(), 5L, PageRequest.of(0, 11)))
+                .thenReturn(Arrays.asList(testTodo));
+
+        // when
+        TodoPage result = todoService.getTodoPage(testUser, false, cursor, 10);
+
+        // then
+        assertEquals(1, result.getTodos().size());
+        assertFalse(result.hasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 해석 - 잘못된 형식")
+    void todoCursor_InvalidFormat() {
+        assertNull(TodoCursor.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> TodoCursor.parse("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> TodoCursor.parse("2025-13-01_1"));
+    }
+
     @Test
     @DisplayName("Todo ID로 조회 - 성공")
     void getTodoById_Success() {
         // given
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTodo));
 
         // when
         Todo result = todoService.getTodoById(1L, testUser);
@@ -118,22 +187,24 @@ class TodoServiceTest {
         // then
         assertNotNull(result);
         assertEquals(testTodo, result);
-        verify(todoRepository).findById(1L);
+        verify(todoRepository).findByIdAndUserId(1L, 1L);
     }
 
     @Test
     @DisplayName("Todo ID로 조회 - Todo 없음")
     void getTodoById_TodoNotFound() {
         // given
-        when(todoRepository.findById(99L)).thenReturn(Optional.empty());
+        when(todoRepository.findByIdAndUserId(99L, 1L)).thenReturn(Optional.empty());
+        when(todoRepository.existsById(99L)).thenReturn(false);
 
         // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        TodoNotFoundException exception = assertThrows(TodoNotFoundException.class, () -> {
             todoService.getTodoById(99L, testUser);
         });
 
         assertTrue(exception.getMessage().contains("Todo를 찾을 수 없습니다"));
-        verify(todoRepository).findById(99L);
+        verify(todoRepository).findByIdAndUserId(99L, 1L);
+        verify(todoRepository, never()).findById(any());
     }
 
     @Test
@@ -144,15 +215,16 @@ class TodoServiceTest {
         otherUser.setId(2L);
         otherUser.setUsername("otheruser");
 
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+        when(todoRepository.findByIdAndUserId(1L, 2L)).thenReturn(Optional.empty());
+        when(todoRepository.existsById(1L)).thenReturn(true);
 
         // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        TodoAccessDeniedException exception = assertThrows(TodoAccessDeniedException.class, () -> {
             todoService.getTodoById(1L, otherUser);
         });
 
         assertTrue(exception.getMessage().contains("접근할 권한이 없습니다"));
-        verify(todoRepository).findById(1L);
+        verify(todoRepository).findByIdAndUserId(1L, 2L);
     }
 
     @Test
@@ -163,9 +235,9 @@ class TodoServiceTest {
         updatedTodo.setTitle("Updated Title");
         updatedTodo.setDescription("Updated Description");
         updatedTodo.setCategory("개인");
-        updatedTodo.setPriority("LOW");
+        updatedTodo.setPriority(TodoPriority.LOW);
 
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTodo));
         when(todoRepository.save(any(Todo.class))).thenReturn(testTodo);
 
         // when
@@ -176,23 +248,26 @@ class TodoServiceTest {
         assertEquals("Updated Title", testTodo.getTitle());
         assertEquals("Updated Description", testTodo.getDescription());
         assertEquals("개인", testTodo.getCategory());
-        assertEquals("LOW", testTodo.getPriority());
-        verify(todoRepository).findById(1L);
+        assertEquals(TodoPriority.LOW, testTodo.getPriority());
+        verify(todoRepository).findByIdAndUserId(1L, 1L);
         verify(todoRepository).save(testTodo);
+        verify(todoCounterService).apply(testUser, TodoCounterDelta.priorityChanged(TodoPriority.HIGH, TodoPriority.LOW));
     }
 
     @Test
     @DisplayName("Todo 삭제 - 성공")
     void deleteTodo_Success() {
         // given
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTodo));
 
         // when
         todoService.deleteTodo(1L, testUser);
 
         // then
-        verify(todoRepository).findById(1L);
+        verify(todoRepository).findByIdAndUserId(1L, 1L);
         verify(todoRepository).delete(testTodo);
+        verify(todoCounterService).apply(testUser, TodoCounterDelta.deleted(testTodo));
+        verify(eventPublisher).publishEvent(TodoChangedEvent.deleted(1L, List.of(1L)));
     }
 
     @Test
@@ -200,7 +275,7 @@ class TodoServiceTest {
     void toggleComplete_Success() {
         // given
         testTodo.setCompleted(false);
-        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+        when(todoRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testTodo));
         when(todoRepository.save(any(Todo.class))).thenReturn(testTodo);
 
         // when
@@ -209,8 +284,10 @@ class TodoServiceTest {
         // then
         assertNotNull(result);
         assertTrue(testTodo.isCompleted());
-        verify(todoRepository).findById(1L);
+        verify(todoRepository).findByIdAndUserId(1L, 1L);
         verify(todoRepository).save(testTodo);
+        verify(todoCounterService).apply(testUser, new TodoCounterDelta(0, 1, 0, 0, 0));
+        verify(eventPublisher).publishEvent(TodoLiveEvent.toggled(1L, List.of(1L), true));
     }
 
     @Test
@@ -241,20 +318,227 @@ class TodoServiceTest {
         verify(todoRepository).countByUserAndCompleted(testUser, false);
     }
 
+    @Test
+    @DisplayName("Todo 다건 생성 - 카운터 한 번 갱신")
+    void createTodos_Success() {
+        // given
+        Todo first = new Todo();
+        first.setTitle("First");
+        first.setPriority(TodoPriority.HIGH);
+        Todo second = new Todo();
+        second.setTitle("Second");
+        second.setPriority(TodoPriority.LOW);
+        List<Todo> todos = Arrays.asList(first, second);
+        when(todoRepository.saveAll(todos)).thenReturn(todos);
+
+        // when
+        List<Todo> result = todoService.createTodos(todos, testUser);
+
+        // then
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(todo -> todo.getUser() == testUser && todo.getCreatedDate() != null));
+        verify(todoRepository).saveAll(todos);
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(todoCounterService, times(1)).apply(testUser, new TodoCounterDelta(2, 0, 1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 완료 처리 - 성공")
+    void completeTodos_Success() {
+        // given
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 2L);
+        when(todoRepository.findIdsByUserIdAndIdsAndCompletedNot(1L, new LinkedHashSet<>(Arrays.asList(1L, 2L, 3L)), true))
+                .thenReturn(Arrays.asList(1L, 2L));
+        when(todoRepository.countGroupedByUserIdAndIds(1L, Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(
+                new TodoCountRow(false, TodoPriority.HIGH, "업무", 2L)));
+        when(todoRepository.updateCompletedByUserIdAndIds(1L, Arrays.asList(1L, 2L), true)).thenReturn(2);
+
+        // when
+        int result = todoService.completeTodos(ids, testUser);
+
+        // then
+        assertEquals(2, result);
+        verify(todoCounterService).apply(testUser, new TodoCounterDelta(0, 2, 0, 0, 0));
+        // 이미 완료된 Todo(3)는 알림에서 제외
+        verify(eventPublisher).publishEvent(TodoLiveEvent.toggled(1L, Arrays.asList(1L, 2L), true));
+        verify(todoRepository, never()).save(any(Todo.class));
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 완료 처리 - 바뀌는 Todo가 없으면 알리지 않음")
+    void completeTodos_NothingChanged() {
+        // given
+        when(todoRepository.findIdsByUserIdAndIdsAndCompletedNot(eq(1L), anyCollection(), eq(true)))
+                .thenReturn(List.of());
+
+        // when
+        int result = todoService.completeTodos(Arrays.asList(1L, 99L), testUser);
+
+        // then
+        assertEquals(0, result);
+        verify(todoRepository, never()).updateCompletedByUserIdAndIds(any(), anyCollection(), anyBoolean());
+        verifyNoInteractions(todoCounterService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 완료 처리 - 선택 없음")
+    void completeTodos_EmptySelection() {
+        // when
+        int result = todoService.completeTodos(null, testUser);
+
+        // then
+        assertEquals(0, result);
+        verifyNoInteractions(todoRepository, todoCounterService);
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 삭제 - 성공")
+    void deleteTodos_Success() {
+        // given
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+        when(todoRepository.countGroupedByUserIdAndIds(eq(1L), anyCollection())).thenReturn(Arrays.asList(
+                new TodoCountRow(true, TodoPriority.HIGH, "업무", 2L),
+                new TodoCountRow(false, TodoPriority.LOW, "개인", 1L)));
+        when(todoRepository.deleteByUserIdAndIds(eq(1L), anyCollection())).thenReturn(3);
+
+        // when
+        int result = todoService.deleteTodos(ids, testUser);
+
+        // then
+        assertEquals(3, result);
+        verify(todoCounterService).apply(testUser, new TodoCounterDelta(-3, -2, -2, 0, -1));
+        verify(todoRepository, never()).delete(any(Todo.class));
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 삭제 - 최대 개수 초과")
+    void deleteTodos_TooMany() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, TodoService.MAX_BULK_SIZE + 1).boxed().collect(Collectors.toList());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> todoService.deleteTodos(ids, testUser));
+        verify(todoRepository, never()).deleteByUserIdAndIds(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("완료된 Todo 모두 삭제 - 성공")
+    void clearCompleted_Success() {
+        // given
+        when(todoRepository.countGroupedByUserId(1L)).thenReturn(Arrays.asList(
+                new TodoCountRow(true, TodoPriority.HIGH, "업무", 2L),
+                new TodoCountRow(true, TodoPriority.MEDIUM, "개인", 1L),
+                new TodoCountRow(false, TodoPriority.LOW, "개인", 4L)));
+        when(todoRepository.deleteCompletedByUserId(1L)).thenReturn(3);
+
+        // when
+        int result = todoService.clearCompleted(testUser);
+
+        // then
+        assertEquals(3, result);
+        verify(todoCounterService).apply(testUser, new TodoCounterDelta(-3, -3, -2, -1, 0));
+        verify(eventPublisher).publishEvent(TodoChangedEvent.reindex(1L));
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 우선순위 변경 - 성공")
+    void updatePriority_Success() {
+        // given
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+        when(todoRepository.findIdsByUserIdAndIdsAndPriorityNot(eq(1L), anyCollection(), eq(TodoPriority.HIGH)))
+                .thenReturn(Arrays.asList(1L, 3L));
+        when(todoRepository.countGroupedByUserIdAndIds(1L, Arrays.asList(1L, 3L))).thenReturn(Arrays.asList(
+                new TodoCountRow(false, TodoPriority.LOW, "업무", 2L)));
+        when(todoRepository.updatePriorityByUserIdAndIds(1L, Arrays.asList(1L, 3L), TodoPriority.HIGH)).thenReturn(2);
+
+        // when
+        int result = todoService.updatePriority(ids, TodoPriority.HIGH, testUser);
+
+        // then
+        assertEquals(2, result);
+        verify(todoCounterService).apply(testUser, new TodoCounterDelta(0, 0, 2, 0, -2));
+        // 이미 HIGH인 Todo(2)는 알림에서 제외
+        verify(eventPublisher).publishEvent(TodoLiveEvent.updated(1L, Arrays.asList(1L, 3L)));
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 우선순위 변경 - 우선순위 없음")
+    void updatePriority_NullPriority() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> todoService.updatePriority(Arrays.asList(1L), null, testUser));
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    @DisplayName("상세 Todo 통계 조회 - 단일 집계 결과로 구성")
+    void getDetailedStats_Success() {
+        // given
+        when(todoRepository.countGroupedByUserId(1L)).thenReturn(Arrays.asList(
+                new TodoCountRow(true, TodoPriority.HIGH, "업무", 2L),
+                new TodoCountRow(false, TodoPriority.HIGH, "개인", 1L),
+                new TodoCountRow(false, TodoPriority.LOW, "업무", 1L)));
+
+        // when
+        TodoStats result = todoService.getDetailedStats(testUser);
+
+        // then
+        assertEquals(4, result.getTotalCount());
+        assertEquals(2, result.getCompletedCount());
+        assertEquals(2, result.getPendingCount());
+        assertEquals(3, result.getHighPriorityCount());
+        assertEquals(0, result.getMediumPriorityCount());
+        assertEquals(1, result.getLowPriorityCount());
+        assertEquals(3L, result.getCategoryCounts().get("업무"));
+        assertEquals(50.0, result.getCompletionRate());
+        verify(todoRepository).countGroupedByUserId(1L);
+        verify(todoRepository, never()).findByUserOrderByCreatedDateDesc(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Todo 통계 조회 - 사용자별 카운터 사용")
+    void getStats_UsesCounter() {
+        // given
+        TodoStats counterStats = TodoStats.from(Arrays.asList(new TodoCountRow(false, TodoPriority.LOW, "개인", 1L)));
+        when(todoCounterService.getStats(testUser)).thenReturn(counterStats);
+
+        // when
+        TodoStats result = todoService.getStats(testUser);
+
+        // then
+        assertEquals(counterStats, result);
+        verify(todoRepository, never()).countGroupedByUserId(any());
+    }
+
     @Test
     @DisplayName("우선순위별 Todo 조회 - 성공")
     void getTodosByPriority_Success() {
         // given
         List<Todo> highPriorityTodos = Arrays.asList(testTodo);
-        when(todoRepository.findByUserAndPriority(testUser, "HIGH")).thenReturn(highPriorityTodos);
+        when(todoRepository.findByUserAndPriority(testUser, TodoPriority.HIGH)).thenReturn(highPriorityTodos);
 
         // when
-        List<Todo> result = todoService.getTodosByPriority(testUser, "HIGH");
+        List<Todo> result = todoService.getTodosByPriority(testUser, TodoPriority.HIGH);
 
         // then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(todoRepository).findByUserAndPriority(testUser, "HIGH");
+        verify(todoRepository).findByUserAndPriority(testUser, TodoPriority.HIGH);
+    }
+
+    @Test
+    @DisplayName("급한 순 Todo 조회 - 조회 개수 상한 적용")
+    void getUrgentTodos_ClampsSize() {
+        // given
+        when(todoRepository.findUrgentByUserId(1L, PageRequest.of(0, TodoService.MAX_PAGE_SIZE)))
+                .thenReturn(Arrays.asList(testTodo));
+
+        // when
+        List<Todo> result = todoService.getUrgentTodos(testUser, 10_000);
+
+        // then
+        assertEquals(1, result.size());
+        verify(todoRepository).findUrgentByUserId(1L, PageRequest.of(0, TodoService.MAX_PAGE_SIZE));
     }
 
     @Test
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,6 +32,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TodoCounterService todoCounterService;
+
+    @Mock
+    private BoundedUserCache userCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -61,6 +71,7 @@ class UserServiceTest {
         assertTrue(result.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_USER")));
         verify(userRepository).findByUsername("testuser");
+        verify(userCache).putUserInCache(testUser);
     }
 
     @Test
@@ -74,6 +85,36 @@ class UserServiceTest {
             userService.loadUserByUsername("nonexistent");
         });
         verify(userRepository).findByUsername("nonexistent");
+        verify(userCache).putMissing("nonexistent");
+    }
+
+    @Test
+    @DisplayName("비밀번호 재해시 - 새 해시 저장, 캐시 갱신은 커밋 후 이벤트로 처리")
+    void updatePassword_Success() {
+        // given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // when
+        UserDetails result = userService.updatePassword(testUser, "newHash");
+
+        // then
+        assertEquals("newHash", result.getPassword());
+        assertEquals("newHash", testUser.getPassword());
+        verify(eventPublisher).publishEvent(new UserPasswordChangedEvent(testUser));
+        verify(userCache, never()).putUserInCache(any());
+    }
+
+    @Test
+    @DisplayName("사용자명으로 사용자 조회 - 존재하지 않는 사용자 캐시 적중")
+    void loadUserByUsername_KnownMissing() {
+        // given
+        when(userCache.isKnownMissing("nonexistent")).thenReturn(true);
+
+        // when & then
+        assertThrows(UsernameNotFoundException.class, () -> {
+            userService.loadUserByUsername("nonexistent");
+        });
+        verify(userRepository, never()).findByUsername(anyString());
     }
 
     @Test
@@ -97,6 +138,8 @@ class UserServiceTest {
         verify(userRepository).existsByUsername("newuser");
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(newUser);
+        verify(todoCounterService).initialize(newUser);
+        verify(userCache).removeUserFromCache("newuser");
     }
 
     @Test
@@ -134,6 +177,21 @@ class UserServiceTest {
         assertEquals("testuser", result.getUsername());
         assertEquals(1L, result.getId());
         verify(userRepository).findByUsername("testuser");
+        verify(userCache).putUserInCache(testUser);
+    }
+
+    @Test
+    @DisplayName("사용자명으로 사용자 찾기 - 캐시 적중")
+    void findByUsername_CacheHit() {
+        // given
+        when(userCache.getUser("testuser")).thenReturn(testUser);
+
+        // when
+        User result = userService.findByUsername("testuser");
+
+        // then
+        assertSame(testUser, result);
+        verify(userRepository, never()).findByUsername(anyString());
     }
 
     @Test